@@ -0,0 +1,18 @@
+package application.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Item de la carga masiva de comentarios entre varias tareas (POST /comments:batch).
+ */
+public record TaskCommentBatchItemDTO(
+        @NotNull(message = "The comment must reference a task")
+        Long taskId,
+
+        @NotBlank(message = "There can't be empty comments")
+        String text,
+
+        @NotBlank(message = "There can't be comments without an author")
+        String author
+) { }
@@ -0,0 +1,6 @@
+package application.dto.response;
+
+public record BatchFailureDTO(
+        int index,
+        String error
+) { }
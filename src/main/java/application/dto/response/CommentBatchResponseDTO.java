@@ -0,0 +1,12 @@
+package application.dto.response;
+
+import java.util.List;
+
+/**
+ * Resultado de una carga masiva de comentarios: cada item del pedido termina en successes
+ * o en failures, identificado por su posicion (index) en la lista recibida.
+ */
+public record CommentBatchResponseDTO(
+        List<CommentBatchSuccessDTO> successes,
+        List<BatchFailureDTO> failures
+) { }
@@ -0,0 +1,6 @@
+package application.dto.response;
+
+public record CommentBatchSuccessDTO(
+        int index,
+        CommentResponseDTO comment
+) { }
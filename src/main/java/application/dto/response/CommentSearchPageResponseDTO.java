@@ -0,0 +1,12 @@
+package application.dto.response;
+
+import java.util.List;
+
+/**
+ * Pagina de resultados de la busqueda de comentarios, del mas relevante al menos relevante.
+ * nextCursor es null cuando no hay mas paginas.
+ */
+public record CommentSearchPageResponseDTO(
+        List<CommentSearchResultDTO> items,
+        String nextCursor
+) { }
@@ -0,0 +1,15 @@
+package application.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Un resultado de GET /search/comments. score solo sirve para comparar resultados de la misma busqueda.
+ */
+public record CommentSearchResultDTO(
+        Long id,
+        Long taskId,
+        String text,
+        String author,
+        LocalDateTime createdAt,
+        double score
+) { }
@@ -0,0 +1,12 @@
+package application.dto.response;
+
+import java.util.List;
+
+/**
+ * Version liviana de CommentBatchResponseDTO (view=summary): cada comentario creado
+ * lleva solo el id de su tarea.
+ */
+public record CommentSummaryBatchResponseDTO(
+        List<CommentSummaryBatchSuccessDTO> successes,
+        List<BatchFailureDTO> failures
+) { }
@@ -0,0 +1,6 @@
+package application.dto.response;
+
+public record CommentSummaryBatchSuccessDTO(
+        int index,
+        CommentSummaryResponseDTO comment
+) { }
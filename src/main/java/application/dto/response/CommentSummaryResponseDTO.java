@@ -0,0 +1,11 @@
+package application.dto.response;
+
+import java.time.LocalDateTime;
+
+public record CommentSummaryResponseDTO(
+        Long id,
+        Long taskId,
+        String text,
+        String author,
+        LocalDateTime createdAt
+) { }
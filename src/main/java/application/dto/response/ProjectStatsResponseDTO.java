@@ -0,0 +1,19 @@
+package application.dto.response;
+
+import domain.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Avance de un proyecto: totales y un item por cada TaskStatus (en cero si no hay tareas en ese estado).
+ * lastActivityAt es el ultimo alta de una tarea o comentario; null si el proyecto no tiene tareas.
+ */
+public record ProjectStatsResponseDTO(
+        Long projectId,
+        long tasks,
+        long estimatedHours,
+        long comments,
+        LocalDateTime lastActivityAt,
+        Map<TaskStatus, TaskStatusStatsResponseDTO> byStatus
+) { }
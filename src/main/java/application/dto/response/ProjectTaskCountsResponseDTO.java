@@ -0,0 +1,15 @@
+package application.dto.response;
+
+import domain.model.TaskStatus;
+
+import java.util.Map;
+
+/**
+ * Tareas y horas estimadas de un proyecto, en total y por cada TaskStatus (en cero si no hay tareas en ese estado).
+ */
+public record ProjectTaskCountsResponseDTO(
+        Long projectId,
+        long tasks,
+        long estimatedHours,
+        Map<TaskStatus, TaskCountResponseDTO> byStatus
+) { }
@@ -0,0 +1,12 @@
+package application.dto.response;
+
+import java.util.List;
+
+/**
+ * Resultado de una carga masiva: cada item del pedido termina en successes o en failures,
+ * identificado por su posicion (index) en la lista recibida.
+ */
+public record TaskBatchResponseDTO(
+        List<TaskBatchSuccessDTO> successes,
+        List<BatchFailureDTO> failures
+) { }
@@ -0,0 +1,6 @@
+package application.dto.response;
+
+public record TaskBatchSuccessDTO(
+        int index,
+        TaskResponseDTO task
+) { }
@@ -0,0 +1,6 @@
+package application.dto.response;
+
+public record TaskCountResponseDTO(
+        long tasks,
+        long estimatedHours
+) { }
@@ -0,0 +1,11 @@
+package application.dto.response;
+
+import java.util.List;
+
+/**
+ * Pagina de tareas. nextCursor es null cuando no hay mas paginas.
+ */
+public record TaskPageResponseDTO(
+        List<TaskResponseDTO> items,
+        String nextCursor
+) { }
@@ -0,0 +1,7 @@
+package application.dto.response;
+
+public record TaskStatusStatsResponseDTO(
+        long tasks,
+        long estimatedHours,
+        long comments
+) { }
@@ -0,0 +1,11 @@
+package application.dto.response;
+
+import java.util.List;
+
+/**
+ * Pagina de tareas en la vista liviana (view=summary). nextCursor es null cuando no hay mas paginas.
+ */
+public record TaskSummaryPageResponseDTO(
+        List<TaskSummaryResponseDTO> items,
+        String nextCursor
+) { }
@@ -0,0 +1,17 @@
+package application.dto.response;
+
+import domain.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+public record TaskSummaryResponseDTO(
+        Long id,
+        String title,
+        Long projectId,
+        String projectName,
+        Integer estimatedHours,
+        String assignee,
+        TaskStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt
+) { }
@@ -0,0 +1,51 @@
+package application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import domain.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Version liviana de TaskWithCommentsResponseDTO (view=summary):
+ * el proyecto y la tarea padre de cada comentario se devuelven solo por id.
+ */
+public record TaskSummaryWithCommentsResponseDTO(
+        Long id,
+        String title,
+        Long projectId,
+        String projectName,
+        Integer estimatedHours,
+        String assignee,
+        TaskStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY) // No incluir si la lista es nula o vacía
+        List<CommentSummaryResponseDTO> comments,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Boolean hasMoreComments,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String nextCommentsCursor
+) {
+    public TaskSummaryWithCommentsResponseDTO(TaskSummaryResponseDTO task, List<CommentSummaryResponseDTO> comments) {
+        this(task, comments, null, null);
+    }
+
+    public TaskSummaryWithCommentsResponseDTO(TaskSummaryResponseDTO task, List<CommentSummaryResponseDTO> comments,
+                                              Boolean hasMoreComments, String nextCommentsCursor) {
+        this(
+                task.id(),
+                task.title(),
+                task.projectId(),
+                task.projectName(),
+                task.estimatedHours(),
+                task.assignee(),
+                task.status(),
+                task.createdAt(),
+                task.finishedAt(),
+                comments,
+                hasMoreComments,
+                nextCommentsCursor
+        );
+    }
+}
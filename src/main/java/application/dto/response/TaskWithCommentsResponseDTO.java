@@ -9,6 +9,8 @@ import java.util.List;
 /**
  * DTO especial que extiende la TaskResponseDTO para incluir
  * una lista de comentarios, solo si se solicitan (JsonInclude.Include.NON_EMPTY).
+ * Los comentarios vienen paginados: hasMoreComments y nextCommentsCursor solo
+ * aparecen cuando se pidieron los comentarios.
  */
 public record TaskWithCommentsResponseDTO(
         Long id,
@@ -18,13 +20,22 @@ public record TaskWithCommentsResponseDTO(
         String assignee,
         TaskStatus status,
         @JsonInclude(JsonInclude.Include.NON_EMPTY) // No incluir si la lista es nula o vacía
-        List<CommentResponseDTO> comments
+        List<CommentResponseDTO> comments,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Boolean hasMoreComments,
+        @JsonInclude(JsonInclude.Include.NON_NULL) // Se envia como commentsAfter para pedir la pagina siguiente
+        String nextCommentsCursor
 ) {
     /**
      * Constructor auxiliar para crear este DTO a partir
      * de un TaskResponseDTO y una lista de comentarios.
      */
     public TaskWithCommentsResponseDTO(TaskResponseDTO task, List<CommentResponseDTO> comments) {
+        this(task, comments, null, null);
+    }
+
+    public TaskWithCommentsResponseDTO(TaskResponseDTO task, List<CommentResponseDTO> comments,
+                                       Boolean hasMoreComments, String nextCommentsCursor) {
         this(
                 task.id(),
                 task.title(),
@@ -32,7 +43,9 @@ public record TaskWithCommentsResponseDTO(
                 task.estimatedHours(),
                 task.assignee(),
                 task.status(),
-                comments
+                comments,
+                hasMoreComments,
+                nextCommentsCursor
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package application.mapper;
+
+import infrastructure.exception.ValidationException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Convierte la posicion de una pagina (los valores del keyset) en un cursor opaco
+ * para el cliente, y viceversa. El cliente solo debe devolver el cursor tal cual lo recibio.
+ */
+@Component
+public class CursorMapper {
+    private static final String SEPARATOR = "|";
+
+    public String encode(Object... keys) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param expectedKeys cantidad de valores que debe contener el cursor
+     * @return los valores del keyset, en el mismo orden en que se codificaron
+     * @throws ValidationException si el cursor no fue generado por este mapper
+     */
+    public String[] decode(String cursor, int expectedKeys) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = raw.split("\\" + SEPARATOR, -1);
+            if (keys.length != expectedKeys) {
+                throw new ValidationException("El cursor de paginacion es invalido");
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("El cursor de paginacion es invalido");
+        }
+    }
+}
@@ -2,7 +2,9 @@ package application.mapper;
 
 import application.dto.request.TaskCommentRequestDTO;
 import application.dto.response.CommentResponseDTO;
+import application.dto.response.CommentSummaryResponseDTO;
 import domain.model.TaskComment;
+import domain.model.TaskCommentSummary;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -18,4 +20,29 @@ public class TaskCommentMapper {
                 taskComment.getAuthor(),
                 taskComment.getCreatedAt());
     }
+
+    public CommentSummaryResponseDTO toSummaryResponseDTO(TaskCommentSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        return new CommentSummaryResponseDTO(summary.id(),
+                summary.taskId(),
+                summary.text(),
+                summary.author(),
+                summary.createdAt());
+    }
+
+    /**
+     * Respuesta liviana (view=summary) a partir del dominio: la tarea solo por id, sin resolverla.
+     */
+    public CommentSummaryResponseDTO toSummaryResponseDTO(TaskComment taskComment) {
+        if (taskComment == null) {
+            return null;
+        }
+        return new CommentSummaryResponseDTO(taskComment.getId(),
+                taskComment.taskReference() == null ? null : taskComment.taskReference().getId(),
+                taskComment.getText(),
+                taskComment.getAuthor(),
+                taskComment.getCreatedAt());
+    }
 }
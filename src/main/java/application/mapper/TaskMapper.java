@@ -2,8 +2,10 @@ package application.mapper;
 
 import application.dto.request.TaskRequestDTO;
 import application.dto.response.TaskResponseDTO;
+import application.dto.response.TaskSummaryResponseDTO;
 import domain.model.Project;
 import domain.model.Task;
+import domain.model.TaskSummary;
 import domain.repository.TaskRepository;
 import org.springframework.stereotype.Component;
 
@@ -47,5 +49,44 @@ public class TaskMapper {
 
     }
 
+    /**
+     * Mapea la proyeccion de solo lectura a la respuesta liviana (view=summary).
+     */
+    public TaskSummaryResponseDTO toSummaryResponseDTO(TaskSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        return new TaskSummaryResponseDTO(
+                summary.id(),
+                summary.title(),
+                summary.projectId(),
+                summary.projectName(),
+                summary.estimatedHours(),
+                summary.assignee(),
+                summary.status(),
+                summary.createdAt(),
+                summary.finishedAt()
+        );
+    }
 
+    /**
+     * Respuesta liviana (view=summary) a partir del dominio: el proyecto solo por id y nombre.
+     */
+    public TaskSummaryResponseDTO toSummaryResponseDTO(Task task) {
+        if (task == null) {
+            return null;
+        }
+        Project project = task.getProyect();
+        return new TaskSummaryResponseDTO(
+                task.getId(),
+                task.getTitle(),
+                project == null ? null : project.getId(),
+                project == null ? null : project.getName(),
+                task.getEstimatedHours(),
+                task.getAssignee(),
+                task.getStatus(),
+                task.getCreatedAt(),
+                task.getFinishedAt()
+        );
+    }
 }
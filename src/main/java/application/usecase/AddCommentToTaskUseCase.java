@@ -2,15 +2,18 @@ package application.usecase;
 
 import application.dto.request.TaskCommentRequestDTO;
 import application.dto.response.CommentResponseDTO;
+import application.dto.response.CommentSummaryResponseDTO;
 import application.mapper.TaskCommentMapper;
 import infrastructure.exception.ResourceNotFoundException;
 import domain.model.Task;
 import domain.model.TaskComment;
+import domain.repository.CommentSearchRepository;
 import domain.repository.TaskCommentRepository;
 import domain.repository.TaskRepository;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 public class AddCommentToTaskUseCase {
@@ -18,11 +21,14 @@ public class AddCommentToTaskUseCase {
     private final TaskRepository taskRepository;
     private final TaskCommentRepository commentRepository;
     private final TaskCommentMapper commentMapper;
+    private final CommentSearchRepository searchRepository;
 
-    public AddCommentToTaskUseCase(TaskRepository taskRepository, TaskCommentRepository commentRepository, TaskCommentMapper commentMapper) {
+    public AddCommentToTaskUseCase(TaskRepository taskRepository, TaskCommentRepository commentRepository, TaskCommentMapper commentMapper,
+                                   CommentSearchRepository searchRepository) {
         this.taskRepository = taskRepository;
         this.commentRepository = commentRepository;
         this.commentMapper = commentMapper;
+        this.searchRepository = searchRepository;
     }
 
     /**
@@ -33,6 +39,17 @@ public class AddCommentToTaskUseCase {
      * @throws ResourceNotFoundException si la tarea no existe.
      */
     public CommentResponseDTO execute(TaskCommentRequestDTO request, Long taskId) {
+        return commentMapper.toResponseDTO(addComment(request, taskId));
+    }
+
+    /**
+     * Igual que execute, con la respuesta liviana (view=summary): la tarea solo por id.
+     */
+    public CommentSummaryResponseDTO executeSummary(TaskCommentRequestDTO request, Long taskId) {
+        return commentMapper.toSummaryResponseDTO(addComment(request, taskId));
+    }
+
+    private TaskComment addComment(TaskCommentRequestDTO request, Long taskId) {
 
         Task task = taskRepository.findById(taskId).orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
 
@@ -45,9 +62,10 @@ public class AddCommentToTaskUseCase {
                 creationTime
         );
 
-        TaskComment saved = commentRepository.save(newComment);
-
-        return commentMapper.toResponseDTO(saved);
+        TaskComment savedComment = commentRepository.save(newComment);
+        // El comentario entra en la busqueda de texto (GET /search/comments)
+        searchRepository.index(List.of(savedComment));
+        return savedComment;
     }
 
 
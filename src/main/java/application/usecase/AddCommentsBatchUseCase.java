@@ -0,0 +1,194 @@
+package application.usecase;
+
+import application.dto.request.TaskCommentBatchItemDTO;
+import application.dto.request.TaskCommentRequestDTO;
+import application.dto.response.BatchFailureDTO;
+import application.dto.response.CommentBatchResponseDTO;
+import application.dto.response.CommentBatchSuccessDTO;
+import application.dto.response.CommentSummaryBatchResponseDTO;
+import application.dto.response.CommentSummaryBatchSuccessDTO;
+import application.mapper.TaskCommentMapper;
+import domain.model.Task;
+import domain.model.TaskComment;
+import domain.repository.CommentSearchRepository;
+import domain.repository.TaskCommentRepository;
+import domain.repository.TaskRepository;
+import infrastructure.exception.ResourceNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class AddCommentsBatchUseCase {
+    /**
+     * Carga masiva de comentarios (ej: importar el historial de otro sistema).
+     * A diferencia de AddCommentToTaskUseCase, que busca la tarea y hace un INSERT por comentario:
+     * 1. Resuelve todas las tareas referenciadas en una sola consulta.
+     * 2. Valida cada item por separado (anotaciones del DTO, tarea existente, TaskComment.create):
+     *    un item invalido no impide que se guarden los demas.
+     * 3. Guarda los comentarios validos con saveAll (INSERT en lotes JDBC).
+     */
+    public static final int MAX_BATCH_SIZE = 5000;
+
+    private final TaskRepository taskRepository;
+    private final TaskCommentRepository commentRepository;
+    private final TaskCommentMapper commentMapper;
+    private final Validator validator;
+    private final CommentSearchRepository searchRepository;
+
+    public AddCommentsBatchUseCase(TaskRepository taskRepository, TaskCommentRepository commentRepository,
+                                   TaskCommentMapper commentMapper, Validator validator,
+                                   CommentSearchRepository searchRepository) {
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.commentMapper = commentMapper;
+        this.validator = validator;
+        this.searchRepository = searchRepository;
+    }
+
+    /**
+     * Comentarios para una sola tarea (POST /projects/{projectId}/tasks/{taskId}/comments:batch).
+     * @throws ResourceNotFoundException si la tarea no existe (falla el lote completo).
+     */
+    @Transactional
+    public CommentBatchResponseDTO execute(Long taskId, List<TaskCommentRequestDTO> requests) {
+        return toResponse(save(taskId, requests));
+    }
+
+    /**
+     * Igual que execute(taskId, requests), con la respuesta liviana (view=summary).
+     */
+    @Transactional
+    public CommentSummaryBatchResponseDTO executeSummary(Long taskId, List<TaskCommentRequestDTO> requests) {
+        return toSummaryResponse(save(taskId, requests));
+    }
+
+    /**
+     * Comentarios para distintas tareas (POST /comments:batch). Una tarea inexistente
+     * solo rechaza los items que la referencian.
+     */
+    @Transactional
+    public CommentBatchResponseDTO execute(List<TaskCommentBatchItemDTO> items) {
+        return toResponse(save(items));
+    }
+
+    /**
+     * Igual que execute(items), con la respuesta liviana (view=summary).
+     */
+    @Transactional
+    public CommentSummaryBatchResponseDTO executeSummary(List<TaskCommentBatchItemDTO> items) {
+        return toSummaryResponse(save(items));
+    }
+
+    private SavedBatch save(Long taskId, List<TaskCommentRequestDTO> requests) {
+        validateSize(requests);
+
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+
+        List<TaskCommentBatchItemDTO> items = requests.stream()
+                .map(request -> request == null ? null
+                        : new TaskCommentBatchItemDTO(taskId, request.text(), request.author()))
+                .collect(Collectors.toList());
+        return saveValidItems(items, Map.of(taskId, task));
+    }
+
+    private SavedBatch save(List<TaskCommentBatchItemDTO> items) {
+        validateSize(items);
+
+        Set<Long> taskIds = items.stream()
+                .filter(Objects::nonNull)
+                .map(TaskCommentBatchItemDTO::taskId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Task> tasksById = taskRepository.findAllByIds(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        return saveValidItems(items, tasksById);
+    }
+
+    private SavedBatch saveValidItems(List<TaskCommentBatchItemDTO> items, Map<Long, Task> tasksById) {
+        List<BatchFailureDTO> failures = new ArrayList<>();
+        List<Integer> validIndexes = new ArrayList<>();
+        List<TaskComment> validComments = new ArrayList<>();
+
+        for (int index = 0; index < items.size(); index++) {
+            TaskCommentBatchItemDTO item = items.get(index);
+            String error = validate(item, tasksById);
+            if (error == null) {
+                try {
+                    validComments.add(TaskComment.create(tasksById.get(item.taskId()), item.text(), item.author(),
+                            LocalDateTime.now()));
+                    validIndexes.add(index);
+                    continue;
+                } catch (ValidationException e) {
+                    error = e.getMessage();
+                }
+            }
+            failures.add(new BatchFailureDTO(index, error));
+        }
+
+        List<TaskComment> savedComments = validComments.isEmpty() ? List.of() : commentRepository.saveAll(validComments);
+        if (!savedComments.isEmpty()) {
+            // Se indexan cuando se confirma la transaccion del lote
+            searchRepository.index(savedComments);
+        }
+        return new SavedBatch(validIndexes, savedComments, failures);
+    }
+
+    private CommentBatchResponseDTO toResponse(SavedBatch batch) {
+        List<CommentBatchSuccessDTO> successes = new ArrayList<>(batch.comments().size());
+        for (int i = 0; i < batch.comments().size(); i++) {
+            successes.add(new CommentBatchSuccessDTO(batch.indexes().get(i), commentMapper.toResponseDTO(batch.comments().get(i))));
+        }
+        return new CommentBatchResponseDTO(successes, batch.failures());
+    }
+
+    private CommentSummaryBatchResponseDTO toSummaryResponse(SavedBatch batch) {
+        List<CommentSummaryBatchSuccessDTO> successes = new ArrayList<>(batch.comments().size());
+        for (int i = 0; i < batch.comments().size(); i++) {
+            successes.add(new CommentSummaryBatchSuccessDTO(batch.indexes().get(i),
+                    commentMapper.toSummaryResponseDTO(batch.comments().get(i))));
+        }
+        return new CommentSummaryBatchResponseDTO(successes, batch.failures());
+    }
+
+    // Comentarios guardados (con la posicion de cada uno en el pedido) y los items rechazados
+    private record SavedBatch(List<Integer> indexes, List<TaskComment> comments, List<BatchFailureDTO> failures) { }
+
+    // Devuelve el mensaje de error del item, o null si es valido
+    private String validate(TaskCommentBatchItemDTO item, Map<Long, Task> tasksById) {
+        if (item == null) {
+            return "The comment can't be null";
+        }
+        Set<ConstraintViolation<TaskCommentBatchItemDTO>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (!tasksById.containsKey(item.taskId())) {
+            return "Task not found with id: " + item.taskId();
+        }
+        return null;
+    }
+
+    private void validateSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new infrastructure.exception.ValidationException(
+                    "El lote debe tener entre 1 y " + MAX_BATCH_SIZE + " comentarios");
+        }
+    }
+}
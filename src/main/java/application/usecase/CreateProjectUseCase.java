@@ -22,16 +22,16 @@ public class CreateProjectUseCase {
 
     /**
      * El caso de uso hace:
-     *  1. Valida que no este duplicado el nombre
-     *  2. Mapea el DTO a dominio (valida reglas de negocio en general)
-     *  3. Guarda en el repo
-     *  4. Mapea el dominio a DTO para respuesta
+     *  1. Mapea el DTO a dominio (valida reglas de negocio en general)
+     *  2. Guarda en el repo
+     *  3. Mapea el dominio a DTO para respuesta
+     *
+     * El nombre duplicado no se consulta antes: lo rechaza el indice unico de la base en el mismo INSERT
+     * (asi dos requests simultaneos no pueden pasar los dos el chequeo).
+     *
+     * @throws DuplicateResourceException si ya existe un proyecto con el mismo nombre
      */
     public ProjectResponseDTO execute(ProjectRequestDTO requestDTO){
-        if (projectRepository.existsByName(requestDTO.name())){
-            throw new DuplicateResourceException("Ya existe un proyecto con el mismo nombre");
-        }
-
         Project newProject = projectMapper.toDomain(requestDTO);
 
         Project savedProject = projectRepository.save(newProject);
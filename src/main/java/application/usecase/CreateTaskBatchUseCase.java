@@ -0,0 +1,164 @@
+package application.usecase;
+
+import application.dto.request.TaskRequestDTO;
+import application.dto.response.BatchFailureDTO;
+import application.dto.response.TaskBatchResponseDTO;
+import application.dto.response.TaskBatchSuccessDTO;
+import application.mapper.TaskMapper;
+import domain.model.Project;
+import domain.model.Task;
+import domain.model.TaskInsertResult;
+import domain.model.TaskStatus;
+import domain.repository.ProjectRepository;
+import domain.repository.ProjectTaskCountersRepository;
+import domain.repository.TaskRepository;
+import infrastructure.exception.BusinessRuleViolationsException;
+import infrastructure.exception.ResourceNotFoundException;
+import infrastructure.exception.ValidationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class CreateTaskBatchUseCase {
+    /**
+     * Carga masiva de tareas en un proyecto (POST /projects/{projectId}/tasks:batch).
+     * A diferencia de CreateTaskUseCase, las consultas se hacen una vez por lote y no por tarea:
+     * 1. Busca el proyecto una sola vez (normalmente sale de la cache): si no existe falla el lote completo.
+     * 2. Consulta de una vez que titulos del lote ya existen en el proyecto.
+     * 3. Valida cada item por separado (anotaciones del DTO, titulo duplicado, Task.create):
+     *    un item invalido no impide que se guarden los demas.
+     * 4. Inserta las tareas validas en un lote JDBC con el INSERT de CreateTaskUseCase: la base vuelve
+     *    a validar en cada fila que el proyecto exista y no esté CERRADO (si no, falla el lote completo)
+     *    y que el titulo no lo haya tomado otra alta mientras tanto (ese item falla solo).
+     * 5. Suma las tareas guardadas a los contadores del proyecto: un UPDATE por estado, no por tarea.
+     */
+    public static final int MAX_BATCH_SIZE = 5000;
+
+    private static final String DUPLICATED_TITLE = "Ya existe una tarea con el mismo titulo en este proyecto.";
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final ProjectRepository projectRepository;
+    private final Validator validator;
+    private final ProjectTaskCountersRepository countersRepository;
+
+    public CreateTaskBatchUseCase(TaskRepository taskRepository, TaskMapper taskMapper,
+                                  ProjectRepository projectRepository, Validator validator,
+                                  ProjectTaskCountersRepository countersRepository) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.projectRepository = projectRepository;
+        this.validator = validator;
+        this.countersRepository = countersRepository;
+    }
+
+    @Transactional
+    public TaskBatchResponseDTO execute(Long projectId, List<TaskRequestDTO> taskDTOs) {
+        if (taskDTOs == null || taskDTOs.isEmpty() || taskDTOs.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException("El lote debe tener entre 1 y " + MAX_BATCH_SIZE + " tareas");
+        }
+
+        /* 1) Proyecto: una sola lectura para todo el lote (el estado lo decide el INSERT, no esta copia) */
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> projectNotFound(projectId));
+
+        /* 2) Titulos duplicados: una consulta por conjunto en lugar de un exists por tarea */
+        Set<String> titles = taskDTOs.stream()
+                .filter(Objects::nonNull)
+                .map(TaskRequestDTO::title)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> takenTitles = new HashSet<>(taskRepository.findExistingTitles(project, titles));
+
+        /* 3) Validacion independiente de cada item */
+        List<BatchFailureDTO> failures = new ArrayList<>();
+        List<Integer> validIndexes = new ArrayList<>();
+        List<Task> validTasks = new ArrayList<>();
+        for (int index = 0; index < taskDTOs.size(); index++) {
+            TaskRequestDTO taskDTO = taskDTOs.get(index);
+            String error = validate(taskDTO, takenTitles);
+            if (error == null) {
+                try {
+                    validTasks.add(taskMapper.toDomain(taskDTO, project));
+                    validIndexes.add(index);
+                    // Un mismo titulo repetido dentro del lote solo se acepta la primera vez
+                    takenTitles.add(taskDTO.title());
+                    continue;
+                } catch (BusinessRuleViolationsException e) {
+                    error = e.getMessage();
+                }
+            }
+            failures.add(new BatchFailureDTO(index, error));
+        }
+
+        /* 4) Insertar todas las validas juntas */
+        List<TaskBatchSuccessDTO> successes = new ArrayList<>(validTasks.size());
+        if (!validTasks.isEmpty()) {
+            List<TaskInsertResult> results = taskRepository.insertAllIfAllowed(validTasks);
+            List<Task> savedTasks = new ArrayList<>(results.size());
+            for (int i = 0; i < results.size(); i++) {
+                TaskInsertResult result = results.get(i);
+                switch (result.outcome()) {
+                    case INSERTED -> {
+                        savedTasks.add(result.task());
+                        successes.add(new TaskBatchSuccessDTO(validIndexes.get(i), taskMapper.toResponseDTO(result.task())));
+                    }
+                    case PROJECT_NOT_FOUND -> throw projectNotFound(projectId);
+                    case PROJECT_CLOSED -> throw new BusinessRuleViolationsException(
+                            "No se puede agregar una tarea a un proyecto Cerrado (CLOSED).");
+                    case DUPLICATE_TITLE -> failures.add(new BatchFailureDTO(validIndexes.get(i), DUPLICATED_TITLE));
+                }
+            }
+            // Los titulos tomados por otra alta quedan despues de los fallos de validacion
+            failures.sort(Comparator.comparingInt(BatchFailureDTO::index));
+            addToCounters(projectId, savedTasks);
+        }
+
+        return new TaskBatchResponseDTO(successes, failures);
+    }
+
+    private static ResourceNotFoundException projectNotFound(Long projectId) {
+        return new ResourceNotFoundException("El proyecto no fue encontrado con id: " + projectId);
+    }
+
+    /* 5) Contadores: tareas y horas agrupadas por estado */
+    private void addToCounters(Long projectId, List<Task> tasks) {
+        Map<TaskStatus, long[]> byStatus = new EnumMap<>(TaskStatus.class);
+        for (Task task : tasks) {
+            long[] totals = byStatus.computeIfAbsent(task.getStatus(), status -> new long[2]);
+            totals[0]++;
+            totals[1] += task.getEstimatedHours();
+        }
+        byStatus.forEach((status, totals) -> countersRepository.add(projectId, status, totals[0], totals[1]));
+    }
+
+    // Devuelve el mensaje de error del item, o null si es valido
+    private String validate(TaskRequestDTO taskDTO, Set<String> takenTitles) {
+        if (taskDTO == null) {
+            return "La tarea no puede ser nula";
+        }
+        Set<ConstraintViolation<TaskRequestDTO>> violations = validator.validate(taskDTO);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (takenTitles.contains(taskDTO.title())) {
+            return DUPLICATED_TITLE;
+        }
+        return null;
+    }
+}
@@ -1,71 +1,91 @@
 package application.usecase;
 
-import application.dto.request.ProjectRequestDTO;
 import application.dto.request.TaskRequestDTO;
 import application.dto.response.TaskResponseDTO;
+import application.dto.response.TaskSummaryResponseDTO;
 import application.mapper.TaskMapper;
 import domain.model.Project;
-import domain.model.ProjectStatus;
 import domain.model.Task;
+import domain.model.TaskInsertResult;
 import domain.repository.ProjectRepository;
+import domain.repository.ProjectTaskCountersRepository;
 import domain.repository.TaskRepository;
 import infrastructure.exception.BusinessRuleViolationsException;
 import infrastructure.exception.DuplicateResourceException;
 import infrastructure.exception.ResourceNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class CreateTaskUseCase {
     /**
      * El caso de uso hace:
-     * 1. Busca y valida que el Proyecto exista y no esté CERRADO.
-     * 2. Valida que el título no esté duplicado en ese proyecto.
-     * 3. Mapea el DTO a dominio (el mapper se encarga de llamar
+     * 1. Busca el Proyecto (normalmente sale de la cache, sin ir a la base): la respuesta lo incluye.
+     * 2. Mapea el DTO a dominio (el mapper se encarga de llamar
      * a Task.create() y setear las fechas).
-     * 4. Guarda la nueva tarea en el repo.
-     * 5. Mapea el dominio a DTO para respuesta.
+     * 3. Inserta la tarea en una sola sentencia que valida en la base que el proyecto
+     * exista, no esté CERRADO y no tenga otra tarea con el mismo título.
+     * 4. Suma la tarea a los contadores del proyecto, en la misma transaccion que el INSERT.
+     * 5. Mapea el dominio a DTO para respuesta (completa o liviana, segun view).
      */
 
 
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
     private final ProjectRepository projectRepository;
+    private final ProjectTaskCountersRepository countersRepository;
 
-    public CreateTaskUseCase(TaskRepository taskRepository, TaskMapper taskMapper, ProjectRepository projectRepository) {
+    public CreateTaskUseCase(TaskRepository taskRepository, TaskMapper taskMapper, ProjectRepository projectRepository,
+                             ProjectTaskCountersRepository countersRepository) {
         this.taskRepository = taskRepository;
         this.taskMapper = taskMapper;
         this.projectRepository = projectRepository;
+        this.countersRepository = countersRepository;
     }
 
     // CAMBIO 1: Ahora recibimos el ID del proyecto (de la URL) y el DTO de la tarea
+    @Transactional
     public TaskResponseDTO execute(Long projectId, TaskRequestDTO taskDTO) {
+        return taskMapper.toResponseDTO(create(projectId, taskDTO));
+    }
 
-        /* 1) Buscar el proyecto real en la BD por ID (ya no por nombre desde un DTO) */
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResourceNotFoundException("El proyecto no fue encontrado con id: " + projectId));
+    /**
+     * Igual que execute, con la respuesta liviana (view=summary): el proyecto solo por id y nombre.
+     */
+    @Transactional
+    public TaskSummaryResponseDTO executeSummary(Long projectId, TaskRequestDTO taskDTO) {
+        return taskMapper.toSummaryResponseDTO(create(projectId, taskDTO));
+    }
 
-        /* 2) Validar que el proyecto (entidad real) no esté cerrado */
-        if (project.getStatus() == ProjectStatus.CLOSED) {
-            throw new BusinessRuleViolationsException("No se puede agregar una tarea a un proyecto Cerrado (CLOSED).");
-        }
+    private Task create(Long projectId, TaskRequestDTO taskDTO) {
 
-        /* 3) Validar si existe la tarea en el proyecto
-         * NOTA: Usamos 'project' (la entidad que recuperamos arriba)
-         * y taskDTO.title() */
-        if (taskRepository.existByTitleAndProject(taskDTO.title(), project)) {
-            throw new DuplicateResourceException("Ya existe una tarea con el mismo titulo en este proyecto.");
-        }
+        /* 1) Buscar el proyecto real por ID (la respuesta lo incluye completo) */
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> projectNotFound(projectId));
 
-        /* 4) Mapear a Dominio pasando AMBOS objetos */
+        /* 2) Mapear a Dominio pasando AMBOS objetos */
         Task newTask = taskMapper.toDomain(taskDTO, project);
 
-        /* 5) Guardar */
-        newTask = taskRepository.save(newTask);
-
-        /* 6) Responder */
-        return taskMapper.toResponseDTO(newTask);
+        /* 3) Insertar: el proyecto cerrado y el título duplicado los decide solo la base, en la misma sentencia */
+        TaskInsertResult result = taskRepository.insertIfAllowed(newTask);
+        return switch (result.outcome()) {
+            case INSERTED -> {
+                /* 4) Contadores del proyecto: un UPDATE sobre uno de sus stripes */
+                countersRepository.add(projectId, newTask.getStatus(), 1, newTask.getEstimatedHours());
+                yield result.task();
+            }
+            case PROJECT_NOT_FOUND -> throw projectNotFound(projectId);
+            case PROJECT_CLOSED -> throw projectClosed();
+            case DUPLICATE_TITLE ->
+                    throw new DuplicateResourceException("Ya existe una tarea con el mismo titulo en este proyecto.");
+        };
     }
-}
-
 
+    private static ResourceNotFoundException projectNotFound(Long projectId) {
+        return new ResourceNotFoundException("El proyecto no fue encontrado con id: " + projectId);
+    }
 
+    private static BusinessRuleViolationsException projectClosed() {
+        return new BusinessRuleViolationsException("No se puede agregar una tarea a un proyecto Cerrado (CLOSED).");
+    }
+}
@@ -1,22 +1,32 @@
 package application.usecase;
 
+import application.dto.response.TaskPageResponseDTO;
 import application.dto.response.TaskResponseDTO;
+import application.dto.response.TaskSummaryPageResponseDTO;
+import application.dto.response.TaskSummaryResponseDTO;
+import application.mapper.CursorMapper;
 import application.mapper.TaskMapper;
 import domain.model.TaskStatus;
 import domain.repository.TaskRepository;
+import infrastructure.exception.ValidationException;
 import org.springframework.stereotype.Service;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import domain.model.Task;
 
 @Service
 public class FindTaskUseCase {
+    public static final int MAX_PAGE_SIZE = 500;
+
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
+    private final CursorMapper cursorMapper;
 
-    public FindTaskUseCase(TaskRepository taskRepository, TaskMapper taskMapper) {
+    public FindTaskUseCase(TaskRepository taskRepository, TaskMapper taskMapper, CursorMapper cursorMapper) {
         this.taskRepository = taskRepository;
         this.taskMapper = taskMapper;
+        this.cursorMapper = cursorMapper;
     }
 
     /**
@@ -31,4 +41,96 @@ public class FindTaskUseCase {
                 .map(taskMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Ejecuta la busqueda paginada (keyset sobre status, id).
+     * Se pide una tarea de mas para saber si existe una pagina siguiente sin hacer un COUNT.
+     *
+     * @param status El estado de las tareas que se buscaran
+     * @param limit Tamaño de la pagina (1..MAX_PAGE_SIZE)
+     * @param after Cursor devuelto en la pagina anterior, o null para la primera
+     * @return la pagina y el cursor de la siguiente (null si es la ultima)
+     * @throws ValidationException si el limite o el cursor son invalidos
+     */
+    public TaskPageResponseDTO execute(TaskStatus status, int limit, String after) {
+        TaskPage page = findPage(status, limit, after);
+        List<TaskResponseDTO> items = page.tasks().stream()
+                .map(taskMapper::toResponseDTO)
+                .collect(Collectors.toList());
+        return new TaskPageResponseDTO(items, page.nextCursor());
+    }
+
+    /**
+     * Igual que la busqueda paginada, con la respuesta liviana (view=summary).
+     */
+    public TaskSummaryPageResponseDTO executeSummary(TaskStatus status, int limit, String after) {
+        TaskPage page = findPage(status, limit, after);
+        List<TaskSummaryResponseDTO> items = page.tasks().stream()
+                .map(taskMapper::toSummaryResponseDTO)
+                .collect(Collectors.toList());
+        return new TaskSummaryPageResponseDTO(items, page.nextCursor());
+    }
+
+    /**
+     * Version del listado de un estado para el ETag (sirve para la lista completa, sus paginas y la
+     * vista liviana), calculada con agregados sin leer las tareas.
+     */
+    public String version(TaskStatus status) {
+        return taskRepository.findListVersionByStatus(status).tag();
+    }
+
+    private TaskPage findPage(TaskStatus status, int limit, String after) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException("El limite debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        Long afterId = after == null ? null : decodeAfterId(status, after);
+
+        List<Task> tasks = taskRepository.findByStatusAfter(status, afterId, limit + 1);
+
+        String nextCursor = null;
+        if (tasks.size() > limit) {
+            tasks = tasks.subList(0, limit);
+            nextCursor = cursorMapper.encode(status, tasks.getLast().getId());
+        }
+
+        return new TaskPage(tasks, nextCursor);
+    }
+
+    private record TaskPage(List<Task> tasks, String nextCursor) { }
+
+    /**
+     * Ejecuta la busqueda en modo streaming: cada tarea se mapea y se entrega
+     * al consumidor apenas se lee, sin acumular el resultado en listas.
+     *
+     * @param status El estado de las tareas que se buscaran
+     * @param consumer recibe cada TaskResponseDTO (ej: lo escribe en la respuesta HTTP)
+     */
+    public void execute(TaskStatus status, Consumer<TaskResponseDTO> consumer) {
+        taskRepository.forEachByStatus(status, task -> consumer.accept(taskMapper.toResponseDTO(task)));
+    }
+
+    private Long decodeAfterId(TaskStatus status, String after) {
+        String[] keys = cursorMapper.decode(after, 2);
+        if (!status.name().equals(keys[0])) {
+            throw new ValidationException("El cursor no corresponde al estado " + status);
+        }
+        try {
+            return Long.parseLong(keys[1]);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("El cursor de paginacion es invalido");
+        }
+    }
+
+    /**
+     * Ejecuta la busqueda en la vista liviana (view=summary): lee una proyeccion
+     * con solo las columnas necesarias, sin reconstruir Task ni Project.
+     *
+     * @param status El estado de las tareas que se buscaran
+     * @return una lista de TaskSummaryResponseDTO
+     */
+    public List<TaskSummaryResponseDTO> executeSummary(TaskStatus status) {
+        return taskRepository.findSummariesByStatus(status).stream()
+                .map(taskMapper::toSummaryResponseDTO)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,58 @@
+package application.usecase;
+
+import application.dto.response.ProjectStatsResponseDTO;
+import application.dto.response.TaskStatusStatsResponseDTO;
+import domain.model.TaskStatus;
+import domain.model.TaskStatusStats;
+import domain.repository.ProjectRepository;
+import domain.repository.TaskRepository;
+import infrastructure.exception.ResourceNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class GetProjectStatsUseCase {
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+
+    public GetProjectStatsUseCase(ProjectRepository projectRepository, TaskRepository taskRepository) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Cantidad de tareas, horas estimadas y comentarios por estado, con los totales del proyecto.
+     * Todo sale de una consulta de agregados (una fila por estado con tareas); las tareas no se cargan.
+     * Solo si no hay filas se busca el proyecto, para distinguir "sin tareas" de "no existe".
+     * @throws ResourceNotFoundException si el proyecto no existe.
+     */
+    public ProjectStatsResponseDTO execute(Long projectId) {
+        List<TaskStatusStats> rows = taskRepository.findStatsByProjectId(projectId);
+        if (rows.isEmpty() && projectRepository.findById(projectId).isEmpty()) {
+            throw new ResourceNotFoundException("Project not found with id: " + projectId);
+        }
+
+        Map<TaskStatus, TaskStatusStatsResponseDTO> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, new TaskStatusStatsResponseDTO(0, 0, 0));
+        }
+
+        long tasks = 0;
+        long estimatedHours = 0;
+        long comments = 0;
+        LocalDateTime lastActivityAt = null;
+        for (TaskStatusStats row : rows) {
+            byStatus.put(row.status(), new TaskStatusStatsResponseDTO(row.tasks(), row.estimatedHours(), row.comments()));
+            tasks += row.tasks();
+            estimatedHours += row.estimatedHours();
+            comments += row.comments();
+            lastActivityAt = TaskStatusStats.latest(lastActivityAt, row.lastActivityAt());
+        }
+
+        return new ProjectStatsResponseDTO(projectId, tasks, estimatedHours, comments, lastActivityAt, byStatus);
+    }
+}
@@ -0,0 +1,65 @@
+package application.usecase;
+
+import application.dto.response.ProjectTaskCountsResponseDTO;
+import application.dto.response.TaskCountResponseDTO;
+import domain.model.ProjectTaskCount;
+import domain.model.TaskStatus;
+import domain.repository.ProjectTaskCountersRepository;
+import infrastructure.exception.ValidationException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class GetProjectTaskCountsUseCase {
+    public static final int MAX_PROJECTS = 1000;
+
+    private final ProjectTaskCountersRepository countersRepository;
+
+    public GetProjectTaskCountsUseCase(ProjectTaskCountersRepository countersRepository) {
+        this.countersRepository = countersRepository;
+    }
+
+    /**
+     * Cantidad de tareas y horas estimadas por estado de varios proyectos a la vez (listado de proyectos).
+     * Sale de los contadores que se actualizan al crear tareas: una consulta por la clave primaria
+     * de project_task_counters, sin recorrer las tareas.
+     * Un proyecto sin tareas, o que no existe, se devuelve en cero.
+     * @return un item por id, en el orden recibido y sin repetidos.
+     * @throws ValidationException si no hay ids o hay mas de MAX_PROJECTS.
+     */
+    public List<ProjectTaskCountsResponseDTO> execute(List<Long> projectIds) {
+        if (projectIds == null || projectIds.isEmpty() || projectIds.size() > MAX_PROJECTS) {
+            throw new ValidationException("Se deben pedir entre 1 y " + MAX_PROJECTS + " proyectos");
+        }
+        Set<Long> ids = new LinkedHashSet<>(projectIds);
+
+        Map<Long, Map<TaskStatus, TaskCountResponseDTO>> byProject = new HashMap<>();
+        for (ProjectTaskCount count : countersRepository.findByProjectIds(ids)) {
+            byProject.computeIfAbsent(count.projectId(), id -> new EnumMap<>(TaskStatus.class))
+                    .put(count.status(), new TaskCountResponseDTO(count.tasks(), count.estimatedHours()));
+        }
+
+        List<ProjectTaskCountsResponseDTO> response = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Map<TaskStatus, TaskCountResponseDTO> counted = byProject.getOrDefault(id, Map.of());
+            Map<TaskStatus, TaskCountResponseDTO> byStatus = new EnumMap<>(TaskStatus.class);
+            long tasks = 0;
+            long estimatedHours = 0;
+            for (TaskStatus status : TaskStatus.values()) {
+                TaskCountResponseDTO count = counted.getOrDefault(status, new TaskCountResponseDTO(0, 0));
+                byStatus.put(status, count);
+                tasks += count.tasks();
+                estimatedHours += count.estimatedHours();
+            }
+            response.add(new ProjectTaskCountsResponseDTO(id, tasks, estimatedHours, byStatus));
+        }
+        return response;
+    }
+}
@@ -1,58 +1,169 @@
 package application.usecase;
 
 import application.dto.response.CommentResponseDTO;
+import application.dto.response.CommentSummaryResponseDTO;
 import application.dto.response.TaskResponseDTO;
+import application.dto.response.TaskSummaryResponseDTO;
+import application.dto.response.TaskSummaryWithCommentsResponseDTO;
 import application.dto.response.TaskWithCommentsResponseDTO;
+import application.mapper.CursorMapper;
 import application.mapper.TaskCommentMapper;
 import application.mapper.TaskMapper;
 import infrastructure.exception.ResourceNotFoundException;
+import infrastructure.exception.ValidationException;
 import domain.model.Task;
 import domain.model.TaskComment;
+import domain.model.TaskCommentSummary;
+import domain.model.TaskWithComments;
 import domain.repository.TaskCommentRepository;
 import domain.repository.TaskRepository;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 public class GetTaskByIdUseCase {
+    public static final int DEFAULT_COMMENTS_LIMIT = 50;
+    public static final int MAX_COMMENTS_LIMIT = 500;
 
     private final TaskRepository taskRepository;
     private final TaskCommentRepository commentRepository;
     private final TaskMapper taskMapper;
     private final TaskCommentMapper commentMapper;
+    private final CursorMapper cursorMapper;
 
-    public GetTaskByIdUseCase(TaskRepository taskRepository, TaskCommentRepository commentRepository, TaskMapper taskMapper, TaskCommentMapper commentMapper) {
+    public GetTaskByIdUseCase(TaskRepository taskRepository, TaskCommentRepository commentRepository, TaskMapper taskMapper,
+                              TaskCommentMapper commentMapper, CursorMapper cursorMapper) {
         this.taskRepository = taskRepository;
         this.commentRepository = commentRepository;
         this.taskMapper = taskMapper;
         this.commentMapper = commentMapper;
+        this.cursorMapper = cursorMapper;
     }
 
     /**
-     * Ejecuta la búsqueda.
+     * Ejecuta la búsqueda con la primera pagina de comentarios (DEFAULT_COMMENTS_LIMIT).
      * @param taskId El ID de la tarea.
      * @param withComments Flag para incluir o no los comentarios.
      * @return El DTO de la tarea, con o sin comentarios.
      * @throws ResourceNotFoundException si la tarea no existe.
      */
     public TaskWithCommentsResponseDTO execute(Long taskId, boolean withComments) {
+        return execute(taskId, withComments, DEFAULT_COMMENTS_LIMIT, null);
+    }
+
+    /**
+     * Ejecuta la búsqueda. Los comentarios se devuelven paginados, ordenados por (createdAt, id).
+     * Se pide un comentario de mas para saber si hay otra pagina sin hacer un COUNT.
+     * @param taskId El ID de la tarea.
+     * @param withComments Flag para incluir o no los comentarios.
+     * @param commentsLimit Tamaño de la pagina de comentarios (1..MAX_COMMENTS_LIMIT).
+     * @param commentsAfter Cursor devuelto en la pagina anterior, o null para la primera.
+     * @return El DTO de la tarea, con o sin comentarios.
+     * @throws ResourceNotFoundException si la tarea no existe.
+     * @throws ValidationException si el limite o el cursor son invalidos.
+     */
+    public TaskWithCommentsResponseDTO execute(Long taskId, boolean withComments, int commentsLimit, String commentsAfter) {
+        CommentsPosition after = withComments ? decodeCommentsPosition(commentsLimit, commentsAfter) : null;
+
+        if (!withComments) {
+            Task task = taskRepository.findById(taskId).orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+            return new TaskWithCommentsResponseDTO(taskMapper.toResponseDTO(task), Collections.emptyList());
+        }
+
+        // Tarea, proyecto y pagina de comentarios en dos sentencias, con la tarea mapeada una sola vez
+        TaskWithComments taskWithComments = taskRepository
+                .findByIdWithComments(taskId, after.createdAt(), after.id(), commentsLimit + 1)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+
+        TaskResponseDTO taskDto = taskMapper.toResponseDTO(taskWithComments.task());
+
+        List<TaskComment> comments = taskWithComments.comments();
+        boolean hasMore = comments.size() > commentsLimit;
+        String nextCursor = null;
+        if (hasMore) {
+            comments = comments.subList(0, commentsLimit);
+            TaskComment last = comments.getLast();
+            nextCursor = cursorMapper.encode(last.getCreatedAt(), last.getId());
+        }
+
+        List<CommentResponseDTO> commentDtoList = comments.stream()
+                .map(commentMapper::toResponseDTO)
+                .collect(Collectors.toList());
+
+        return new TaskWithCommentsResponseDTO(taskDto, commentDtoList, hasMore, nextCursor);
+    }
+
+    /**
+     * Ejecuta la búsqueda en la vista liviana (view=summary), usando proyecciones de solo lectura.
+     * @param taskId El ID de la tarea.
+     * @param withComments Flag para incluir o no los comentarios.
+     * @return El DTO liviano de la tarea, con o sin comentarios.
+     * @throws ResourceNotFoundException si la tarea no existe.
+     */
+    public TaskSummaryWithCommentsResponseDTO executeSummary(Long taskId, boolean withComments) {
+        return executeSummary(taskId, withComments, DEFAULT_COMMENTS_LIMIT, null);
+    }
 
-        Task task = taskRepository.findById(taskId).orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+    /**
+     * Igual que execute(taskId, withComments, commentsLimit, commentsAfter) pero en la vista liviana.
+     */
+    public TaskSummaryWithCommentsResponseDTO executeSummary(Long taskId, boolean withComments, int commentsLimit, String commentsAfter) {
+        CommentsPosition after = withComments ? decodeCommentsPosition(commentsLimit, commentsAfter) : null;
 
-        TaskResponseDTO taskDto = taskMapper.toResponseDTO(task);
+        TaskSummaryResponseDTO taskDto = taskRepository.findSummaryById(taskId)
+                .map(taskMapper::toSummaryResponseDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
 
-        List<CommentResponseDTO> commentDtoList = Collections.emptyList(); // Lista vacía por defecto
+        if (!withComments) {
+            return new TaskSummaryWithCommentsResponseDTO(taskDto, Collections.emptyList());
+        }
 
-        if (withComments) {
-            List<TaskComment> comments = commentRepository.findAllByTaskId(taskId);
-            commentDtoList = comments.stream()
-                    .map(commentMapper::toResponseDTO)
-                    .collect(Collectors.toList());
+        List<TaskCommentSummary> comments = commentRepository.findSummaryPageByTaskId(taskId, after.createdAt(), after.id(), commentsLimit + 1);
+        boolean hasMore = comments.size() > commentsLimit;
+        String nextCursor = null;
+        if (hasMore) {
+            comments = comments.subList(0, commentsLimit);
+            TaskCommentSummary last = comments.getLast();
+            nextCursor = cursorMapper.encode(last.createdAt(), last.id());
         }
 
-        return new TaskWithCommentsResponseDTO(taskDto, commentDtoList);
+        List<CommentSummaryResponseDTO> commentDtoList = comments.stream()
+                .map(commentMapper::toSummaryResponseDTO)
+                .collect(Collectors.toList());
+
+        return new TaskSummaryWithCommentsResponseDTO(taskDto, commentDtoList, hasMore, nextCursor);
+    }
+
+    /**
+     * Version de la respuesta de execute/executeSummary para el ETag, sin cargar la tarea ni los comentarios.
+     * Cambia si cambian la tarea o su proyecto y, con comentarios, si se agrega uno.
+     * @return vacio si la tarea no existe (la busqueda completa responde el 404).
+     */
+    public Optional<String> version(Long taskId, boolean withComments) {
+        return taskRepository.findVersionById(taskId).map(version -> version.tag(withComments));
+    }
+
+    // Posicion del ultimo comentario visto (ambos null = primera pagina)
+    private record CommentsPosition(LocalDateTime createdAt, Long id) { }
+
+    private CommentsPosition decodeCommentsPosition(int commentsLimit, String commentsAfter) {
+        if (commentsLimit < 1 || commentsLimit > MAX_COMMENTS_LIMIT) {
+            throw new ValidationException("El limite de comentarios debe estar entre 1 y " + MAX_COMMENTS_LIMIT);
+        }
+        if (commentsAfter == null) {
+            return new CommentsPosition(null, null);
+        }
+        String[] keys = cursorMapper.decode(commentsAfter, 2);
+        try {
+            return new CommentsPosition(LocalDateTime.parse(keys[0]), Long.parseLong(keys[1]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new ValidationException("El cursor de paginacion es invalido");
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,94 @@
+package application.usecase;
+
+import application.dto.response.CommentSearchPageResponseDTO;
+import application.dto.response.CommentSearchResultDTO;
+import application.mapper.CursorMapper;
+import domain.model.CommentSearchHit;
+import domain.repository.CommentSearchRepository;
+import domain.repository.ProjectRepository;
+import infrastructure.exception.ResourceNotFoundException;
+import infrastructure.exception.ValidationException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Service
+public class SearchCommentsUseCase {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_QUERY_LENGTH = 200;
+
+    // Los terminos se arman con letras y digitos: sin ninguno no hay nada que buscar
+    private static final Pattern LETTER_OR_DIGIT = Pattern.compile("[\\p{L}\\p{N}]");
+
+    private final CommentSearchRepository searchRepository;
+    private final ProjectRepository projectRepository;
+    private final CursorMapper cursorMapper;
+
+    public SearchCommentsUseCase(CommentSearchRepository searchRepository, ProjectRepository projectRepository,
+                                 CursorMapper cursorMapper) {
+        this.searchRepository = searchRepository;
+        this.projectRepository = projectRepository;
+        this.cursorMapper = cursorMapper;
+    }
+
+    /**
+     * Busqueda de texto en los comentarios: devuelve los que contienen todas las palabras de la
+     * busqueda, del mas relevante al menos relevante, paginados por keyset sobre (puntaje, id).
+     * Se pide un resultado de mas para saber si existe una pagina siguiente sin hacer un COUNT.
+     * Solo si la primera pagina de un proyecto viene vacia se busca el proyecto, para distinguir
+     * "sin resultados" de "no existe".
+     *
+     * @param query palabras a buscar (sin distinguir mayusculas)
+     * @param projectId limita la busqueda a un proyecto, o null para todos
+     * @param limit Tamaño de la pagina (1..MAX_PAGE_SIZE)
+     * @param after Cursor devuelto en la pagina anterior, o null para la primera
+     * @throws ValidationException si la busqueda, el limite o el cursor son invalidos (tambien una
+     *         busqueda sin letras ni digitos, como "¿?")
+     * @throws ResourceNotFoundException si el proyecto no existe
+     */
+    public CommentSearchPageResponseDTO execute(String query, Long projectId, int limit, String after) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new ValidationException("La busqueda debe tener entre 1 y " + MAX_QUERY_LENGTH + " caracteres");
+        }
+        if (!LETTER_OR_DIGIT.matcher(query).find()) {
+            throw new ValidationException("La busqueda debe tener al menos una letra o un digito");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException("El limite debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        Double afterScore = null;
+        Long afterId = null;
+        if (after != null) {
+            String[] keys = cursorMapper.decode(after, 2);
+            try {
+                afterScore = Double.parseDouble(keys[0]);
+                afterId = Long.parseLong(keys[1]);
+            } catch (NumberFormatException e) {
+                throw new ValidationException("El cursor de paginacion es invalido");
+            }
+            if (!Double.isFinite(afterScore)) {
+                throw new ValidationException("El cursor de paginacion es invalido");
+            }
+        }
+
+        List<CommentSearchHit> hits = searchRepository.search(query.strip(), projectId, afterScore, afterId, limit + 1);
+        if (hits.isEmpty() && projectId != null && after == null && projectRepository.findById(projectId).isEmpty()) {
+            throw new ResourceNotFoundException("Project not found with id: " + projectId);
+        }
+
+        String nextCursor = null;
+        if (hits.size() > limit) {
+            hits = hits.subList(0, limit);
+            CommentSearchHit last = hits.getLast();
+            nextCursor = cursorMapper.encode(last.score(), last.comment().id());
+        }
+
+        List<CommentSearchResultDTO> items = hits.stream()
+                .map(hit -> new CommentSearchResultDTO(hit.comment().id(), hit.comment().taskId(), hit.comment().text(),
+                        hit.comment().author(), hit.comment().createdAt(), hit.score()))
+                .toList();
+        return new CommentSearchPageResponseDTO(items, nextCursor);
+    }
+}
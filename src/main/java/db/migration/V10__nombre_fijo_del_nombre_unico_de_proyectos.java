@@ -0,0 +1,60 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Le da a la restriccion unica de projects.name el nombre que busca ProjectRepositoryImp
+ * (uk_projects_name) para traducir un nombre repetido a 409 con su mensaje.
+ *
+ * Las bases creadas por Hibernate (ddl-auto) antes de Flyway se tomaron como linea base sin
+ * pasar por V1, y su restriccion tiene el nombre que genero Hibernate (UK + hash). Es una
+ * migracion Java porque ese nombre cambia de base en base: se busca en information_schema.
+ * En las bases creadas por V1 ya tiene el nombre y no se toca.
+ */
+public class V10__nombre_fijo_del_nombre_unico_de_proyectos extends BaseJavaMigration {
+
+    private static final String CONSTRAINT_NAME = "uk_projects_name";
+
+    // Restricciones UNIQUE de projects cuya unica columna es name
+    private static final String FIND_UNIQUE_ON_NAME_SQL = """
+            select tc.constraint_name
+            from information_schema.table_constraints tc
+            join information_schema.key_column_usage k
+              on k.constraint_schema = tc.constraint_schema and k.constraint_name = tc.constraint_name
+            where lower(tc.table_name) = 'projects'
+              and tc.table_schema = current_schema
+              and tc.constraint_type = 'UNIQUE'
+            group by tc.constraint_name
+            having count(*) = 1 and lower(max(k.column_name)) = 'name'
+            """;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        String current = null;
+        try (PreparedStatement query = context.getConnection().prepareStatement(FIND_UNIQUE_ON_NAME_SQL);
+             ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                String name = resultSet.getString(1);
+                if (name.equalsIgnoreCase(CONSTRAINT_NAME)) {
+                    return;
+                }
+                current = name;
+            }
+        }
+
+        try (Statement statement = context.getConnection().createStatement()) {
+            if (current != null) {
+                // El nombre generado se cita tal cual lo guarda la base (mayusculas incluidas)
+                statement.execute("alter table projects rename constraint \"" + current.replace("\"", "\"\"")
+                        + "\" to " + CONSTRAINT_NAME);
+            } else {
+                statement.execute("alter table projects add constraint " + CONSTRAINT_NAME + " unique (name)");
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Reemplaza las columnas identity por secuencias con incremento de 50,
+ * para que Hibernate reserve los ids de a bloques (optimizador pooled)
+ * y pueda agrupar los INSERT en lotes JDBC.
+ *
+ * Es una migracion Java porque cada secuencia arranca despues del id mas
+ * alto que ya exista en su tabla.
+ */
+public class V3__secuencias_de_ids extends BaseJavaMigration {
+
+    // Debe coincidir con el allocationSize de @SequenceGenerator en las entidades
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final List<String> TABLES = List.of("projects", "tasks", "task_comments");
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            for (String table : TABLES) {
+                long maxId;
+                try (ResultSet resultSet = statement.executeQuery("select coalesce(max(id), 0) from " + table)) {
+                    resultSet.next();
+                    maxId = resultSet.getLong(1);
+                }
+
+                statement.execute("alter table " + table + " alter column id drop identity");
+                // Con pooled el primer valor leido es el tope del bloque: el primer id entregado es maxId + 1
+                statement.execute("create sequence " + table + "_seq start with " + (maxId + ALLOCATION_SIZE)
+                        + " increment by " + ALLOCATION_SIZE);
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package domain.model;
+
+/**
+ * Resultado de la busqueda de texto en comentarios: el comentario y su puntaje
+ * (mayor es mas relevante; solo sirve para ordenar los resultados de una misma busqueda).
+ */
+public record CommentSearchHit(
+        TaskCommentSummary comment,
+        double score
+) { }
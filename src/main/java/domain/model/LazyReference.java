@@ -0,0 +1,61 @@
+package domain.model;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Referencia a un objeto padre (el Project de una Task, la Task de un TaskComment) que se conoce
+ * por id y solo se arma cuando alguien lo pide. Al rehidratar desde la base la mayoria de los
+ * caminos solo necesitan el id del padre: el objeto completo no se construye hasta el primer get().
+ *
+ * No sincroniza: si dos hilos resuelven a la vez, el loader corre dos veces y gana cualquiera de
+ * los dos resultados (el loader solo mapea, no tiene efectos).
+ */
+public final class LazyReference<T> {
+
+    private final Long id;
+    private final Function<? super T, Long> idOf;
+    private final Supplier<? extends T> loader;
+    private volatile T value;
+
+    private LazyReference(Long id, Function<? super T, Long> idOf, Supplier<? extends T> loader, T value) {
+        this.id = id;
+        this.idOf = idOf;
+        this.loader = loader;
+        this.value = value;
+    }
+
+    /**
+     * Referencia a un objeto que ya se tiene armado. El id se lee del objeto en cada llamada:
+     * un Project nuevo recibe su id recien al guardarse.
+     */
+    public static <T> LazyReference<T> resolved(T value, Function<? super T, Long> idOf) {
+        Objects.requireNonNull(value, "value");
+        return new LazyReference<>(null, idOf, null, value);
+    }
+
+    /** Referencia por id: loader se llama recien en el primer get(). */
+    public static <T> LazyReference<T> lazy(Long id, Supplier<? extends T> loader) {
+        Objects.requireNonNull(loader, "loader");
+        return new LazyReference<>(id, null, loader, null);
+    }
+
+    /** Id del padre, sin resolverlo. */
+    public Long getId() {
+        return idOf == null ? id : idOf.apply(value);
+    }
+
+    public T get() {
+        T current = value;
+        if (current == null) {
+            current = loader.get();
+            value = current;
+        }
+        return current;
+    }
+
+    public boolean isResolved() {
+        return value != null;
+    }
+}
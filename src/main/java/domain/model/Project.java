@@ -12,6 +12,8 @@ public class Project {
     private LocalDate endDate;
     private ProjectStatus status;
     private Optional<String> description;
+    // @Version de la fila: null hasta que se guarda. Viaja con el proyecto para que un save sea un UPDATE con control optimista
+    private Long version;
 
     private Project(String name,
                     LocalDate startDate,
@@ -60,6 +62,24 @@ public class Project {
         return new Project(name, startDate, endDate, status, description);
     }
 
+    /**
+     * Reconstruye un proyecto ya guardado. No valida ni consulta el reloj: las reglas se
+     * verificaron al crearlo, y un proyecto cuya fecha de fin ya paso se tiene que poder leer.
+     * Solo para la capa de persistencia.
+     */
+    public static Project rehydrate(Long id,
+                                    String name,
+                                    LocalDate startDate,
+                                    LocalDate endDate,
+                                    ProjectStatus status,
+                                    Optional<String> description,
+                                    Long version) {
+        Project project = new Project(name, startDate, endDate, status, description);
+        project.id = id;
+        project.version = version;
+        return project;
+    }
+
     /**
      * Método de comportamiento del dominio.
      * Verifica la regla: "Cannot add a Task to a Project with status CLOSED"
@@ -95,4 +115,9 @@ public class Project {
     public Optional<String> getDescription() {
         return description;
     }
+
+    // No es un getter: Jackson no lo serializa como campo
+    public Long version() {
+        return version;
+    }
 }
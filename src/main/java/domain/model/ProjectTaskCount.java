@@ -0,0 +1,12 @@
+package domain.model;
+
+/**
+ * Cantidad de tareas y horas estimadas de un proyecto en un estado, segun los contadores
+ * que se mantienen al crear tareas o cambiarlas de estado (no se cuentan las tareas al leer).
+ */
+public record ProjectTaskCount(
+        Long projectId,
+        TaskStatus status,
+        long tasks,
+        long estimatedHours
+) { }
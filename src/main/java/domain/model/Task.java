@@ -7,16 +7,18 @@ import java.time.LocalDateTime;
 public class Task {
     private Long id;
     private String title;
-    private Project project;
+    private LazyReference<Project> project;
     private Integer estimatedHours;
     private String assignee;
     private TaskStatus status;
     private LocalDateTime finishedAt;
     private LocalDateTime createdAt;
+    // @Version de la fila: null hasta que se guarda. Viaja con la tarea para que un save sea un UPDATE con control optimista
+    private Long version;
 
     private Task(Long id,
                 String title,
-                Project project,
+                LazyReference<Project> project,
                 Integer estimatedHours,
                 String assignee,
                 TaskStatus status,
@@ -80,7 +82,28 @@ public class Task {
             throw new BusinessRuleViolationsException("La fecha de inicio no puede ser posterio a fecha de fin");
         }
 
-        return new Task(id, title, project, estimatedHours, assignee, status, createdAt, finishedAt);
+        LazyReference<Project> reference = project == null ? null : LazyReference.resolved(project, Project::getId);
+        return new Task(id, title, reference, estimatedHours, assignee, status, createdAt, finishedAt);
+    }
+
+    /**
+     * Reconstruye una tarea ya guardada. No valida ni consulta el reloj: las reglas se
+     * verificaron al crearla, y una tarea vencida se tiene que poder leer.
+     * El proyecto llega como referencia: se arma recien si alguien llama a getProyect().
+     * Solo para la capa de persistencia.
+     */
+    public static Task rehydrate(Long id,
+                                 String title,
+                                 LazyReference<Project> project,
+                                 Integer estimatedHours,
+                                 String assignee,
+                                 TaskStatus status,
+                                 LocalDateTime createdAt,
+                                 LocalDateTime finishedAt,
+                                 Long version) {
+        Task task = new Task(id, title, project, estimatedHours, assignee, status, createdAt, finishedAt);
+        task.version = version;
+        return task;
     }
 
     public Long getId() {
@@ -92,6 +115,11 @@ public class Task {
     }
 
     public Project getProyect() {
+        return project == null ? null : project.get();
+    }
+
+    // No es un getter: Jackson no lo serializa como campo
+    public LazyReference<Project> projectReference() {
         return project;
     }
 
@@ -114,4 +142,9 @@ public class Task {
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
+
+    // No es un getter: Jackson no lo serializa como campo
+    public Long version() {
+        return version;
+    }
 }
@@ -6,12 +6,12 @@ import java.time.LocalDateTime;
 
 public class TaskComment {
     private Long id;
-    private Task task;
+    private LazyReference<Task> task;
     private String text;
     private String author;
     private LocalDateTime createdAt;
 
-    private TaskComment(Task task, String text, String author, LocalDateTime createdAt) {
+    private TaskComment(LazyReference<Task> task, String text, String author, LocalDateTime createdAt) {
         this.id = null;
         this.task = task;
         this.text = text;
@@ -21,8 +21,10 @@ public class TaskComment {
 
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
-    public Task getTask() { return task; }
-    public void setTask(Task task) { this.task = task; }
+    public Task getTask() { return task == null ? null : task.get(); }
+    public void setTask(Task task) { this.task = task == null ? null : LazyReference.resolved(task, Task::getId); }
+    // No es un getter: Jackson no lo serializa como campo
+    public LazyReference<Task> taskReference() { return task; }
     public String getText() { return text; }
     public void setText(String text) { this.text = text; }
     public String getAuthor() { return author; }
@@ -51,8 +53,19 @@ public class TaskComment {
             throw new ValidationException("Comment should have an author.");
         }
 
-        TaskComment comment = new TaskComment(task, text, author, createdAt);
+        TaskComment comment = new TaskComment(LazyReference.resolved(task, Task::getId), text, author, createdAt);
+
+        return comment;
+    }
 
+    /**
+     * Reconstruye un comentario ya guardado, sin validar: las reglas se verificaron al crearlo.
+     * La tarea llega como referencia: se arma recien si alguien llama a getTask().
+     * Solo para la capa de persistencia.
+     */
+    public static TaskComment rehydrate(Long id, LazyReference<Task> task, String text, String author, LocalDateTime createdAt) {
+        TaskComment comment = new TaskComment(task, text, author, createdAt);
+        comment.id = id;
         return comment;
     }
 
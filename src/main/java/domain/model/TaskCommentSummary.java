@@ -0,0 +1,14 @@
+package domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vista de solo lectura de un TaskComment: la tarea padre se referencia solo por id.
+ */
+public record TaskCommentSummary(
+        Long id,
+        Long taskId,
+        String text,
+        String author,
+        LocalDateTime createdAt
+) { }
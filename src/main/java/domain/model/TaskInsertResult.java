@@ -0,0 +1,24 @@
+package domain.model;
+
+/**
+ * Resultado de TaskRepository.insertIfAllowed: la tarea insertada o la regla que lo impidio.
+ */
+public record TaskInsertResult(
+        Outcome outcome,
+        Task task
+) {
+    public enum Outcome {
+        INSERTED,
+        PROJECT_NOT_FOUND,
+        PROJECT_CLOSED,
+        DUPLICATE_TITLE
+    }
+
+    public static TaskInsertResult inserted(Task task) {
+        return new TaskInsertResult(Outcome.INSERTED, task);
+    }
+
+    public static TaskInsertResult rejected(Outcome outcome) {
+        return new TaskInsertResult(outcome, null);
+    }
+}
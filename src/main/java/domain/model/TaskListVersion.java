@@ -0,0 +1,22 @@
+package domain.model;
+
+/**
+ * Version del listado de tareas de un estado (GET /tasks?status=), calculada con agregados
+ * sobre las filas del estado sin leerlas:
+ * - tasks y lastTaskId: cantidad de tareas e id maximo.
+ * - fingerprint: suma de un hash por fila de (id y @Version de la tarea, id y @Version del
+ *   proyecto). Cambia cuando una tarea entra o sale del estado (aunque otra con la misma
+ *   version ocupe su lugar) y con cualquier UPDATE de una tarea del listado o de un proyecto
+ *   embebido en el. Sumar los ids y las versiones sin hash no alcanzaba: dos conjuntos
+ *   distintos de filas pueden dar las mismas sumas.
+ */
+public record TaskListVersion(
+        long tasks,
+        long lastTaskId,
+        long fingerprint
+) {
+    /** Valor opaco para el ETag. */
+    public String tag() {
+        return tasks + "-" + lastTaskId + "-" + Long.toHexString(fingerprint);
+    }
+}
@@ -0,0 +1,32 @@
+package domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Agregados de las tareas de un proyecto con un mismo estado (GET /projects/{projectId}/stats),
+ * calculados en la base con un GROUP BY: no se lee ninguna tarea ni comentario.
+ * lastCommentAt es null si ninguna tarea del grupo tiene comentarios.
+ */
+public record TaskStatusStats(
+        TaskStatus status,
+        long tasks,
+        long estimatedHours,
+        long comments,
+        LocalDateTime lastCreatedAt,
+        LocalDateTime lastCommentAt
+) {
+    /**
+     * Ultima actividad del grupo: alta de una tarea o un comentario.
+     * finishedAt no cuenta: se carga al crear la tarea y puede ser una fecha futura.
+     */
+    public LocalDateTime lastActivityAt() {
+        return latest(lastCreatedAt, lastCommentAt);
+    }
+
+    public static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+}
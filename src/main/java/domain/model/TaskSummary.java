@@ -0,0 +1,19 @@
+package domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vista de solo lectura de una Task: solo las columnas que necesitan las respuestas,
+ * con el proyecto reducido a id y nombre. No pasa por Task.create (ya fue validada al guardarse).
+ */
+public record TaskSummary(
+        Long id,
+        String title,
+        Long projectId,
+        String projectName,
+        Integer estimatedHours,
+        String assignee,
+        TaskStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt
+) { }
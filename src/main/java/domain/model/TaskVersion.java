@@ -0,0 +1,20 @@
+package domain.model;
+
+/**
+ * Version de una tarea tal como la devuelve GET /projects/{projectId}/tasks/{taskId}:
+ * la version de la fila, la de su proyecto (va embebido en la respuesta) y, para la
+ * variante con comentarios, cuantos hay y el ultimo id (los comentarios solo se agregan).
+ * Se lee con una sola consulta, sin armar la tarea.
+ */
+public record TaskVersion(
+        long taskVersion,
+        long projectVersion,
+        long comments,
+        long lastCommentId
+) {
+    /** Valor opaco para el ETag: cambia si cambia cualquiera de las partes de la respuesta. */
+    public String tag(boolean withComments) {
+        String tag = taskVersion + "-" + projectVersion;
+        return withComments ? tag + "-" + comments + "-" + lastCommentId : tag;
+    }
+}
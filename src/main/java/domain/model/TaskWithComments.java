@@ -0,0 +1,12 @@
+package domain.model;
+
+import java.util.List;
+
+/**
+ * Una tarea junto con una pagina de sus comentarios. Todos los comentarios
+ * referencian la misma instancia de Task (el padre se mapea una sola vez).
+ */
+public record TaskWithComments(
+        Task task,
+        List<TaskComment> comments
+) { }
@@ -0,0 +1,27 @@
+package domain.repository;
+
+import domain.model.CommentSearchHit;
+import domain.model.TaskComment;
+
+import java.util.List;
+
+/**
+ * Indice invertido de los textos de los comentarios (GET /search/comments).
+ * Una busqueda devuelve los comentarios que contienen todos los terminos, ordenados por
+ * puntaje descendente y despues por id descendente.
+ */
+public interface CommentSearchRepository {
+
+    /**
+     * Agrega al indice comentarios recien guardados (los que ya tienen id).
+     * Si hay una transaccion en curso, se indexan cuando se confirma.
+     */
+    void index(List<TaskComment> comments);
+
+    /**
+     * @param projectId limita la busqueda a los comentarios de las tareas del proyecto, o null para todos
+     * @param afterScore puntaje del ultimo resultado de la pagina anterior, o null para la primera
+     * @param afterId id del ultimo resultado de la pagina anterior (se usa con afterScore)
+     */
+    List<CommentSearchHit> search(String query, Long projectId, Double afterScore, Long afterId, int limit);
+}
@@ -1,13 +1,13 @@
 package domain.repository;
 
 import domain.model.Project;
-import jakarta.validation.constraints.NotBlank;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProjectRepository {
-    boolean existsByName(@NotBlank(message = "El nombre es requerido") String name);
-
     Project save(Project newProject);
 
+    List<Project> saveAll(List<Project> newProjects);
+
     Optional<Project> findById(Long id);
 }
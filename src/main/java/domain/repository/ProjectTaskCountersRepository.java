@@ -0,0 +1,36 @@
+package domain.repository;
+
+import domain.model.ProjectTaskCount;
+import domain.model.TaskStatus;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProjectTaskCountersRepository {
+
+    /**
+     * Suma (o resta, con valores negativos) tareas y horas a los contadores del proyecto en ese estado.
+     * Debe llamarse en la misma transaccion que el cambio de las tareas.
+     */
+    void add(Long projectId, TaskStatus status, long tasks, long estimatedHours);
+
+    /**
+     * Para los cambios de estado de una tarea: la descuenta del estado anterior y la suma en el nuevo.
+     */
+    default void move(Long projectId, TaskStatus from, TaskStatus to, long estimatedHours) {
+        if (from != to) {
+            add(projectId, from, -1, -estimatedHours);
+            add(projectId, to, 1, estimatedHours);
+        }
+    }
+
+    // Un item por proyecto y estado con tareas (los demas no aparecen)
+    List<ProjectTaskCount> findByProjectIds(Collection<Long> projectIds);
+
+    /**
+     * Compara los contadores con las tareas y corrige las diferencias (altas que no pasaron
+     * por los casos de uso, contadores editados a mano, etc.).
+     * @return cantidad de pares (proyecto, estado) corregidos
+     */
+    int reconcile();
+}
@@ -1,11 +1,17 @@
 package domain.repository;
 
 import domain.model.TaskComment;
+import domain.model.TaskCommentSummary;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface TaskCommentRepository {
 
     TaskComment save(TaskComment comment);
+    List<TaskComment> saveAll(List<TaskComment> comments);
     List<TaskComment> findAllByTaskId(Long taskId);
+
+    // Proyeccion de solo lectura: la tarea padre se referencia por id
+    List<TaskCommentSummary> findSummaryPageByTaskId(Long taskId, LocalDateTime afterCreatedAt, Long afterId, int limit);
 }
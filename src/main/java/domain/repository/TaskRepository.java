@@ -2,15 +2,73 @@ package domain.repository;
 
 import domain.model.Project;
 import domain.model.Task;
+import domain.model.TaskInsertResult;
+import domain.model.TaskListVersion;
 import domain.model.TaskStatus;
+import domain.model.TaskStatusStats;
+import domain.model.TaskSummary;
+import domain.model.TaskVersion;
+import domain.model.TaskWithComments;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface TaskRepository {
 
-    boolean existByTitleAndProject(String title, Project project);
+    // De los titulos recibidos, devuelve los que ya existen en el proyecto
+    Set<String> findExistingTitles(Project project, Collection<String> titles);
     Task save(Task task);
+
+    /**
+     * Inserta la tarea en una sola sentencia, solo si su proyecto existe, no esta CLOSED
+     * y no tiene otra tarea con el mismo titulo. Las reglas se evaluan en la base al insertar,
+     * asi que no hay carrera con otras altas o con el cierre del proyecto.
+     *
+     * @return la tarea con id, o la regla que impidio insertarla
+     */
+    TaskInsertResult insertIfAllowed(Task task);
+
+    /**
+     * insertIfAllowed para un lote: el mismo INSERT por tarea, enviados juntos en un lote JDBC.
+     * Cada tarea se acepta o se rechaza por separado con las reglas evaluadas en la base.
+     *
+     * @return un resultado por tarea, en el mismo orden
+     */
+    List<TaskInsertResult> insertAllIfAllowed(List<Task> tasks);
+    List<Task> saveAll(List<Task> tasks);
     Optional<Task> findById(Long id);
+
+    // Tarea, proyecto y una pagina de comentarios ordenada por (createdAt, id), en dos sentencias.
+    // afterCreatedAt/afterId null = primera pagina
+    Optional<TaskWithComments> findByIdWithComments(Long id, LocalDateTime afterCreatedAt, Long afterId, int commentsLimit);
+    List<Task> findAllByIds(Collection<Long> ids);
     List<Task> findByStatus(TaskStatus status);
+
+    /**
+     * Pagina por keyset sobre (status, id).
+     * @param afterId ultimo id de la pagina anterior, o null para la primera pagina
+     * @param limit cantidad maxima de tareas a devolver
+     */
+    List<Task> findByStatusAfter(TaskStatus status, Long afterId, int limit);
+
+    /**
+     * Recorre todas las tareas con el estado dado, de a una, sin cargarlas todas en memoria.
+     * @param action se invoca por cada tarea, en orden de id
+     */
+    void forEachByStatus(TaskStatus status, Consumer<Task> action);
+
+    // Lecturas de solo lectura (proyecciones): no reconstruyen el grafo Task -> Project
+    List<TaskSummary> findSummariesByStatus(TaskStatus status);
+    Optional<TaskSummary> findSummaryById(Long id);
+
+    // Versiones para los GET condicionales (ETag): una consulta de agregados, sin leer las tareas
+    Optional<TaskVersion> findVersionById(Long id);
+    TaskListVersion findListVersionByStatus(TaskStatus status);
+
+    // Agregados por estado de las tareas del proyecto, en una sola consulta. Sin filas para los estados sin tareas
+    List<TaskStatusStats> findStatsByProjectId(Long projectId);
 }
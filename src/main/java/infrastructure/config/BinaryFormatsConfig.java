@@ -0,0 +1,42 @@
+package infrastructure.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Formatos binarios para los clientes servicio a servicio: con Accept: application/cbor o
+ * application/x-jackson-smile los endpoints responden (y con Content-Type aceptan) CBOR o Smile
+ * en lugar de JSON. Los DTO son los mismos; sin Accept, o con Accept: application/json, todo sigue en JSON.
+ *
+ * Spring MVC ya agrega estos conversores si las librerias estan en el classpath, pero con un
+ * ObjectMapper propio. Declararlos aca los reemplaza en la misma posicion (despues del de JSON)
+ * con el ObjectMapper que arma Spring Boot: spring.jackson.*, fechas ISO y los Module
+ * registrados (TaskJsonModule), asi el contenido es el mismo que el del JSON.
+ *
+ * El streaming de GET /tasks tiene su variante binaria en application/cbor-seq (ProjectController).
+ */
+@Configuration
+public class BinaryFormatsConfig {
+
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    // Secuencia de valores CBOR (RFC 8742): el equivalente binario de NDJSON
+    public static final MediaType APPLICATION_CBOR_SEQ = MediaType.parseMediaType("application/cbor-seq");
+
+    // El builder de Spring Boot es prototype: cada conversor recibe uno nuevo
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
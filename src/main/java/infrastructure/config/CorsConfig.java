@@ -12,6 +12,7 @@ public class CorsConfig implements WebMvcConfigurer {
                 .allowedOrigins("http://localhost:4200") // Permite que Angular se conecte
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS") // Métodos permitidos
                 .allowedHeaders("*") // Permite cualquier header (útil para el token JWT luego)
+                .exposedHeaders("ETag") // GET condicional: el front reenvia el ETag en If-None-Match
                 .allowCredentials(true);
     }
 }
@@ -0,0 +1,19 @@
+package infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita @Async y @Scheduled sobre los ejecutores que arma Spring Boot.
+ *
+ * Por defecto son pools de hilos de plataforma (spring.task.execution / spring.task.scheduling).
+ * Con el perfil virtual-threads (spring.threads.virtual.enabled=true) Spring Boot los reemplaza por
+ * SimpleAsyncTaskExecutor y SimpleAsyncTaskScheduler con hilos virtuales, igual que el ejecutor de
+ * Tomcat; por eso aca no se declara ningun ejecutor propio.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class ExecutionConfig {
+}
@@ -0,0 +1,247 @@
+package infrastructure.config;
+
+import application.dto.response.TaskResponseDTO;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import domain.model.Project;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Serializadores escritos a mano para las respuestas de listas grandes de tareas (GET /tasks):
+ * escriben TaskResponseDTO y Project directo sobre el JsonGenerator, con los nombres de campo
+ * ya codificados, en lugar de recorrer las propiedades por reflexion en cada objeto.
+ *
+ * El JSON es el mismo que arma Jackson por defecto (mismo orden de campos, nulls incluidos;
+ * lo verifica TaskJsonModuleTest).
+ *
+ * Las fechas son la mayor parte del costo: 10.000 tareas son 20.000 LocalDateTime y 20.000
+ * LocalDate (cada tarea repite su proyecto), y DateTimeFormatter arma un String por cada una.
+ * Si el ObjectMapper usa el formato ISO por defecto de JavaTimeModule, las fechas se escriben
+ * aca mismo en un char[]; si la configuracion lo cambia (timestamps, un formato configurado
+ * para el tipo, otro serializador) se delega en el serializador que corresponda.
+ *
+ * Spring Boot registra todos los beans Module en el ObjectMapper de la aplicacion.
+ * Si se agrega un campo a TaskResponseDTO o a Project, hay que agregarlo aca.
+ */
+@Component
+public final class TaskJsonModule extends SimpleModule {
+
+    // yyyy-MM-dd y yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+    private static final int ISO_DATE_LENGTH = 10;
+    private static final int ISO_DATE_TIME_MAX_LENGTH = 29;
+
+    public TaskJsonModule() {
+        super("TaskJsonModule");
+        addSerializer(TaskResponseDTO.class, new TaskResponseSerializer(null, null));
+        addSerializer(Project.class, new ProjectSerializer(null));
+    }
+
+    static final class TaskResponseSerializer extends StdSerializer<TaskResponseDTO> implements ContextualSerializer {
+        private static final SerializableString ID = new SerializedString("id");
+        private static final SerializableString TITLE = new SerializedString("title");
+        private static final SerializableString PROJECT = new SerializedString("project");
+        private static final SerializableString ESTIMATED_HOURS = new SerializedString("estimatedHours");
+        private static final SerializableString ASSIGNEE = new SerializedString("assignee");
+        private static final SerializableString STATUS = new SerializedString("status");
+        private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+        private static final SerializableString FINISHED_AT = new SerializedString("finishedAt");
+
+        private final JsonSerializer<Object> projectSerializer;
+        // null: formato ISO por defecto, escrito por writeIsoDateTime
+        private final JsonSerializer<Object> dateTimeSerializer;
+
+        TaskResponseSerializer(JsonSerializer<Object> projectSerializer, JsonSerializer<Object> dateTimeSerializer) {
+            super(TaskResponseDTO.class);
+            this.projectSerializer = projectSerializer;
+            this.dateTimeSerializer = dateTimeSerializer;
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+            JsonSerializer<Object> dateTimeSerializer = provider.findValueSerializer(LocalDateTime.class, null);
+            return new TaskResponseSerializer(provider.findValueSerializer(Project.class, null),
+                    isDefaultIso(provider, LocalDateTime.class, LocalDateTimeSerializer.INSTANCE) ? null : dateTimeSerializer);
+        }
+
+        @Override
+        public void serialize(TaskResponseDTO task, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            // Un solo buffer para las dos fechas de la tarea
+            char[] buffer = dateTimeSerializer == null && (task.createdAt() != null || task.finishedAt() != null)
+                    ? new char[ISO_DATE_TIME_MAX_LENGTH] : null;
+            generator.writeStartObject(task);
+            generator.writeFieldName(ID);
+            writeNumber(generator, task.id());
+            generator.writeFieldName(TITLE);
+            generator.writeString(task.title());
+            generator.writeFieldName(PROJECT);
+            writeValue(generator, provider, projectSerializer, task.project());
+            generator.writeFieldName(ESTIMATED_HOURS);
+            writeNumber(generator, task.estimatedHours());
+            generator.writeFieldName(ASSIGNEE);
+            generator.writeString(task.assignee());
+            generator.writeFieldName(STATUS);
+            generator.writeString(task.status() == null ? null : task.status().name());
+            generator.writeFieldName(CREATED_AT);
+            writeDateTime(generator, provider, dateTimeSerializer, task.createdAt(), buffer);
+            generator.writeFieldName(FINISHED_AT);
+            writeDateTime(generator, provider, dateTimeSerializer, task.finishedAt(), buffer);
+            generator.writeEndObject();
+        }
+    }
+
+    static final class ProjectSerializer extends StdSerializer<Project> implements ContextualSerializer {
+        private static final SerializableString ID = new SerializedString("id");
+        private static final SerializableString NAME = new SerializedString("name");
+        private static final SerializableString START_DATE = new SerializedString("startDate");
+        private static final SerializableString END_DATE = new SerializedString("endDate");
+        private static final SerializableString STATUS = new SerializedString("status");
+        private static final SerializableString DESCRIPTION = new SerializedString("description");
+
+        // null: formato ISO por defecto, escrito por writeIsoDate
+        private final JsonSerializer<Object> dateSerializer;
+
+        ProjectSerializer(JsonSerializer<Object> dateSerializer) {
+            super(Project.class);
+            this.dateSerializer = dateSerializer;
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+            JsonSerializer<Object> dateSerializer = provider.findValueSerializer(LocalDate.class, null);
+            return new ProjectSerializer(isDefaultIso(provider, LocalDate.class, LocalDateSerializer.INSTANCE) ? null : dateSerializer);
+        }
+
+        @Override
+        public void serialize(Project project, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            char[] buffer = dateSerializer == null && (project.getStartDate() != null || project.getEndDate() != null)
+                    ? new char[ISO_DATE_LENGTH] : null;
+            generator.writeStartObject(project);
+            generator.writeFieldName(NAME);
+            generator.writeString(project.getName());
+            generator.writeFieldName(START_DATE);
+            writeDate(generator, provider, dateSerializer, project.getStartDate(), buffer);
+            generator.writeFieldName(END_DATE);
+            writeDate(generator, provider, dateSerializer, project.getEndDate(), buffer);
+            generator.writeFieldName(STATUS);
+            generator.writeString(project.getStatus() == null ? null : project.getStatus().name());
+            generator.writeFieldName(DESCRIPTION);
+            generator.writeString(project.getDescription() == null ? null : project.getDescription().orElse(null));
+            // Jackson por defecto deja el id al final (orden de los campos declarados en Project)
+            generator.writeFieldName(ID);
+            writeNumber(generator, project.getId());
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeNumber(JsonGenerator generator, Number value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof Long longValue) {
+            generator.writeNumber(longValue);
+        } else {
+            generator.writeNumber(value.intValue());
+        }
+    }
+
+    // El serializador de JavaTimeModule sin cambios de formato para el tipo: fechas como texto ISO.
+    // Se compara el serializador sin contextualizar (createContextual siempre devuelve una copia)
+    private static boolean isDefaultIso(SerializerProvider provider, Class<?> type,
+                                        JsonSerializer<?> defaultSerializer) throws JsonMappingException {
+        JsonFormat.Value format = provider.getConfig().getDefaultPropertyFormat(type);
+        return provider.findValueSerializer(type) == defaultSerializer
+                && !provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                && !format.hasShape() && !format.hasPattern() && !format.hasLocale() && !format.hasTimeZone();
+    }
+
+    private static void writeValue(JsonGenerator generator, SerializerProvider provider,
+                                   JsonSerializer<Object> serializer, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (serializer == null) {
+            provider.defaultSerializeValue(value, generator);
+        } else {
+            serializer.serialize(value, generator, provider);
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator generator, SerializerProvider provider,
+                                      JsonSerializer<Object> serializer, LocalDateTime value, char[] buffer) throws IOException {
+        if (value != null && serializer == null && isFourDigitYear(value.getYear())) {
+            int length = writeIsoDate(buffer, value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+            buffer[length++] = 'T';
+            length = writeIsoTime(buffer, length, value.getHour(), value.getMinute(), value.getSecond(), value.getNano());
+            generator.writeString(buffer, 0, length);
+        } else {
+            writeValue(generator, provider, serializer, value);
+        }
+    }
+
+    private static void writeDate(JsonGenerator generator, SerializerProvider provider,
+                                  JsonSerializer<Object> serializer, LocalDate value, char[] buffer) throws IOException {
+        if (value != null && serializer == null && isFourDigitYear(value.getYear())) {
+            generator.writeString(buffer, 0, writeIsoDate(buffer, value.getYear(), value.getMonthValue(), value.getDayOfMonth()));
+        } else {
+            writeValue(generator, provider, serializer, value);
+        }
+    }
+
+    // Fuera de 0000-9999 DateTimeFormatter agrega signo y mas digitos: eso lo resuelve el serializador
+    private static boolean isFourDigitYear(int year) {
+        return year >= 0 && year <= 9999;
+    }
+
+    // yyyy-MM-dd, igual que DateTimeFormatter.ISO_LOCAL_DATE
+    private static int writeIsoDate(char[] buffer, int year, int month, int day) {
+        writeDigits(buffer, 0, year / 100, 2);
+        writeDigits(buffer, 2, year % 100, 2);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, month, 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, day, 2);
+        return ISO_DATE_LENGTH;
+    }
+
+    // HH:mm:ss[.fraccion], igual que DateTimeFormatter.ISO_LOCAL_TIME: la fraccion va sin ceros al final
+    private static int writeIsoTime(char[] buffer, int offset, int hour, int minute, int second, int nano) {
+        writeDigits(buffer, offset, hour, 2);
+        buffer[offset + 2] = ':';
+        writeDigits(buffer, offset + 3, minute, 2);
+        buffer[offset + 5] = ':';
+        writeDigits(buffer, offset + 6, second, 2);
+        int length = offset + 8;
+        if (nano != 0) {
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            buffer[length++] = '.';
+            writeDigits(buffer, length, nano, digits);
+            length += digits;
+        }
+        return length;
+    }
+
+    private static void writeDigits(char[] buffer, int offset, int value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
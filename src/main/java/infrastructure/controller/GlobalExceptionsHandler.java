@@ -4,6 +4,7 @@ import infrastructure.exception.BusinessRuleViolationsException;
 import infrastructure.exception.DuplicateResourceException;
 import infrastructure.exception.ResourceNotFoundException;
 import jakarta.validation.ValidationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -37,6 +38,14 @@ public class GlobalExceptionsHandler {
                 .body(Map.of("error", ex.getMessage()));
     }
 
+    // Errores de validacion de parametros detectados en los casos de uso (ej: cursor o limite invalidos)
+    @ExceptionHandler(infrastructure.exception.ValidationException.class)
+    public ResponseEntity<Map<String, String>> handleValidation(infrastructure.exception.ValidationException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST) // 400
+                .body(Map.of("error", ex.getMessage()));
+    }
+
     // README: Duplicate resource (e.g., project name) -> 409 Conflict
     @ExceptionHandler(DuplicateResourceException.class)
     public ResponseEntity<Map<String, String>> handleDuplicateResource(DuplicateResourceException ex) {
@@ -45,6 +54,15 @@ public class GlobalExceptionsHandler {
                 .body(Map.of("error", ex.getMessage()));
     }
 
+    // Cualquier otra restriccion de la base que rechace una escritura (las conocidas, como el nombre
+    // de proyecto duplicado, ya llegan traducidas a DuplicateResourceException desde los repositorios)
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Map<String, String>> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT) // 409
+                .body(Map.of("error", "La operacion viola una restriccion de integridad de los datos"));
+    }
+
     // README: Business rule violation (...) -> 409 Conflict
     @ExceptionHandler(BusinessRuleViolationsException.class)
     public ResponseEntity<Map<String, String>> handleBusinessRuleViolation(BusinessRuleViolationsException ex) {
@@ -1,28 +1,56 @@
 package infrastructure.controller;
 
 import application.dto.request.ProjectRequestDTO;
+import application.dto.request.TaskCommentBatchItemDTO;
 import application.dto.request.TaskCommentRequestDTO;
 import application.dto.request.TaskRequestDTO;
+import application.dto.response.CommentBatchResponseDTO;
 import application.dto.response.CommentResponseDTO;
+import application.dto.response.CommentSearchPageResponseDTO;
+import application.dto.response.CommentSummaryBatchResponseDTO;
+import application.dto.response.CommentSummaryResponseDTO;
 import application.dto.response.ProjectResponseDTO;
+import application.dto.response.ProjectStatsResponseDTO;
+import application.dto.response.ProjectTaskCountsResponseDTO;
+import application.dto.response.TaskBatchResponseDTO;
+import application.dto.response.TaskPageResponseDTO;
+import application.dto.response.TaskSummaryPageResponseDTO;
+import application.dto.response.TaskSummaryResponseDTO;
+import application.dto.response.TaskSummaryWithCommentsResponseDTO;
 import application.dto.response.TaskResponseDTO;
 import application.usecase.CreateProjectUseCase;
 import application.usecase.FindTaskUseCase;
+import application.usecase.GetProjectStatsUseCase;
+import application.usecase.GetProjectTaskCountsUseCase;
 import domain.model.TaskStatus;
 import domain.repository.ProjectRepository;
 import application.dto.response.TaskWithCommentsResponseDTO;
 import application.usecase.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import infrastructure.config.BinaryFormatsConfig;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ForkJoinPool;
 
 @RestController
-@CrossOrigin(origins = "http://localhost:4200")
+@CrossOrigin(origins = "http://localhost:4200", exposedHeaders = HttpHeaders.ETAG)
 public class ProjectController {
 
     // Casos de uso que se van a utilizar para responder a los post y get
@@ -31,17 +59,47 @@ public class ProjectController {
     private final AddCommentToTaskUseCase addCommentToTaskUseCase;
     private final GetTaskByIdUseCase getTaskByIdUseCase;
     private final CreateTaskUseCase createTaskUseCase;
+    private final CreateTaskBatchUseCase createTaskBatchUseCase;
+    private final AddCommentsBatchUseCase addCommentsBatchUseCase;
+    private final GetProjectStatsUseCase getProjectStatsUseCase;
+    private final GetProjectTaskCountsUseCase getProjectTaskCountsUseCase;
+    private final SearchCommentsUseCase searchCommentsUseCase;
+
+    // Writers de Jackson para el streaming: no hacen flush por cada tarea (el generator ya escribe por bloques)
+    private final RepresentationEtagAdvice representationEtags;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter taskStreamWriter;
+    private final ObjectWriter taskCborStreamWriter;
 
     public ProjectController(CreateProjectUseCase createProjectUseCase,
                              GetTaskByIdUseCase getTaskByIdUseCase,
                              AddCommentToTaskUseCase addCommentToTaskUseCase,
                              FindTaskUseCase findTaskUseCase,
-                             CreateTaskUseCase createTaskUseCase) {
+                             CreateTaskUseCase createTaskUseCase,
+                             CreateTaskBatchUseCase createTaskBatchUseCase,
+                             AddCommentsBatchUseCase addCommentsBatchUseCase,
+                             GetProjectStatsUseCase getProjectStatsUseCase,
+                             GetProjectTaskCountsUseCase getProjectTaskCountsUseCase,
+                             SearchCommentsUseCase searchCommentsUseCase,
+                             RepresentationEtagAdvice representationEtags,
+                             ObjectMapper objectMapper,
+                             MappingJackson2CborHttpMessageConverter cborConverter) {
         this.createProjectUseCase = createProjectUseCase;
         this.addCommentToTaskUseCase = addCommentToTaskUseCase;
         this.findTaskUseCase = findTaskUseCase;
         this.getTaskByIdUseCase = getTaskByIdUseCase;
         this.createTaskUseCase = createTaskUseCase;
+        this.createTaskBatchUseCase = createTaskBatchUseCase;
+        this.addCommentsBatchUseCase = addCommentsBatchUseCase;
+        this.getProjectStatsUseCase = getProjectStatsUseCase;
+        this.getProjectTaskCountsUseCase = getProjectTaskCountsUseCase;
+        this.searchCommentsUseCase = searchCommentsUseCase;
+        this.representationEtags = representationEtags;
+        this.objectMapper = objectMapper;
+        this.taskStreamWriter = objectMapper.writerFor(TaskResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.taskCborStreamWriter = cborConverter.getObjectMapper().writerFor(TaskResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     // --- Endpoints de Proyectos ---
@@ -63,6 +121,26 @@ public class ProjectController {
         return ResponseEntity.created(location).body(response);
     }
 
+    /**
+     * Endpoint: GET /projects/{projectId}/stats
+     * Avance del proyecto: tareas, horas estimadas y comentarios por estado, y la ultima actividad.
+     * Se calcula con una consulta de agregados, sin leer las tareas.
+     */
+    @GetMapping("/projects/{projectId}/stats")
+    public ResponseEntity<ProjectStatsResponseDTO> getProjectStats(@PathVariable Long projectId) {
+        return ResponseEntity.ok(getProjectStatsUseCase.execute(projectId));
+    }
+
+    /**
+     * Endpoint: GET /projects/task-counts?ids=1,2,3
+     * Tareas y horas por estado de varios proyectos (listado de proyectos), desde los contadores
+     * que se mantienen al crear tareas.
+     */
+    @GetMapping("/projects/task-counts")
+    public ResponseEntity<List<ProjectTaskCountsResponseDTO>> getProjectTaskCounts(@RequestParam("ids") List<Long> projectIds) {
+        return ResponseEntity.ok(getProjectTaskCountsUseCase.execute(projectIds));
+    }
+
     // -- Endpoints de Task (tareas del proyecto)
 
     /**
@@ -89,6 +167,35 @@ public class ProjectController {
 
     }
 
+    // Vista liviana: POST /projects/{projectId}/tasks?view=summary (el proyecto solo por id y nombre)
+    @PostMapping(value = "/projects/{projectId}/tasks", params = "view=summary")
+    public ResponseEntity<TaskSummaryResponseDTO> createTaskSummary(
+            @PathVariable Long projectId,
+            @Valid @RequestBody TaskRequestDTO request
+    ) {
+        TaskSummaryResponseDTO response = createTaskUseCase.executeSummary(projectId, request);
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .replaceQuery(null)
+                .path("/{taskId}")
+                .buildAndExpand(response.id())
+                .toUri();
+        return ResponseEntity.created(location).body(response);
+    }
+
+    /**
+     * POST /projects/{projectId}/tasks:batch
+     * Crea muchas tareas en una sola llamada. Cada item se valida por separado:
+     * responde 200 con las tareas creadas (successes) y los items rechazados (failures),
+     * cada uno con su posicion en la lista recibida.
+     */
+    @PostMapping("/projects/{projectId}/tasks:batch")
+    public ResponseEntity<TaskBatchResponseDTO> createTasksBatch(
+            @PathVariable Long projectId,
+            @RequestBody List<TaskRequestDTO> request // sin @Valid: un item invalido no rechaza el lote
+    ) {
+        return ResponseEntity.ok(createTaskBatchUseCase.execute(projectId, request));
+    }
 
     // --- Endpoints de Comentarios ---
 
@@ -103,20 +210,191 @@ public class ProjectController {
         return ResponseEntity.status(201).body(response);
     }
 
+    // Vista liviana: la tarea del comentario solo por id
+    @PostMapping(value = "/projects/{projectId}/tasks/{taskId}/comments", params = "view=summary")
+    public ResponseEntity<CommentSummaryResponseDTO> addCommentToTaskSummary(
+            @PathVariable Long projectId, @PathVariable Long taskId, @Valid @RequestBody TaskCommentRequestDTO request) {
+        return ResponseEntity.status(201).body(addCommentToTaskUseCase.executeSummary(request, taskId));
+    }
+
+    /**
+     * POST /projects/{projectId}/tasks/{taskId}/comments:batch
+     * Agrega muchos comentarios a una tarea en una sola llamada (ej: importar historial).
+     * Responde 200 con los comentarios creados (successes) y los rechazados (failures) por indice.
+     */
+    @PostMapping("/projects/{projectId}/tasks/{taskId}/comments:batch")
+    public ResponseEntity<CommentBatchResponseDTO> addCommentsToTaskBatch(
+            @PathVariable Long projectId, @PathVariable Long taskId,
+            @RequestBody List<TaskCommentRequestDTO> request) { // sin @Valid: se valida cada item por separado
+        return ResponseEntity.ok(addCommentsBatchUseCase.execute(taskId, request));
+    }
+
+    @PostMapping(value = "/projects/{projectId}/tasks/{taskId}/comments:batch", params = "view=summary")
+    public ResponseEntity<CommentSummaryBatchResponseDTO> addCommentsToTaskBatchSummary(
+            @PathVariable Long projectId, @PathVariable Long taskId,
+            @RequestBody List<TaskCommentRequestDTO> request) {
+        return ResponseEntity.ok(addCommentsBatchUseCase.executeSummary(taskId, request));
+    }
+
     /**
-     * Endpoint para buscar las tareas que cumplan con un estado determinado
+     * POST /comments:batch
+     * Igual que el anterior pero cada item indica su tarea (taskId); las tareas se resuelven una sola vez.
+     */
+    @PostMapping("/comments:batch")
+    public ResponseEntity<CommentBatchResponseDTO> addCommentsBatch(
+            @RequestBody List<TaskCommentBatchItemDTO> request) {
+        return ResponseEntity.ok(addCommentsBatchUseCase.execute(request));
+    }
+
+    @PostMapping(value = "/comments:batch", params = "view=summary")
+    public ResponseEntity<CommentSummaryBatchResponseDTO> addCommentsBatchSummary(
+            @RequestBody List<TaskCommentBatchItemDTO> request) {
+        return ResponseEntity.ok(addCommentsBatchUseCase.executeSummary(request));
+    }
+
+    /**
+     * Endpoint: GET /search/comments?q=bloqueo deploy&projectId=1&limit=20&after={cursor}
+     * Comentarios que contienen todas las palabras, del mas relevante al menos relevante,
+     * opcionalmente solo los de un proyecto. Devuelve la pagina y el nextCursor para pedir la siguiente.
+     */
+    @GetMapping("/search/comments")
+    public ResponseEntity<CommentSearchPageResponseDTO> searchComments(@RequestParam("q") String query,
+                                                                       @RequestParam(value = "projectId", required = false) Long projectId,
+                                                                       @RequestParam(value = "limit", defaultValue = "" + SearchCommentsUseCase.DEFAULT_PAGE_SIZE) int limit,
+                                                                       @RequestParam(value = "after", required = false) String after) {
+        return ResponseEntity.ok(searchCommentsUseCase.execute(query, projectId, limit, after));
+    }
+
+    /**
+     * Endpoint para buscar las tareas que cumplan con un estado determinado.
+     *
+     * Las lecturas de tareas (listas, paginas y GET por id) responden con ETag. Con If-None-Match
+     * y la misma version se responde 304 sin leer ni serializar las tareas: solo se consulta la version.
      */
     @GetMapping("/tasks") // responde a un get a /projects/tasks
-    public ResponseEntity<List<TaskResponseDTO>> getTasksByStatus(@RequestParam("status") TaskStatus status) {
+    public ResponseEntity<List<TaskResponseDTO>> getTasksByStatus(@RequestParam("status") TaskStatus status, NativeWebRequest webRequest) {
+        if (isNotModified(webRequest, findTaskUseCase.version(status), List.class)) {
+            return null; // 304 Not Modified, ya armado por Spring
+        }
         List<TaskResponseDTO> responseDTOs = findTaskUseCase.execute(status);
         return ResponseEntity.ok(responseDTOs); //Retorna 200 Ok con la lista
     }
 
+    /**
+     * Vista liviana: GET /tasks?status=TODO&view=summary
+     * El proyecto se devuelve solo con id y nombre.
+     */
+    @GetMapping(value = "/tasks", params = {"view=summary", "!limit"})
+    public ResponseEntity<List<TaskSummaryResponseDTO>> getTaskSummariesByStatus(@RequestParam("status") TaskStatus status, NativeWebRequest webRequest) {
+        if (isNotModified(webRequest, findTaskUseCase.version(status), List.class)) {
+            return null;
+        }
+        return ResponseEntity.ok(findTaskUseCase.executeSummary(status));
+    }
+
+    /**
+     * Variante paginada (se activa al enviar limit): GET /tasks?status=TODO&limit=50&after={cursor}
+     * Devuelve la pagina y el nextCursor para pedir la siguiente.
+     */
+    @GetMapping(value = "/tasks", params = "limit")
+    public ResponseEntity<TaskPageResponseDTO> getTasksPageByStatus(@RequestParam("status") TaskStatus status,
+                                                                    @RequestParam("limit") int limit,
+                                                                    @RequestParam(value = "after", required = false) String after,
+                                                                    NativeWebRequest webRequest) {
+        if (isNotModified(webRequest, findTaskUseCase.version(status), TaskPageResponseDTO.class)) {
+            return null;
+        }
+        TaskPageResponseDTO page = findTaskUseCase.execute(status, limit, after);
+        return ResponseEntity.ok(page);
+    }
+
+    // Vista liviana de la variante paginada: GET /tasks?status=TODO&limit=50&view=summary
+    @GetMapping(value = "/tasks", params = {"limit", "view=summary"})
+    public ResponseEntity<TaskSummaryPageResponseDTO> getTaskSummariesPageByStatus(@RequestParam("status") TaskStatus status,
+                                                                                  @RequestParam("limit") int limit,
+                                                                                  @RequestParam(value = "after", required = false) String after,
+                                                                                  NativeWebRequest webRequest) {
+        if (isNotModified(webRequest, findTaskUseCase.version(status), TaskSummaryPageResponseDTO.class)) {
+            return null;
+        }
+        return ResponseEntity.ok(findTaskUseCase.executeSummary(status, limit, after));
+    }
+
+    /**
+     * Variante streaming: GET /tasks?status=TODO con Accept: application/x-ndjson
+     * Escribe una tarea por linea a medida que se leen de la base, con memoria constante.
+     */
+    @GetMapping(value = "/tasks", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTasksByStatus(@RequestParam("status") TaskStatus status) {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(new SerializedString("\n"));
+                writeTasks(status, taskStreamWriter, generator);
+                if (generator.getOutputContext().getEntryCount() > 0) {
+                    generator.writeRaw('\n'); // cada linea NDJSON termina en salto de linea, incluida la ultima
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // Variante binaria del streaming: GET /tasks?status=TODO con Accept: application/cbor-seq (un item CBOR por tarea, sin separadores)
+    @GetMapping(value = "/tasks", produces = "application/cbor-seq")
+    public ResponseEntity<StreamingResponseBody> streamTasksByStatusCbor(@RequestParam("status") TaskStatus status) {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = taskCborStreamWriter.createGenerator(out)) {
+                writeTasks(status, taskCborStreamWriter, generator);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(BinaryFormatsConfig.APPLICATION_CBOR_SEQ)
+                .body(body);
+    }
+
+    private void writeTasks(TaskStatus status, ObjectWriter writer, JsonGenerator generator) {
+        findTaskUseCase.execute(status, task -> {
+            try {
+                writer.writeValue(generator, task);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
     @GetMapping("/projects/{projectId}/tasks/{taskId}")
-    public ResponseEntity<TaskWithCommentsResponseDTO> getTaskById(@PathVariable Long projectId,@PathVariable Long taskId, @RequestParam(value = "comments", defaultValue = "false") boolean withComments) {
+    public ResponseEntity<TaskWithCommentsResponseDTO> getTaskById(@PathVariable Long projectId,@PathVariable Long taskId, @RequestParam(value = "comments", defaultValue = "false") boolean withComments,
+                                                                   @RequestParam(value = "commentsLimit", defaultValue = "" + GetTaskByIdUseCase.DEFAULT_COMMENTS_LIMIT) int commentsLimit,
+                                                                   @RequestParam(value = "commentsAfter", required = false) String commentsAfter,
+                                                                   NativeWebRequest webRequest) {
+        if (isNotModified(webRequest, getTaskByIdUseCase.version(taskId, withComments), TaskWithCommentsResponseDTO.class)) {
+            return null;
+        }
+        TaskWithCommentsResponseDTO response = getTaskByIdUseCase.execute(taskId, withComments, commentsLimit, commentsAfter);
+        return ResponseEntity.ok(response);
+    }
 
-        TaskWithCommentsResponseDTO response = getTaskByIdUseCase.execute(taskId, withComments);
+    // Vista liviana: GET /projects/{projectId}/tasks/{taskId}?view=summary[&comments=true]
+    @GetMapping(value = "/projects/{projectId}/tasks/{taskId}", params = "view=summary")
+    public ResponseEntity<TaskSummaryWithCommentsResponseDTO> getTaskSummaryById(@PathVariable Long projectId, @PathVariable Long taskId, @RequestParam(value = "comments", defaultValue = "false") boolean withComments,
+                                                                                 @RequestParam(value = "commentsLimit", defaultValue = "" + GetTaskByIdUseCase.DEFAULT_COMMENTS_LIMIT) int commentsLimit,
+                                                                                 @RequestParam(value = "commentsAfter", required = false) String commentsAfter,
+                                                                                 NativeWebRequest webRequest) {
+        if (isNotModified(webRequest, getTaskByIdUseCase.version(taskId, withComments), TaskSummaryWithCommentsResponseDTO.class)) {
+            return null;
+        }
+        TaskSummaryWithCommentsResponseDTO response = getTaskByIdUseCase.executeSummary(taskId, withComments, commentsLimit, commentsAfter);
         return ResponseEntity.ok(response);
     }
 
+    // Sin version la tarea no existe: se sigue con la busqueda completa, que responde el 404
+    private boolean isNotModified(NativeWebRequest webRequest, Optional<String> version, Class<?> bodyType) {
+        return version.isPresent() && representationEtags.isNotModified(webRequest, version.get(), bodyType);
+    }
+
+    private boolean isNotModified(NativeWebRequest webRequest, String version, Class<?> bodyType) {
+        return representationEtags.isNotModified(webRequest, version, bodyType);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package infrastructure.controller;
+
+import infrastructure.config.BinaryFormatsConfig;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ETag por representacion para las lecturas de tareas: la misma version en JSON, CBOR o Smile
+ * son bytes distintos, asi que el ETag lleva el formato ("-cbor", "-smile"; nada para JSON)
+ * y las respuestas llevan Vary: Accept para que un cache compartido no le entregue a un
+ * cliente JSON la copia guardada en CBOR.
+ *
+ * - isNotModified (desde el controller, antes de leer las tareas): responde 304 si If-None-Match
+ *   coincide con el ETag del formato que va a elegir la negociacion. Ese formato se le pregunta
+ *   al ContentNegotiationManager y a los conversores de Spring MVC, con el mismo criterio que
+ *   usa Spring para elegir el conversor.
+ * - beforeBodyWrite (200): escribe el ETag con el Content-Type que eligieron los conversores.
+ */
+@ControllerAdvice
+public class RepresentationEtagAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String VERSION_ATTRIBUTE = RepresentationEtagAdvice.class.getName() + ".version";
+
+    // Se buscan al atender: el adapter arma sus conversores buscando a este advice, y sin
+    // Spring MVC (contextos sin web, como los benchmarks) no existen
+    private final ObjectProvider<ContentNegotiationManager> contentNegotiationManager;
+    private final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter;
+
+    public RepresentationEtagAdvice(ObjectProvider<ContentNegotiationManager> contentNegotiationManager,
+                                    ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter) {
+        this.contentNegotiationManager = contentNegotiationManager;
+        this.handlerAdapter = handlerAdapter;
+    }
+
+    /**
+     * @param bodyType clase de la respuesta que armaria el endpoint
+     * @return true si ya se armo el 304 (con ETag y Vary)
+     */
+    public boolean isNotModified(NativeWebRequest webRequest, String version, Class<?> bodyType) {
+        webRequest.setAttribute(VERSION_ATTRIBUTE, version, RequestAttributes.SCOPE_REQUEST);
+        HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        MediaType selected = selectedContentType(webRequest, bodyType);
+        return selected != null && webRequest.checkNotModified(version + formatSuffix(selected));
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && response instanceof ServletServerHttpResponse servletResponse
+                && servletRequest.getServletRequest().getAttribute(VERSION_ATTRIBUTE) instanceof String version
+                && servletResponse.getServletResponse().getStatus() < 400) {
+            // setHeader: reemplaza el ETag que ya dejo checkNotModified
+            servletResponse.getServletResponse().setHeader(HttpHeaders.ETAG,
+                    "\"" + version + formatSuffix(selectedContentType) + "\"");
+        }
+        return body;
+    }
+
+    private static String formatSuffix(MediaType contentType) {
+        if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(contentType)) {
+            return "-cbor";
+        }
+        if (BinaryFormatsConfig.APPLICATION_SMILE.equalsTypeAndSubtype(contentType)) {
+            return "-smile";
+        }
+        return "";
+    }
+
+    // Como AbstractMessageConverterMethodProcessor: los tipos aceptados compatibles con los que
+    // pueden escribir los conversores, el mas especifico primero; null si la respuesta seria 406
+    private MediaType selectedContentType(NativeWebRequest webRequest, Class<?> bodyType) {
+        List<MediaType> acceptable;
+        try {
+            acceptable = contentNegotiationManager.getObject().resolveMediaTypes(webRequest);
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return null;
+        }
+        List<MediaType> producible = new ArrayList<>();
+        for (HttpMessageConverter<?> converter : handlerAdapter.getObject().getMessageConverters()) {
+            if (converter.canWrite(bodyType, null)) {
+                producible.addAll(converter.getSupportedMediaTypes(bodyType));
+            }
+        }
+        List<MediaType> compatible = new ArrayList<>();
+        for (MediaType requested : acceptable) {
+            for (MediaType candidate : producible) {
+                if (requested.isCompatibleWith(candidate)) {
+                    compatible.add(mostSpecific(requested, candidate));
+                }
+            }
+        }
+        MimeTypeUtils.sortBySpecificity(compatible);
+        return compatible.stream().filter(MediaType::isConcrete).findFirst().orElse(null);
+    }
+
+    private static MediaType mostSpecific(MediaType requested, MediaType candidate) {
+        MediaType produced = candidate.copyQualityValue(requested);
+        return requested.isLessSpecific(produced) ? produced : requested;
+    }
+}
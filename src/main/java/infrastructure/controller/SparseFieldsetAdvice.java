@@ -0,0 +1,103 @@
+package infrastructure.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sparse fieldsets: con ?fields=id,title,project.id la respuesta solo lleva esos campos.
+ *
+ * - Los campos anidados se piden con punto (project.id, comments.text).
+ * - En las listas el filtro se aplica a cada elemento; en las respuestas con envoltorio
+ *   (paginas, cargas masivas) se nombra tambien el envoltorio: items.id,nextCursor.
+ * - Pedir un objeto sin subcampos (project) lo devuelve completo. Los campos que no existen se ignoran.
+ *
+ * Las respuestas de error no se filtran. Se puede combinar con view=summary.
+ */
+@ControllerAdvice
+public class SparseFieldsetAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String FIELDS_PARAM = "fields";
+
+    private final ObjectMapper objectMapper;
+
+    public SparseFieldsetAdvice(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null
+                || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)
+                || servletResponse.getServletResponse().getStatus() >= 400) {
+            return body;
+        }
+        String fields = servletRequest.getServletRequest().getParameter(FIELDS_PARAM);
+        if (fields == null || fields.isBlank()) {
+            return body;
+        }
+
+        JsonNode tree = objectMapper.valueToTree(body);
+        retain(tree, parse(fields));
+        return tree;
+    }
+
+    // "id,project.id,project.name" -> id, project(id, name); un campo sin subcampos se devuelve completo
+    private static Fields parse(String fields) {
+        Fields root = new Fields();
+        for (String field : fields.split(",")) {
+            Fields level = root;
+            for (String name : field.strip().split("\\.")) {
+                if (name.isEmpty()) {
+                    break;
+                }
+                level = level.children.computeIfAbsent(name, key -> new Fields());
+            }
+        }
+        return root;
+    }
+
+    private static void retain(JsonNode node, Fields fields) {
+        if (fields.children.isEmpty()) {
+            return;
+        }
+        if (node instanceof ArrayNode array) {
+            array.forEach(element -> retain(element, fields));
+        } else if (node instanceof ObjectNode object) {
+            object.properties().removeIf(entry -> {
+                Fields children = fields.children.get(entry.getKey());
+                if (children == null) {
+                    return true;
+                }
+                retain(entry.getValue(), children);
+                return false;
+            });
+        }
+    }
+
+    private static final class Fields {
+        private final Map<String, Fields> children = new LinkedHashMap<>();
+    }
+}
@@ -11,7 +11,9 @@ import java.util.List;
 @Table(name = "projects")
 public class ProjectEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) //autogenerado incremental
+    // Secuencia con bloques de 50 ids (optimizador pooled): permite agrupar los INSERT en lotes
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+    @SequenceGenerator(name = "projects_seq", sequenceName = "projects_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -29,6 +31,11 @@ public class ProjectEntity {
 
     private String description; //Cambio JPA no maneja bien el tema de Optional
 
+    // Control optimista: Hibernate la incrementa en cada UPDATE. Tambien arma el ETag de las lecturas
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     //Definios la relacion: un proyecto tiene muchas tareas
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<TaskEntity> tasks = new ArrayList<>();
@@ -38,6 +45,8 @@ public class ProjectEntity {
     // Getters y Setters para todos los campos...
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
     public LocalDate getStartDate() { return startDate; }
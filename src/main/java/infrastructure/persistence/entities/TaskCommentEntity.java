@@ -8,7 +8,9 @@ import java.time.LocalDateTime;
 @Table(name = "task_comments")
 public class TaskCommentEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) //autogenerado incremental
+    // Secuencia con bloques de 50 ids (optimizador pooled): permite agrupar los INSERT en lotes
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_comments_seq")
+    @SequenceGenerator(name = "task_comments_seq", sequenceName = "task_comments_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
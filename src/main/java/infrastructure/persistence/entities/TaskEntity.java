@@ -8,10 +8,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", uniqueConstraints =
+        @UniqueConstraint(name = "uk_tasks_project_id_title", columnNames = {"project_id", "title"}))
 public class TaskEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) //autogenerado incremental
+    // Secuencia con bloques de 50 ids (optimizador pooled): permite agrupar los INSERT en lotes
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @Column
@@ -37,6 +40,19 @@ public class TaskEntity {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    // Control optimista: Hibernate la incrementa en cada UPDATE. Tambien arma el ETag de las lecturas
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Las mantiene TaskCommentRepositoryImp con un UPDATE propio (V11): Hibernate solo las lee,
+    // asi un save de la tarea no pisa los comentarios que se sumaron despues de cargarla
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long commentCount;
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime lastCommentAt;
+
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<TaskCommentEntity> comments = new ArrayList<>();
 
@@ -44,6 +60,8 @@ public class TaskEntity {
 
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
     public ProjectEntity getProject() { return project; }
@@ -58,6 +76,8 @@ public class TaskEntity {
     public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public Long getCommentCount() { return commentCount; }
+    public LocalDateTime getLastCommentAt() { return lastCommentAt; }
     public List<TaskCommentEntity> getComments() { return comments; }
     public void setComments(List<TaskCommentEntity> comments) { this.comments = comments; }
 }
@@ -2,23 +2,37 @@ package infrastructure.persistence.mapper;
 
 import domain.model.*;
 import infrastructure.persistence.entities.*;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
 public class PersistenceMapper {
+
+    // Solo para las referencias a los padres al escribir (getReference); leer no lo usa
+    private final EntityManager entityManager;
+
+    public PersistenceMapper(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
     //                      Project
+    // Las lecturas usan rehydrate: lo guardado ya paso las validaciones de create
     public Project toDomain(ProjectEntity entity) {
-        Project domain = Project.create(
+        return Project.rehydrate(
+                entity.getId(),
                 entity.getName(),
                 entity.getStartDate(),
                 entity.getEndDate(),
                 entity.getStatus(),
-                Optional.ofNullable(entity.getDescription())
+                Optional.ofNullable(entity.getDescription()),
+                entity.getVersion()
         );
-        domain.setId(entity.getId());
-        return domain;
     }
 
     public ProjectEntity toEntity(Project domain) {
@@ -29,20 +43,33 @@ public class PersistenceMapper {
         entity.setEndDate(domain.getEndDate());
         entity.setStatus(domain.getStatus());
         entity.setDescription(domain.getDescription().orElse(null));
+        // Con la version leida el save es un merge que falla si otro la cambio (y null, un alta)
+        entity.setVersion(domain.version());
         return entity;
     }
 
     //                      Task
     public Task toDomain(TaskEntity entity) {
-        Task domain = Task.create(
+        return toDomain(entity, projectReference(entity.getProject())); // El proyecto padre se mapea recien si se usa
+    }
+
+    // Para listas: las tareas de un mismo proyecto comparten la referencia (y el Project, una vez resuelto)
+    public Task toDomain(TaskEntity entity, IdentityMap identities) {
+        return toDomain(entity, identities.project(entity.getProject(), this));
+    }
+
+    // Despues de un save: se reutiliza la referencia al proyecto que ya tenia la tarea guardada
+    public Task toDomain(TaskEntity entity, LazyReference<Project> project) {
+        Task domain = Task.rehydrate(
                 entity.getId(),
                 entity.getTitle(),
-                toDomain(entity.getProject()), // Mapea el proyecto padre
+                project,
                 entity.getEstimatedHours(),
                 entity.getAssignee(),
                 entity.getStatus(),
                 entity.getCreatedAt(),
-                entity.getFinishedAt()
+                entity.getFinishedAt(),
+                entity.getVersion()
         );
         return domain;
     }
@@ -51,34 +78,123 @@ public class PersistenceMapper {
         TaskEntity entity = new TaskEntity();
         entity.setId(domain.getId());
         entity.setTitle(domain.getTitle());
-        entity.setProject(toEntity(domain.getProyect())); // Mapea el proyecto padre
+        entity.setProject(projectEntity(domain.projectReference()));
         entity.setEstimatedHours(domain.getEstimatedHours());
         entity.setAssignee(domain.getAssignee());
         entity.setStatus(domain.getStatus());
         entity.setCreatedAt(domain.getCreatedAt());
         entity.setFinishedAt(domain.getFinishedAt());
+        entity.setVersion(domain.version());
         return entity;
     }
 
     //                          TaskComment
     public TaskComment toDomain(TaskCommentEntity entity) {
-        TaskComment domain = TaskComment.create(
-                toDomain(entity.getTask()), // Mapea la tarea padre
+        return toDomain(entity, taskReference(entity.getTask())); // La tarea padre se mapea recien si se usa
+    }
+
+    // Para listas: los comentarios de una misma tarea comparten la referencia (y la Task, una vez resuelta)
+    public TaskComment toDomain(TaskCommentEntity entity, IdentityMap identities) {
+        return toDomain(entity, identities.task(entity.getTask(), this));
+    }
+
+    // Despues de un save: se reutiliza la referencia a la tarea que ya tenia el comentario guardado
+    public TaskComment toDomain(TaskCommentEntity entity, LazyReference<Task> task) {
+        return TaskComment.rehydrate(
+                entity.getId(),
+                task,
                 entity.getText(),
                 entity.getAuthor(),
                 entity.getCreatedAt()
         );
-        domain.setId(entity.getId());
-        return domain;
+    }
+
+    // Para listas de comentarios de una misma tarea: el padre ya mapeado se reutiliza
+    // (no se recorre entity.getTask(), asi que tampoco se inicializa el proxy lazy)
+    public TaskComment toDomain(TaskCommentEntity entity, Task task) {
+        return toDomain(entity, LazyReference.resolved(task, Task::getId));
     }
 
     public TaskCommentEntity toEntity(TaskComment domain) {
         TaskCommentEntity entity = new TaskCommentEntity();
         entity.setId(domain.getId());
-        entity.setTask(toEntity(domain.getTask())); // Mapea la tarea padre
+        entity.setTask(taskEntity(domain.taskReference()));
         entity.setText(domain.getText());
         entity.setAuthor(domain.getAuthor());
-        entity.setCreatedAt(domain.getCreatedAt());
+        // La columna es timestamp(6): se guarda con la precision de la base para que el valor
+        // devuelto sea el mismo que despues se lee (el cursor de comentarios compara createdAt)
+        entity.setCreatedAt(domain.getCreatedAt() == null ? null : domain.getCreatedAt().truncatedTo(ChronoUnit.MICROS));
         return entity;
     }
+
+    /*
+     * Referencias a los padres. Si la entidad padre ya esta cargada (join fetch, entity graph o
+     * la misma sesion) se mapea en el momento y la referencia queda resuelta: no hace falta
+     * sesion despues ni un loader por cada hijo. Solo un proxy sin inicializar se difiere:
+     * getId() no lo inicializa, y el padre se carga y se mapea recien en el primer get().
+     * Fuera de la sesion (open-in-view apagado) ese get() falla; los caminos que devuelven
+     * el padre lo traen con un entity graph.
+     */
+    private LazyReference<Project> projectReference(ProjectEntity project) {
+        if (project == null) {
+            return null;
+        }
+        if (Hibernate.isInitialized(project)) {
+            return LazyReference.resolved(toDomain(project), Project::getId);
+        }
+        return LazyReference.lazy(project.getId(), () -> toDomain(project));
+    }
+
+    private LazyReference<Task> taskReference(TaskEntity task) {
+        if (task == null) {
+            return null;
+        }
+        if (Hibernate.isInitialized(task)) {
+            return LazyReference.resolved(toDomain(task), Task::getId);
+        }
+        return LazyReference.lazy(task.getId(), () -> toDomain(task));
+    }
+
+    /**
+     * Mapa de identidad para mapear una lista: cada id de proyecto o de tarea corresponde a una
+     * sola referencia, asi que 5.000 tareas de 20 proyectos terminan apuntando a 20 Project.
+     * Vive lo que dura una consulta del repositorio; no es thread-safe.
+     */
+    public static final class IdentityMap {
+        private final Map<Long, LazyReference<Project>> projects = new HashMap<>();
+        private final Map<Long, LazyReference<Task>> tasks = new HashMap<>();
+
+        private LazyReference<Project> project(ProjectEntity entity, PersistenceMapper mapper) {
+            if (entity == null) {
+                return null;
+            }
+            return projects.computeIfAbsent(entity.getId(), id -> mapper.projectReference(entity));
+        }
+
+        private LazyReference<Task> task(TaskEntity entity, PersistenceMapper mapper) {
+            if (entity == null) {
+                return null;
+            }
+            return tasks.computeIfAbsent(entity.getId(), id -> mapper.taskReference(entity));
+        }
+    }
+
+    // Un padre ya guardado se escribe como referencia de Hibernate (getReference): la relacion es
+    // de solo referencia (sin cascade) y alcanza con el id para la clave foranea, sin consultar
+    // la fila. Una entidad armada a mano con el id no sirve: una referencia sin resolver no trae la version.
+    private ProjectEntity projectEntity(LazyReference<Project> project) {
+        if (project == null) {
+            return null;
+        }
+        Long id = project.getId();
+        return id == null ? toEntity(project.get()) : entityManager.getReference(ProjectEntity.class, id);
+    }
+
+    private TaskEntity taskEntity(LazyReference<Task> task) {
+        if (task == null) {
+            return null;
+        }
+        Long id = task.getId();
+        return id == null ? toEntity(task.get()) : entityManager.getReference(TaskEntity.class, id);
+    }
 }
@@ -0,0 +1,105 @@
+package infrastructure.persistence.repository.implementations;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import domain.model.Project;
+import domain.repository.ProjectRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decorador de ProjectRepositoryImp que guarda en memoria los proyectos leidos por id.
+ *
+ * Crear tareas y comentarios busca siempre el mismo conjunto chico de proyectos activos:
+ * con la cache, findById no vuelve a la base ni reconstruye el Project mientras la entrada viva.
+ * Los proyectos no se modifican ni se borran despues de creados, asi que alcanza con
+ * desalojar por tamaño y por tiempo (app.cache.projects.*). Aun asi la copia cacheada no decide
+ * reglas: que el proyecto no este CLOSED lo validan en la base los INSERT de tareas
+ * (TaskRepository.insertIfAllowed / insertAllIfAllowed).
+ *
+ * Las escrituras en la cache se hacen al confirmar la transaccion en curso (o en el momento si no
+ * hay ninguna): un proyecto guardado en una transaccion que despues se deshace nunca queda cacheado.
+ */
+@Primary
+@Component
+public class CachingProjectRepository implements ProjectRepository {
+    public static final String CACHE_NAME = "projects";
+
+    private final ProjectRepository delegate;
+    private final Cache<Long, Project> cache;
+
+    @Autowired
+    public CachingProjectRepository(ProjectRepositoryImp delegate,
+                                    @Value("${app.cache.projects.maximum-size:1000}") long maximumSize,
+                                    @Value("${app.cache.projects.ttl:10m}") Duration ttl,
+                                    MeterRegistry meterRegistry) {
+        this(delegate, maximumSize, ttl, Ticker.systemTicker(), meterRegistry);
+    }
+
+    CachingProjectRepository(ProjectRepository delegate, long maximumSize, Duration ttl,
+                             Ticker ticker, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        // cache.gets (hit/miss), cache.evictions, cache.size, ... con tag cache=projects
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Project save(Project newProject) {
+        Project saved = delegate.save(newProject);
+        putAfterCommit(saved);
+        return saved;
+    }
+
+    @Override
+    public List<Project> saveAll(List<Project> newProjects) {
+        List<Project> saved = delegate.saveAll(newProjects);
+        saved.forEach(this::putAfterCommit);
+        return saved;
+    }
+
+    @Override
+    public Optional<Project> findById(Long id) {
+        Project cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // Los ids inexistentes no se cachean: el proyecto puede crearse despues
+        Optional<Project> loaded = delegate.findById(id);
+        loaded.ifPresent(this::putAfterCommit);
+        return loaded;
+    }
+
+    private void putAfterCommit(Project project) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.put(project.getId(), project);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.put(project.getId(), project);
+            }
+        });
+    }
+
+    Cache<Long, Project> cache() {
+        return cache;
+    }
+}
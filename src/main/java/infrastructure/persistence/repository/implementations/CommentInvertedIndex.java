@@ -0,0 +1,398 @@
+package infrastructure.persistence.repository.implementations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Indice invertido en memoria: por cada termino, los comentarios que lo contienen con la cantidad
+ * de apariciones. Los terminos son el texto en minusculas, cortado en todo lo que no sea letra
+ * o digito. Se parece a la configuracion 'simple' de PostgreSQL (sin raices ni stopwords) pero no
+ * es igual: el parser de PostgreSQL deja enteros los mails, hosts y decimales, y de "foo-bar" saca
+ * tambien "foo-bar" (ver CommentInvertedIndexTest).
+ *
+ * Cada comentario recibe un numero interno en orden de llegada, y sus datos (id, proyecto, largo)
+ * van en arreglos primitivos indexados por ese numero: las listas de cada termino son int[] que
+ * siempre crecen por el final y ya quedan ordenadas, y una busqueda no arma un Long ni consulta
+ * un mapa por cada candidato.
+ *
+ * Una busqueda recorre la lista del termino menos frecuente y busca el resto de los terminos
+ * con busqueda binaria en sus listas, guardando solo los mejores resultados (una cola de
+ * tamaño limit). La lista se recorre por el aporte de ese termino al puntaje, de mayor a menor
+ * (una vista ordenada que se arma en la primera busqueda y se rehace cuando las altas nuevas,
+ * que se recorren aparte, pasan de un octavo de la lista): el cursor de la pagina anterior salta
+ * con busqueda binaria los comentarios que ya no pueden quedar despues de el, y el recorrido
+ * termina cuando ni sumando el aporte maximo de los otros terminos se supera al peor de la cola.
+ *
+ * El puntaje es el de BM25 sin el factor idf: la frecuencia de cada termino en el comentario,
+ * saturada y normalizada por el largo del texto. Depende solo del comentario y de la busqueda,
+ * no del resto del indice, asi el cursor (puntaje, id) de una pagina sigue valiendo aunque
+ * entren comentarios nuevos (como ts_rank en PostgreSQL). Como todos los resultados contienen
+ * todos los terminos, el idf casi no cambiaria el orden.
+ *
+ * Thread-safe: las busquedas corren en paralelo, las altas toman el lock de escritura.
+ */
+final class CommentInvertedIndex {
+
+    // Saturacion de la frecuencia y peso del largo del texto (valores habituales de BM25)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Largo (en terminos) de un comentario tipico: en este largo la normalizacion es neutra
+    private static final double REFERENCE_LENGTH = 16;
+    // Altas sin ordenar que se toleran en una lista antes de rehacer su vista ordenada (minimo; si no, un octavo)
+    private static final int MIN_UNRANKED = 64;
+    // Margen para las cotas del puntaje: la suma de los aportes maximos se redondea en otro orden
+    private static final double EPSILON = 1e-9;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Mejor resultado primero: puntaje descendente, id descendente
+    static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score)
+            .thenComparingLong(Hit::id)
+            .reversed();
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    // Solo para ignorar los comentarios repetidos al agregar
+    private final Map<Long, Integer> documentNumbers = new HashMap<>();
+    private long[] ids = new long[1024];
+    private long[] projectIds = new long[1024];
+    private int[] lengths = new int[1024];
+    private int documents;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    record Hit(long id, double score) { }
+
+    /**
+     * @return false si el comentario ya estaba en el indice (la carga inicial y las altas pueden cruzarse)
+     */
+    boolean add(long id, long projectId, String text) {
+        List<String> terms = tokenize(text);
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : terms) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (documentNumbers.putIfAbsent(id, documents) != null) {
+                return false;
+            }
+            if (documents == ids.length) {
+                ids = Arrays.copyOf(ids, documents * 2);
+                projectIds = Arrays.copyOf(projectIds, documents * 2);
+                lengths = Arrays.copyOf(lengths, documents * 2);
+            }
+            int document = documents++;
+            ids[document] = id;
+            projectIds[document] = projectId;
+            lengths[document] = terms.size();
+            double norm = norm(terms.size());
+            frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new Postings())
+                    .add(document, frequency, contribution(frequency, norm)));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Comentarios que contienen todos los terminos de la busqueda, en orden de RANKING.
+     *
+     * @param afterScore puntaje del ultimo resultado ya devuelto, o null para empezar por el mejor
+     * @param afterId id del ultimo resultado ya devuelto
+     */
+    List<Hit> search(String query, Long projectId, Double afterScore, Long afterId, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        // El peor de los mejores queda primero, para descartarlo cuando se pasa del limite
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[terms.size()];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = postings.get(terms.get(i));
+                if (lists[i] == null) {
+                    return List.of();
+                }
+            }
+            int rarest = 0;
+            for (int i = 1; i < lists.length; i++) {
+                if (lists[i].size() < lists[rarest].size()) {
+                    rarest = i;
+                }
+            }
+            // Cota de lo que pueden sumar los demas terminos a un comentario de la lista recorrida
+            double othersMax = 0;
+            for (int i = 0; i < lists.length; i++) {
+                if (i != rarest) {
+                    othersMax += lists[i].maxImpact();
+                }
+            }
+            Postings candidates = lists[rarest];
+            Ranked ranked = ranked(candidates);
+            Collector collector = new Collector(lists, rarest, projectId, afterScore, afterId, limit, best);
+
+            // 1) Las altas posteriores a la vista ordenada, de las mas nuevas a las mas viejas
+            for (int position = candidates.size() - 1; position >= ranked.count(); position--) {
+                collector.accept(position);
+            }
+
+            // 2) La vista ordenada, desde el cursor: el puntaje nunca es menor que el aporte del termino
+            //    recorrido, asi que los aportes mayores que afterScore ya quedaron en paginas anteriores
+            int from = afterScore == null ? 0 : seek(ranked, afterScore, afterId, lists.length == 1);
+            for (int k = from; k < ranked.count(); k++) {
+                if (best.size() == limit && ranked.impacts()[k] + othersMax < best.peek().score() - EPSILON) {
+                    break;
+                }
+                collector.accept(ranked.positions()[k]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    // Lo mismo que RANKING.compare(hit, other) > 0, sin armar los Hit
+    private static boolean ranksAfter(double score, long id, double otherScore, long otherId) {
+        return score < otherScore || (score == otherScore && id < otherId);
+    }
+
+    /*
+     * Evalua los comentarios de la lista recorrida: los que tienen todos los terminos, son del
+     * proyecto y quedan despues del cursor entran a la cola si superan al peor de ella.
+     */
+    private final class Collector {
+        private final Postings[] lists;
+        private final int rarest;
+        private final Long projectId;
+        private final Double afterScore;
+        private final Long afterId;
+        private final int limit;
+        private final PriorityQueue<Hit> best;
+        private final int[] frequencies;
+
+        Collector(Postings[] lists, int rarest, Long projectId, Double afterScore, Long afterId, int limit,
+                  PriorityQueue<Hit> best) {
+            this.lists = lists;
+            this.rarest = rarest;
+            this.projectId = projectId;
+            this.afterScore = afterScore;
+            this.afterId = afterId;
+            this.limit = limit;
+            this.best = best;
+            this.frequencies = new int[lists.length];
+        }
+
+        void accept(int position) {
+            int document = lists[rarest].documentAt(position);
+            if (projectId != null && projectIds[document] != projectId) {
+                return;
+            }
+            frequencies[rarest] = lists[rarest].frequencyAt(position);
+            if (!frequencies(document)) {
+                return;
+            }
+            long id = ids[document];
+            double score = score(frequencies, lengths[document]);
+            if (afterScore != null && !ranksAfter(score, id, afterScore, afterId)) {
+                return;
+            }
+            if (best.size() == limit && !ranksAfter(best.peek().score(), best.peek().id(), score, id)) {
+                return;
+            }
+            best.add(new Hit(id, score));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        // Frecuencia de cada termino en el comentario; false si falta alguno
+        private boolean frequencies(int document) {
+            for (int i = 0; i < lists.length; i++) {
+                if (i == rarest) {
+                    continue;
+                }
+                int position = lists[i].search(document);
+                if (position < 0) {
+                    return false;
+                }
+                frequencies[i] = lists[i].frequencyAt(position);
+            }
+            return true;
+        }
+    }
+
+    // Primera posicion de la vista que puede quedar despues del cursor. Con un solo termino el
+    // aporte es el puntaje y el salto es exacto; con varios, el puntaje es mayor que el aporte y
+    // solo se saltean los aportes mayores que afterScore (el resto lo filtra el Collector)
+    private int seek(Ranked ranked, double afterScore, long afterId, boolean exact) {
+        int low = 0;
+        int high = ranked.count();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            double impact = ranked.impacts()[middle];
+            boolean before = impact > afterScore
+                    || (exact && impact == afterScore && ids[ranked.document(middle)] >= afterId);
+            if (before) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // Vista de la lista ordenada por aporte (y por id, como RANKING); se rehace si quedo muy atras
+    private Ranked ranked(Postings list) {
+        Ranked ranked = list.ranked;
+        if (ranked != null && list.size() - ranked.count() <= Math.max(MIN_UNRANKED, ranked.count() / 8)) {
+            return ranked;
+        }
+        // Las busquedas tienen el lock de lectura: las altas esperan, y dos busquedas no la arman a la vez
+        synchronized (list) {
+            ranked = list.ranked;
+            if (ranked == null || list.size() - ranked.count() > Math.max(MIN_UNRANKED, ranked.count() / 8)) {
+                ranked = rank(list);
+                list.ranked = ranked;
+            }
+            return ranked;
+        }
+    }
+
+    private Ranked rank(Postings list) {
+        int count = list.size();
+        double[] impacts = new double[count];
+        Integer[] order = new Integer[count];
+        for (int position = 0; position < count; position++) {
+            impacts[position] = contribution(list.frequencyAt(position), norm(lengths[list.documentAt(position)]));
+            order[position] = position;
+        }
+        Arrays.sort(order, (a, b) -> impacts[a] != impacts[b]
+                ? Double.compare(impacts[b], impacts[a])
+                : Long.compare(ids[list.documentAt(b)], ids[list.documentAt(a)]));
+
+        int[] positions = new int[count];
+        double[] sortedImpacts = new double[count];
+        int[] documents = new int[count];
+        for (int k = 0; k < count; k++) {
+            positions[k] = order[k];
+            sortedImpacts[k] = impacts[order[k]];
+            documents[k] = list.documentAt(order[k]);
+        }
+        return new Ranked(positions, sortedImpacts, documents);
+    }
+
+    // Se suma siempre en el orden de la busqueda: el mismo comentario da exactamente el mismo puntaje.
+    // Con un solo termino el puntaje es exactamente su contribution
+    static double score(int[] frequencies, int length) {
+        double norm = norm(length);
+        double score = 0;
+        for (int frequency : frequencies) {
+            score += contribution(frequency, norm);
+        }
+        return score;
+    }
+
+    private static double norm(int length) {
+        return K1 * (1 - B + B * length / REFERENCE_LENGTH);
+    }
+
+    // Aporte de un termino al puntaje de un comentario
+    private static double contribution(int frequency, double norm) {
+        return frequency * (K1 + 1) / (frequency + norm);
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String term : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /*
+     * Las posiciones [0, count) de una lista, ordenadas por aporte descendente y despues por id
+     * descendente: impacts y documents van alineados con positions para no saltar entre arreglos.
+     */
+    private record Ranked(int[] positions, double[] impacts, int[] documents) {
+        int count() {
+            return positions.length;
+        }
+
+        int document(int k) {
+            return documents[k];
+        }
+    }
+
+    // Numeros internos de comentario, ordenados porque siempre se agrega el ultimo asignado
+    private static final class Postings {
+        private int[] documents = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+        // El mayor aporte al puntaje de un comentario de la lista (cota para cortar las busquedas)
+        private double maxImpact;
+        // Vista ordenada por aporte de las primeras posiciones; la arma CommentInvertedIndex.ranked
+        private volatile Ranked ranked;
+
+        void add(int document, int frequency, double impact) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size] = document;
+            frequencies[size] = frequency;
+            size++;
+            maxImpact = Math.max(maxImpact, impact);
+        }
+
+        // Como Arrays.binarySearch, en toda la lista
+        int search(int document) {
+            return Arrays.binarySearch(documents, 0, size, document);
+        }
+
+        double maxImpact() {
+            return maxImpact;
+        }
+
+        int documentAt(int position) {
+            return documents[position];
+        }
+
+        int frequencyAt(int position) {
+            return frequencies[position];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
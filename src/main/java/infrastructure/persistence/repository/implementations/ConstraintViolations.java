@@ -0,0 +1,26 @@
+package infrastructure.persistence.repository.implementations;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Identifica que restriccion de la base rechazo una escritura, por el nombre que le dan
+ * las migraciones (ej: uk_projects_name). Cada driver arma el nombre a su manera
+ * (H2 le agrega el indice y la tabla), por eso se compara por contenido.
+ */
+final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    static boolean isViolationOf(DataIntegrityViolationException exception, String constraintName) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraintName);
+            }
+        }
+        return false;
+    }
+}
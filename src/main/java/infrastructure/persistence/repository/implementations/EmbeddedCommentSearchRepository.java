@@ -0,0 +1,114 @@
+package infrastructure.persistence.repository.implementations;
+
+import domain.model.CommentSearchHit;
+import domain.model.TaskComment;
+import domain.model.TaskCommentSummary;
+import domain.repository.CommentSearchRepository;
+import infrastructure.persistence.repository.interfaces.ITaskCommentRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Busqueda de comentarios con un indice invertido en memoria (CommentInvertedIndex), para H2 y
+ * las ejecuciones locales (app.comment-search.engine=embedded, el valor por defecto).
+ * En PostgreSQL se usa PostgresCommentSearchRepository.
+ *
+ * El indice se carga al iniciar recorriendo task_comments y recibe los comentarios que guardan
+ * AddCommentToTaskUseCase y AddCommentsBatchUseCase cuando su transaccion se confirma (un rollback
+ * no deja nada en el indice). Hasta que termina la carga inicial una busqueda puede no encontrar
+ * comentarios viejos. Los comentarios que guarde otra instancia de la aplicacion no llegan a este
+ * indice: con mas de una instancia hay que usar el motor de PostgreSQL.
+ *
+ * El indice solo guarda ids; el texto de los resultados se lee de la base por clave primaria.
+ */
+@Component
+@ConditionalOnProperty(name = "app.comment-search.engine", havingValue = "embedded", matchIfMissing = true)
+public class EmbeddedCommentSearchRepository implements CommentSearchRepository {
+
+    private static final String LOAD_SQL = """
+            select c.id, c.text, t.project_id
+            from task_comments c
+            join tasks t on t.id = c.task_id
+            """;
+
+    private final CommentInvertedIndex index = new CommentInvertedIndex();
+    private final JdbcTemplate jdbcTemplate;
+    private final ITaskCommentRepository commentRepository;
+
+    public EmbeddedCommentSearchRepository(JdbcTemplate jdbcTemplate, ITaskCommentRepository commentRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.commentRepository = commentRepository;
+    }
+
+    // Los comentarios que se guardan mientras tanto ya entran por index(): add ignora los repetidos
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        jdbcTemplate.query(LOAD_SQL, rs -> {
+            index.add(rs.getLong("id"), rs.getLong("project_id"), rs.getString("text"));
+        });
+    }
+
+    @Override
+    public void index(List<TaskComment> comments) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(comments);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(comments);
+            }
+        });
+    }
+
+    private void add(List<TaskComment> comments) {
+        for (TaskComment comment : comments) {
+            Long projectId = comment.taskReference().get().projectReference().getId();
+            index.add(comment.getId(), projectId, comment.getText());
+        }
+    }
+
+    @Override
+    public List<CommentSearchHit> search(String query, Long projectId, Double afterScore, Long afterId, int limit) {
+        List<CommentSearchHit> results = new ArrayList<>(limit);
+        // Un comentario borrado por fuera de la aplicacion sigue en el indice: se omite y se piden los
+        // que faltan a continuacion del ultimo, para no devolver menos de limit si hay mas resultados
+        // (el use case pide uno de mas para saber si existe una pagina siguiente)
+        while (results.size() < limit) {
+            int missing = limit - results.size();
+            List<CommentInvertedIndex.Hit> hits = index.search(query, projectId, afterScore, afterId, missing);
+            if (hits.isEmpty()) {
+                break;
+            }
+
+            Map<Long, TaskCommentSummary> commentsById = commentRepository
+                    .findSummariesByIdIn(hits.stream().map(CommentInvertedIndex.Hit::id).toList()).stream()
+                    .collect(Collectors.toMap(TaskCommentSummary::id, Function.identity()));
+            for (CommentInvertedIndex.Hit hit : hits) {
+                TaskCommentSummary comment = commentsById.get(hit.id());
+                if (comment != null) {
+                    results.add(new CommentSearchHit(comment, hit.score()));
+                }
+            }
+
+            if (hits.size() < missing) {
+                break; // no hay mas en el indice
+            }
+            afterScore = hits.getLast().score();
+            afterId = hits.getLast().id();
+        }
+        return results;
+    }
+}
@@ -0,0 +1,79 @@
+package infrastructure.persistence.repository.implementations;
+
+import domain.model.CommentSearchHit;
+import domain.model.TaskComment;
+import domain.model.TaskCommentSummary;
+import domain.repository.CommentSearchRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Busqueda de comentarios con el indice GIN sobre task_comments.search_vector
+ * (db/vendor/postgresql/V8__busqueda_de_comentarios.sql), con app.comment-search.engine=postgresql.
+ *
+ * search_vector es una columna generada: PostgreSQL la actualiza en el mismo INSERT del
+ * comentario, asi que index() no tiene nada que hacer. Los terminos salen con la configuracion
+ * 'simple' (minusculas, sin raices ni stopwords) y plainto_tsquery exige todos los terminos de la
+ * busqueda. El indice embebido corta distinto los mails, hosts, decimales y palabras con guion.
+ *
+ * El puntaje es ts_rank: depende solo del comentario y de la busqueda, asi el cursor
+ * (puntaje, id) sigue valiendo aunque entren comentarios nuevos.
+ */
+@Component
+@ConditionalOnProperty(name = "app.comment-search.engine", havingValue = "postgresql")
+public class PostgresCommentSearchRepository implements CommentSearchRepository {
+
+    private static final String SEARCH_SQL = """
+            select id, task_id, text, author, created_at, score
+            from (select c.id, c.task_id, c.text, c.author, c.created_at,
+                         ts_rank(c.search_vector, query) as score
+                  from task_comments c
+                  %s
+                  cross join plainto_tsquery('simple', :query) query
+                  where c.search_vector @@ query %s) ranked
+            %s
+            order by score desc, id desc
+            limit :limit
+            """;
+
+    private static final String PROJECT_JOIN = "join tasks t on t.id = c.task_id";
+    private static final String PROJECT_FILTER = "and t.project_id = :projectId";
+    // ts_rank devuelve real: el puntaje del cursor se compara con el mismo tipo
+    private static final String AFTER_FILTER = "where score < cast(:afterScore as real) "
+            + "or (score = cast(:afterScore as real) and id < :afterId)";
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public PostgresCommentSearchRepository(JdbcTemplate jdbcTemplate) {
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public void index(List<TaskComment> comments) {
+        // La columna generada search_vector ya se calculo al guardar
+    }
+
+    @Override
+    public List<CommentSearchHit> search(String query, Long projectId, Double afterScore, Long afterId, int limit) {
+        String sql = SEARCH_SQL.formatted(
+                projectId == null ? "" : PROJECT_JOIN,
+                projectId == null ? "" : PROJECT_FILTER,
+                afterScore == null ? "" : AFTER_FILTER);
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource("query", query)
+                .addValue("limit", limit)
+                .addValue("projectId", projectId)
+                .addValue("afterScore", afterScore == null ? null : afterScore.floatValue())
+                .addValue("afterId", afterId);
+
+        return namedJdbcTemplate.query(sql, parameters, (rs, rowNum) -> new CommentSearchHit(
+                new TaskCommentSummary(rs.getLong("id"), rs.getLong("task_id"), rs.getString("text"),
+                        rs.getString("author"), rs.getTimestamp("created_at").toLocalDateTime()),
+                rs.getFloat("score")));
+    }
+}
@@ -2,15 +2,22 @@ package infrastructure.persistence.repository.implementations;
 
 import domain.model.Project;
 import domain.repository.ProjectRepository;
+import infrastructure.exception.DuplicateResourceException;
 import infrastructure.persistence.entities.ProjectEntity;
 import infrastructure.persistence.mapper.PersistenceMapper;
 import infrastructure.persistence.repository.interfaces.IProjectRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 public class ProjectRepositoryImp implements ProjectRepository {
+    // V1__esquema_inicial.sql; en las bases tomadas como linea base, V10__nombre_fijo_del_nombre_unico_de_proyectos
+    private static final String UNIQUE_NAME_CONSTRAINT = "uk_projects_name";
+
     private final IProjectRepository jpaRepository;
     private final PersistenceMapper mapper;
 
@@ -19,23 +26,41 @@ public class ProjectRepositoryImp implements ProjectRepository {
         this.mapper = mapper;
     }
 
-    @Override
-    public boolean existsByName(String name) {
-        return jpaRepository.existsByName(name);
-    }
-
     @Override
     public Project save(Project newProject) {
         //Convertir Dominio -> Entidad
         ProjectEntity entityToSave = mapper.toEntity(newProject);
 
-        //Guardar con JPA
-        ProjectEntity savedEntity = jpaRepository.save(entityToSave);
+        //Guardar con JPA: el flush manda el INSERT ahora para que el indice unico del nombre
+        //responda en este punto y no al confirmar la transaccion
+        ProjectEntity savedEntity;
+        try {
+            savedEntity = jpaRepository.saveAndFlush(entityToSave);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, UNIQUE_NAME_CONSTRAINT)) {
+                throw new DuplicateResourceException("Ya existe un proyecto con el mismo nombre");
+            }
+            throw e;
+        }
 
         //Convertir Entidad -> Dominio
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<Project> saveAll(List<Project> newProjects) {
+        List<ProjectEntity> entitiesToSave = newProjects.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+
+        // Un solo flush al final: los INSERT salen en lotes de hibernate.jdbc.batch_size
+        List<ProjectEntity> savedEntities = jpaRepository.saveAll(entitiesToSave);
+
+        return savedEntities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Project> findById(Long id) {
         Optional<ProjectEntity> optionalEntity = jpaRepository.findById(id);
@@ -0,0 +1,34 @@
+package infrastructure.persistence.repository.implementations;
+
+import domain.repository.ProjectTaskCountersRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Corrige cada reconcile-interval los contadores de tareas que no coinciden con las tareas
+ * (ProjectTaskCountersRepository.reconcile). La metrica project.task.counters.repaired cuenta
+ * los pares (proyecto, estado) corregidos: si crece, algun camino crea o cambia tareas sin
+ * actualizar los contadores.
+ */
+@Component
+public class ProjectTaskCountersReconciler {
+    private final ProjectTaskCountersRepository countersRepository;
+    private final Counter repaired;
+
+    public ProjectTaskCountersReconciler(ProjectTaskCountersRepository countersRepository, MeterRegistry meterRegistry) {
+        this.countersRepository = countersRepository;
+        this.repaired = Counter.builder("project.task.counters.repaired")
+                .description("Contadores de tareas por proyecto y estado corregidos por la reconciliacion")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${app.task-counters.reconcile-interval:PT1H}",
+            fixedDelayString = "${app.task-counters.reconcile-interval:PT1H}")
+    public int reconcile() {
+        int count = countersRepository.reconcile();
+        repaired.increment(count);
+        return count;
+    }
+}
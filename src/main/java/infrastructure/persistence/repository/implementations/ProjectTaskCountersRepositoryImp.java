@@ -0,0 +1,153 @@
+package infrastructure.persistence.repository.implementations;
+
+import domain.model.ProjectTaskCount;
+import domain.model.TaskStatus;
+import domain.repository.ProjectTaskCountersRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Contadores de V7__contadores_de_tareas_por_proyecto.sql.
+ *
+ * Cada (proyecto, estado) tiene hasta app.task-counters.stripes filas. Un alta suma en un stripe
+ * elegido al azar: dos transacciones que crean tareas en el mismo proyecto solo se esperan si
+ * caen en la misma fila, en lugar de serializarse todas sobre un unico contador hasta el commit.
+ * Las filas se crean la primera vez que se usa el stripe.
+ */
+@Component
+public class ProjectTaskCountersRepositoryImp implements ProjectTaskCountersRepository {
+
+    // Tope de parametros por consulta IN (igual que en TaskRepositoryImp)
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    private static final String INCREMENT_SQL = """
+            update project_task_counters
+            set tasks = tasks + ?, estimated_hours = estimated_hours + ?
+            where project_id = ? and status = ? and stripe = ?
+            """;
+
+    // Si otra transaccion creo la misma fila primero, no se inserta nada y se vuelve a intentar el UPDATE
+    private static final String INSERT_SQL = """
+            insert into project_task_counters (project_id, status, stripe, tasks, estimated_hours)
+            values (?, ?, ?, ?, ?)
+            on conflict do nothing
+            """;
+
+    private static final String FIND_BY_PROJECT_IDS_SQL = """
+            select project_id, status, sum(tasks) as tasks, sum(estimated_hours) as estimated_hours
+            from project_task_counters
+            where project_id in (:projectIds)
+            group by project_id, status
+            """;
+
+    // Diferencias entre las tareas y los contadores, en una sola sentencia (una sola foto de la base)
+    private static final String FIND_DRIFT_SQL = """
+            select project_id, status
+            from (select project_id, status, count(*) as tasks, sum(estimated_hours) as estimated_hours
+                  from tasks
+                  group by project_id, status
+                  union all
+                  select project_id, status, -sum(tasks), -sum(estimated_hours)
+                  from project_task_counters
+                  group by project_id, status) d
+            group by project_id, status
+            having sum(tasks) <> 0 or sum(estimated_hours) <> 0
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int stripes;
+
+    public ProjectTaskCountersRepositoryImp(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                            @Value("${app.task-counters.stripes:8}") int stripes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stripes = stripes;
+    }
+
+    @Override
+    public void add(Long projectId, TaskStatus status, long tasks, long estimatedHours) {
+        add(projectId, status, ThreadLocalRandom.current().nextInt(stripes), tasks, estimatedHours);
+    }
+
+    private void add(Long projectId, TaskStatus status, int stripe, long tasks, long estimatedHours) {
+        if (jdbcTemplate.update(INCREMENT_SQL, tasks, estimatedHours, projectId, status.name(), stripe) > 0) {
+            return;
+        }
+        if (jdbcTemplate.update(INSERT_SQL, projectId, status.name(), stripe, tasks, estimatedHours) == 0) {
+            jdbcTemplate.update(INCREMENT_SQL, tasks, estimatedHours, projectId, status.name(), stripe);
+        }
+    }
+
+    @Override
+    public List<ProjectTaskCount> findByProjectIds(Collection<Long> projectIds) {
+        List<Long> pending = new ArrayList<>(new HashSet<>(projectIds));
+        List<ProjectTaskCount> counts = new ArrayList<>();
+        for (int from = 0; from < pending.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = pending.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, pending.size()));
+            counts.addAll(namedJdbcTemplate.query(FIND_BY_PROJECT_IDS_SQL,
+                    new MapSqlParameterSource("projectIds", chunk),
+                    (rs, rowNum) -> new ProjectTaskCount(rs.getLong("project_id"),
+                            TaskStatus.valueOf(rs.getString("status")),
+                            rs.getLong("tasks"), rs.getLong("estimated_hours"))));
+        }
+        return counts;
+    }
+
+    /**
+     * La busqueda de diferencias no bloquea nada. Cada par con diferencias se corrige en su propia
+     * transaccion: se bloquea la fila del proyecto y despues sus contadores del estado, se vuelven a
+     * contar las tareas y la diferencia se suma en el stripe 0. El bloqueo del proyecto alcanza aunque
+     * el par todavia no tenga filas de contadores: las altas de tareas y de contadores verifican la
+     * clave foranea al proyecto (en PostgreSQL, FOR KEY SHARE sobre su fila) y esperan, o todavia no
+     * se ven ni en las tareas ni en los contadores.
+     * Otra instancia que corrija el mismo par al mismo tiempo espera y despues no encuentra diferencia.
+     */
+    @Override
+    public int reconcile() {
+        int repaired = 0;
+        for (ProjectTaskCount drift : jdbcTemplate.query(FIND_DRIFT_SQL, (rs, rowNum) -> new ProjectTaskCount(
+                rs.getLong("project_id"), TaskStatus.valueOf(rs.getString("status")), 0, 0))) {
+            Boolean changed = transactionTemplate.execute(tx -> repair(drift.projectId(), drift.status()));
+            if (Boolean.TRUE.equals(changed)) {
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+
+    private boolean repair(Long projectId, TaskStatus status) {
+        jdbcTemplate.queryForList("select id from projects where id = ? for update", Long.class, projectId);
+        // Los contadores tambien: un move no inserta tareas ni filas y no pasa por el proyecto
+        long[] counted = new long[2];
+        jdbcTemplate.query("select tasks, estimated_hours from project_task_counters " +
+                        "where project_id = ? and status = ? for update",
+                rs -> {
+                    counted[0] += rs.getLong("tasks");
+                    counted[1] += rs.getLong("estimated_hours");
+                }, projectId, status.name());
+
+        long[] actual = jdbcTemplate.queryForObject("select count(*), coalesce(sum(estimated_hours), 0) from tasks " +
+                        "where project_id = ? and status = ?",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, projectId, status.name());
+
+        if (actual[0] == counted[0] && actual[1] == counted[1]) {
+            return false;
+        }
+        add(projectId, status, 0, actual[0] - counted[0], actual[1] - counted[1]);
+        return true;
+    }
+}
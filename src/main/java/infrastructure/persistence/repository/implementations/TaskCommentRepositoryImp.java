@@ -1,35 +1,100 @@
 package infrastructure.persistence.repository.implementations;
 
 import domain.model.TaskComment;
+import domain.model.TaskCommentSummary;
 import domain.repository.TaskCommentRepository;
 import infrastructure.persistence.entities.TaskCommentEntity;
 import infrastructure.persistence.mapper.PersistenceMapper;
 import infrastructure.persistence.repository.interfaces.ITaskCommentRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Component
 public class TaskCommentRepositoryImp implements TaskCommentRepository {
+
+    // Contadores de comentarios de la tarea (V11). La fecha solo avanza: un lote puede traer comentarios
+    // con fechas anteriores a la del ultimo guardado
+    private static final String COUNT_COMMENTS_SQL = """
+            update tasks
+            set comment_count = comment_count + ?,
+                last_comment_at = case when last_comment_at is null or last_comment_at < ? then ? else last_comment_at end
+            where id = ?
+            """;
+
     private final ITaskCommentRepository jpaRepository;
     private final PersistenceMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
 
-    public TaskCommentRepositoryImp(ITaskCommentRepository jpaRepository, PersistenceMapper mapper) {
+    public TaskCommentRepositoryImp(ITaskCommentRepository jpaRepository, PersistenceMapper mapper,
+                                    JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
+    // Los contadores de la tarea se actualizan en la misma transaccion que el INSERT del comentario
     @Override
+    @Transactional
     public TaskComment save(TaskComment comment) {
         // 1. Convertir Dominio -> Entidad
         TaskCommentEntity entityToSave = mapper.toEntity(comment);
 
         // 2. Guardar con JPA
         TaskCommentEntity savedEntity = jpaRepository.save(entityToSave);
+        countComments(List.of(savedEntity));
+
+        // 3. Convertir Entidad -> Dominio y devolver (la entidad guardada solo tiene el id de la tarea)
+        return mapper.toDomain(savedEntity, comment.taskReference());
+    }
+
+    @Override
+    @Transactional
+    public List<TaskComment> saveAll(List<TaskComment> comments) {
+        List<TaskCommentEntity> entitiesToSave = comments.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
 
-        // 3. Convertir Entidad -> Dominio y devolver
-        return mapper.toDomain(savedEntity);
+        // Un solo flush al final: los INSERT salen en lotes de hibernate.jdbc.batch_size
+        List<TaskCommentEntity> savedEntities = jpaRepository.saveAll(entitiesToSave);
+        countComments(savedEntities);
+
+        // saveAll devuelve las entidades en el mismo orden que las recibe
+        List<TaskComment> saved = new ArrayList<>(savedEntities.size());
+        for (int i = 0; i < savedEntities.size(); i++) {
+            saved.add(mapper.toDomain(savedEntities.get(i), comments.get(i).taskReference()));
+        }
+        return saved;
+    }
+
+    /*
+     * Un UPDATE por tarea (en un lote JDBC) con la cantidad de comentarios nuevos y el mas reciente.
+     * Las tareas se actualizan por id ascendente: dos lotes que comparten tareas toman los bloqueos
+     * de las filas en el mismo orden y no se bloquean mutuamente.
+     */
+    private void countComments(List<TaskCommentEntity> comments) {
+        Map<Long, long[]> counts = new TreeMap<>();
+        Map<Long, LocalDateTime> latest = new TreeMap<>();
+        for (TaskCommentEntity comment : comments) {
+            Long taskId = comment.getTask().getId();
+            counts.computeIfAbsent(taskId, id -> new long[1])[0]++;
+            latest.merge(taskId, comment.getCreatedAt(), (a, b) -> a.isAfter(b) ? a : b);
+        }
+        List<Object[]> arguments = new ArrayList<>(counts.size());
+        counts.forEach((taskId, count) -> {
+            Timestamp createdAt = Timestamp.valueOf(latest.get(taskId));
+            arguments.add(new Object[]{count[0], createdAt, createdAt, taskId});
+        });
+        jdbcTemplate.batchUpdate(COUNT_COMMENTS_SQL, arguments);
     }
 
     @Override
@@ -37,10 +102,17 @@ public class TaskCommentRepositoryImp implements TaskCommentRepository {
         // 1. Buscar todas las Entidades con JPA
         List<TaskCommentEntity> entities = jpaRepository.findAllByTaskId(taskId);
 
-        // 2. Mapear la lista de Entidades a lista de Dominio
-
+        // 2. Mapear la lista de Entidades a lista de Dominio: todos comparten la misma Task, ya resuelta
+        PersistenceMapper.IdentityMap identities = new PersistenceMapper.IdentityMap();
         return entities.stream()
-                .map(mapper::toDomain)
+                .map(entity -> mapper.toDomain(entity, identities))
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public List<TaskCommentSummary> findSummaryPageByTaskId(Long taskId, LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        return afterId == null
+                ? jpaRepository.findFirstSummaryPageByTaskId(taskId, Limit.of(limit))
+                : jpaRepository.findSummaryPageByTaskIdAfter(taskId, afterCreatedAt, afterId, Limit.of(limit));
+    }
 }
@@ -3,50 +3,280 @@ package infrastructure.persistence.repository.implementations;
 import domain.model.Project;
 import domain.model.Task;
 import domain.model.TaskStatus;
+import domain.model.TaskStatusStats;
+import domain.model.TaskSummary;
+import domain.model.TaskVersion;
+import domain.model.TaskComment;
+import domain.model.TaskInsertResult;
+import domain.model.TaskListVersion;
+import domain.model.TaskWithComments;
 import domain.repository.TaskRepository;
+import infrastructure.persistence.entities.TaskCommentEntity;
 import infrastructure.persistence.entities.TaskEntity;
 import infrastructure.persistence.mapper.PersistenceMapper;
+import infrastructure.persistence.repository.interfaces.ITaskCommentRepository;
 import infrastructure.persistence.repository.interfaces.ITaskRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.Generator;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class TaskRepositoryImp implements TaskRepository {
 
+    // Tope de parametros por consulta IN (los drivers y los planes de ejecucion no escalan con listas enormes)
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    /*
+     * Alta con las reglas de CreateTaskUseCase en la misma sentencia: si el proyecto no existe,
+     * esta CLOSED o ya tiene el titulo, el SELECT no devuelve filas y no se inserta nada.
+     * Dos altas simultaneas del mismo titulo pueden pasar el NOT EXISTS: la segunda choca con
+     * uk_tasks_project_id_title (V5__titulo_unico_por_proyecto.sql) y ON CONFLICT la deja en 0 filas,
+     * sin error: en PostgreSQL un error de clave unica abortaria toda la transaccion del caso de uso.
+     * El id lo reserva el generador de Hibernate (pooled, un nextval cada allocationSize ids), el
+     * mismo que usan los save de JPA.
+     */
+    private static final String GUARDED_INSERT_SQL = """
+            insert into tasks (id, title, project_id, estimated_hours, assignee, status, created_at, finished_at)
+            select ?, ?, p.id, ?, ?, ?, ?, ?
+            from projects p
+            where p.id = ?
+              and p.status <> 'CLOSED'
+              and not exists (select 1 from tasks t where t.project_id = p.id and t.title = ?)
+            on conflict do nothing
+            """;
+
     private final ITaskRepository jpaRepository;
+    private final ITaskCommentRepository commentJpaRepository;
     private final PersistenceMapper mapper;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
-    public TaskRepositoryImp(ITaskRepository jpaRepository, PersistenceMapper mapper) {
+    public TaskRepositoryImp(ITaskRepository jpaRepository, ITaskCommentRepository commentJpaRepository,
+                             PersistenceMapper mapper, EntityManager entityManager, JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
+        this.commentJpaRepository = commentJpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
-    public boolean existByTitleAndProject(String title, Project project) {
-        return jpaRepository.existsByTitleAndProject(title, mapper.toEntity(project));
+    public Set<String> findExistingTitles(Project project, Collection<String> titles) {
+        List<String> pending = new ArrayList<>(new HashSet<>(titles));
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < pending.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = pending.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, pending.size()));
+            existing.addAll(jpaRepository.findTitlesByProjectIdAndTitleIn(project.getId(), chunk));
+        }
+        return existing;
     }
 
     @Override
     public Task save(Task task) {
         TaskEntity entityToSave = mapper.toEntity(task);
         TaskEntity savedEntity = jpaRepository.save(entityToSave);
-        return mapper.toDomain(savedEntity);
+        // La entidad guardada puede tener solo el id del proyecto: se devuelve la referencia original
+        return mapper.toDomain(savedEntity, task.projectReference());
+    }
+
+    @Override
+    public TaskInsertResult insertIfAllowed(Task task) {
+        Long id = nextTaskId();
+        int inserted = jdbcTemplate.update(GUARDED_INSERT_SQL, guardedInsertArguments(id, task));
+
+        if (inserted == 0) {
+            return TaskInsertResult.rejected(rejectionOf(task.projectReference().getId()));
+        }
+        return inserted(id, task);
+    }
+
+    @Override
+    public List<TaskInsertResult> insertAllIfAllowed(List<Task> tasks) {
+        List<Long> ids = new ArrayList<>(tasks.size());
+        List<Object[]> rows = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            Long id = nextTaskId();
+            ids.add(id);
+            rows.add(guardedInsertArguments(id, task));
+        }
+        int[] inserted = jdbcTemplate.batchUpdate(GUARDED_INSERT_SQL, rows);
+
+        // Las tareas de un lote suelen ser de un mismo proyecto: su regla rechazada se averigua una vez
+        Map<Long, TaskInsertResult.Outcome> rejections = new HashMap<>();
+        List<TaskInsertResult> results = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            results.add(inserted[i] == 0
+                    ? TaskInsertResult.rejected(rejections.computeIfAbsent(task.projectReference().getId(), this::rejectionOf))
+                    : inserted(ids.get(i), task));
+        }
+        return results;
+    }
+
+    private static Object[] guardedInsertArguments(Long id, Task task) {
+        return new Object[]{id, task.getTitle(), task.getEstimatedHours(), task.getAssignee(), task.getStatus().name(),
+                task.getCreatedAt(), task.getFinishedAt(), task.projectReference().getId(), task.getTitle()};
+    }
+
+    // La columna version arranca en 0 (default de V6__versiones_para_etag.sql)
+    private static TaskInsertResult inserted(Long id, Task task) {
+        return TaskInsertResult.inserted(Task.rehydrate(id, task.getTitle(), task.projectReference(), task.getEstimatedHours(),
+                task.getAssignee(), task.getStatus(), task.getCreatedAt(), task.getFinishedAt(), 0L));
+    }
+
+    // Un id del generador de TaskEntity: sale del bloque en memoria y solo va a la base cada allocationSize ids
+    private Long nextTaskId() {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        Generator generator = session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(TaskEntity.class).getGenerator();
+        return (Long) ((BeforeExecutionGenerator) generator).generate(session, null, null, EventType.INSERT);
+    }
+
+    // Solo cuando el alta no inserto nada: averigua cual de las reglas del INSERT no se cumplio
+    private TaskInsertResult.Outcome rejectionOf(Long projectId) {
+        List<String> status = jdbcTemplate.queryForList("select status from projects where id = ?",
+                String.class, projectId);
+        if (status.isEmpty()) {
+            return TaskInsertResult.Outcome.PROJECT_NOT_FOUND;
+        }
+        if (status.getFirst().equals("CLOSED")) {
+            return TaskInsertResult.Outcome.PROJECT_CLOSED;
+        }
+        return TaskInsertResult.Outcome.DUPLICATE_TITLE;
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        List<TaskEntity> entitiesToSave = tasks.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+
+        // Un solo flush al final: los INSERT salen en lotes de hibernate.jdbc.batch_size
+        List<TaskEntity> savedEntities = jpaRepository.saveAll(entitiesToSave);
+
+        // saveAll devuelve las entidades en el mismo orden que las recibe
+        List<Task> saved = new ArrayList<>(savedEntities.size());
+        for (int i = 0; i < savedEntities.size(); i++) {
+            saved.add(mapper.toDomain(savedEntities.get(i), tasks.get(i).projectReference()));
+        }
+        return saved;
     }
 
     @Override
     public Optional<Task> findById(Long id) {
-        Optional<TaskEntity> optionalEntity = jpaRepository.findById(id);
+        Optional<TaskEntity> optionalEntity = jpaRepository.findWithProjectById(id);
         return optionalEntity.map(mapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<TaskWithComments> findByIdWithComments(Long id, LocalDateTime afterCreatedAt, Long afterId, int commentsLimit) {
+        // 1) Tarea + proyecto en un SELECT; se mapean a dominio una sola vez
+        return jpaRepository.findWithProjectById(id).map(entity -> {
+            Task task = mapper.toDomain(entity);
+
+            // 2) Pagina de comentarios en otro SELECT; cada comentario reutiliza la misma Task
+            List<TaskCommentEntity> commentEntities = afterId == null
+                    ? commentJpaRepository.findFirstPageByTaskId(id, Limit.of(commentsLimit))
+                    : commentJpaRepository.findPageByTaskIdAfter(id, afterCreatedAt, afterId, Limit.of(commentsLimit));
+            List<TaskComment> comments = new ArrayList<>(commentEntities.size());
+            for (TaskCommentEntity commentEntity : commentEntities) {
+                comments.add(mapper.toDomain(commentEntity, task));
+            }
+            return new TaskWithComments(task, comments);
+        });
+    }
+
+    @Override
+    public List<Task> findAllByIds(Collection<Long> ids) {
+        List<Long> pending = new ArrayList<>(new HashSet<>(ids));
+        List<Task> tasks = new ArrayList<>(pending.size());
+        PersistenceMapper.IdentityMap identities = new PersistenceMapper.IdentityMap();
+        for (int from = 0; from < pending.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = pending.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, pending.size()));
+            jpaRepository.findAllByIdIn(chunk).forEach(entity -> tasks.add(mapper.toDomain(entity, identities)));
+        }
+        return tasks;
+    }
+
     @Override
     public List<Task> findByStatus(TaskStatus status) {
         List<TaskEntity> entities = jpaRepository.findAllByStatus(status);
-        return entities.stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+        return toDomain(entities);
+    }
+
+    @Override
+    public List<Task> findByStatusAfter(TaskStatus status, Long afterId, int limit) {
+        List<TaskEntity> entities = afterId == null
+                ? jpaRepository.findByStatusOrderByIdAsc(status, Limit.of(limit))
+                : jpaRepository.findByStatusAndIdGreaterThanOrderByIdAsc(status, afterId, Limit.of(limit));
+        return toDomain(entities);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachByStatus(TaskStatus status, Consumer<Task> action) {
+        // El mapa de identidad crece con los proyectos distintos, no con las filas
+        PersistenceMapper.IdentityMap identities = new PersistenceMapper.IdentityMap();
+        try (Stream<TaskEntity> entities = jpaRepository.streamAllByStatus(status)) {
+            entities.forEach(entity -> {
+                action.accept(mapper.toDomain(entity, identities));
+                // Liberamos la fila del contexto de persistencia para que la memoria no crezca con el resultado
+                entityManager.detach(entity);
+            });
+        }
+    }
+
+    @Override
+    public List<TaskSummary> findSummariesByStatus(TaskStatus status) {
+        return jpaRepository.findSummariesByStatus(status);
+    }
+
+    @Override
+    public Optional<TaskSummary> findSummaryById(Long id) {
+        return jpaRepository.findSummaryById(id);
+    }
+
+    @Override
+    public Optional<TaskVersion> findVersionById(Long id) {
+        return jpaRepository.findVersionById(id);
+    }
+
+    @Override
+    public TaskListVersion findListVersionByStatus(TaskStatus status) {
+        return jpaRepository.findListVersionByStatus(status);
+    }
+
+    @Override
+    public List<TaskStatusStats> findStatsByProjectId(Long projectId) {
+        return jpaRepository.findStatsByProjectId(projectId);
+    }
+
+    private List<Task> toDomain(List<TaskEntity> entities) {
+        PersistenceMapper.IdentityMap identities = new PersistenceMapper.IdentityMap();
+        List<Task> tasks = new ArrayList<>(entities.size());
+        for (TaskEntity entity : entities) {
+            tasks.add(mapper.toDomain(entity, identities));
+        }
+        return tasks;
     }
 }
@@ -6,5 +6,4 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface IProjectRepository extends JpaRepository<ProjectEntity, Long> {
-    boolean existsByName(String name);
 }
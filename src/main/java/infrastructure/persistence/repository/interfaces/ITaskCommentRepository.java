@@ -1,12 +1,52 @@
 package infrastructure.persistence.repository.interfaces;
 
+import domain.model.TaskCommentSummary;
 import infrastructure.persistence.entities.TaskCommentEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ITaskCommentRepository extends JpaRepository<TaskCommentEntity, Long> {
-    List<TaskCommentEntity> findAllByTaskId(Long taskId);
+    // La consulta derivada (findAllByTaskId) hacia un left join a tasks y filtraba por tasks.id,
+    // sin poder usar el indice de task_comments.task_id: se filtra directo por la FK.
+    // La tarea y su proyecto vienen en el mismo SELECT: los comentarios se mapean con los padres
+    // ya cargados y no queda nada lazy para despues de la sesion (open-in-view apagado)
+    @Query("select c from TaskCommentEntity c join fetch c.task t join fetch t.project where c.task.id = :taskId")
+    List<TaskCommentEntity> findAllByTaskId(@Param("taskId") Long taskId);
+
+    // Paginacion por keyset sobre (created_at, id), usando el indice task_comments(task_id, created_at, id)
+    @Query("select c from TaskCommentEntity c where c.task.id = :taskId order by c.createdAt, c.id")
+    List<TaskCommentEntity> findFirstPageByTaskId(@Param("taskId") Long taskId, Limit limit);
+
+    @Query("select c from TaskCommentEntity c where c.task.id = :taskId " +
+            "and (c.createdAt, c.id) > (:createdAt, :id) order by c.createdAt, c.id")
+    List<TaskCommentEntity> findPageByTaskIdAfter(@Param("taskId") Long taskId,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Limit limit);
+
+    // Proyecciones: c.task.id se resuelve con la FK, sin join a tasks
+    @Query("select new domain.model.TaskCommentSummary(c.id, c.task.id, c.text, c.author, c.createdAt) " +
+            "from TaskCommentEntity c where c.task.id = :taskId order by c.createdAt, c.id")
+    List<TaskCommentSummary> findFirstSummaryPageByTaskId(@Param("taskId") Long taskId, Limit limit);
+
+    @Query("select new domain.model.TaskCommentSummary(c.id, c.task.id, c.text, c.author, c.createdAt) " +
+            "from TaskCommentEntity c where c.task.id = :taskId " +
+            "and (c.createdAt, c.id) > (:createdAt, :id) order by c.createdAt, c.id")
+    List<TaskCommentSummary> findSummaryPageByTaskIdAfter(@Param("taskId") Long taskId,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") Long id,
+                                                          Limit limit);
+
+    // Resultados de la busqueda de texto (EmbeddedCommentSearchRepository): por clave primaria
+    @Query("select new domain.model.TaskCommentSummary(c.id, c.task.id, c.text, c.author, c.createdAt) " +
+            "from TaskCommentEntity c where c.id in :ids")
+    List<TaskCommentSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
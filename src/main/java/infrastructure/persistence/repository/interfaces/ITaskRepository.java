@@ -1,17 +1,98 @@
 package infrastructure.persistence.repository.interfaces;
 
+import domain.model.TaskListVersion;
 import domain.model.TaskStatus;
-import infrastructure.persistence.entities.ProjectEntity;
+import domain.model.TaskStatusStats;
+import domain.model.TaskSummary;
+import domain.model.TaskVersion;
 import infrastructure.persistence.entities.TaskEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 //import java.util.Optional;
 
 @Repository
 public interface ITaskRepository extends JpaRepository<TaskEntity, Long> {
-    boolean existsByTitleAndProject(String title, ProjectEntity project);
+    // Chequeo de titulos duplicados por conjunto (carga masiva): usa el indice (project_id, title)
+    @Query("select t.title from TaskEntity t where t.project.id = :projectId and t.title in :titles")
+    List<String> findTitlesByProjectIdAndTitleIn(@Param("projectId") Long projectId,
+                                                 @Param("titles") Collection<String> titles);
+
+    // findById con el proyecto en el mismo SELECT (evita el SELECT lazy del proyecto al mapear)
+    @EntityGraph(attributePaths = "project")
+    Optional<TaskEntity> findWithProjectById(Long id);
+
+    // Carga masiva de comentarios: resuelve todas las tareas referenciadas (y sus proyectos) en un SELECT
+    @EntityGraph(attributePaths = "project")
+    List<TaskEntity> findAllByIdIn(Collection<Long> ids);
+
+    // Trae el proyecto en el mismo SELECT (join) para evitar un SELECT extra por cada tarea (N+1)
+    @EntityGraph(attributePaths = "project")
     List<TaskEntity> findAllByStatus(TaskStatus status);
+
+    // Paginacion por keyset sobre (status, id): primera pagina
+    @EntityGraph(attributePaths = "project")
+    List<TaskEntity> findByStatusOrderByIdAsc(TaskStatus status, Limit limit);
+
+    // Paginacion por keyset: siguientes paginas, arrancando despues del ultimo id visto (sin OFFSET)
+    @EntityGraph(attributePaths = "project")
+    List<TaskEntity> findByStatusAndIdGreaterThanOrderByIdAsc(TaskStatus status, Long id, Limit limit);
+
+    // Lectura secuencial (cursor del lado de la base) para respuestas en streaming.
+    // Debe consumirse dentro de una transaccion y cerrarse al terminar.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from TaskEntity t join fetch t.project where t.status = :status order by t.id")
+    Stream<TaskEntity> streamAllByStatus(@Param("status") TaskStatus status);
+
+    // Proyecciones (solo las columnas que usan las respuestas, sin entidades en el contexto de persistencia)
+    @Query("select new domain.model.TaskSummary(t.id, t.title, p.id, p.name, t.estimatedHours, t.assignee, " +
+            "t.status, t.createdAt, t.finishedAt) from TaskEntity t join t.project p where t.status = :status")
+    List<TaskSummary> findSummariesByStatus(@Param("status") TaskStatus status);
+
+    @Query("select new domain.model.TaskSummary(t.id, t.title, p.id, p.name, t.estimatedHours, t.assignee, " +
+            "t.status, t.createdAt, t.finishedAt) from TaskEntity t join t.project p where t.id = :id")
+    Optional<TaskSummary> findSummaryById(@Param("id") Long id);
+
+    // ETags (GET condicional): solo agregados, sin entidades. Los comentarios usan el indice (task_id, created_at, id)
+    @Query("select new domain.model.TaskVersion(t.version, p.version, " +
+            "(select count(c) from TaskCommentEntity c where c.task.id = t.id), " +
+            "(select coalesce(max(c.id), 0) from TaskCommentEntity c where c.task.id = t.id)) " +
+            "from TaskEntity t join t.project p where t.id = :id")
+    Optional<TaskVersion> findVersionById(@Param("id") Long id);
+
+    // Hash de cada fila: x = combinacion de (id, version) de la tarea y del proyecto modulo el primo
+    // 2^31 - 1, y h = (x^2 mod 2^31 - 1) * 48271 mod 2147483629 (otro primo). Mezclar dos modulos
+    // evita que conjuntos distintos de filas sumen lo mismo por identidades aritmeticas. Cada mod
+    // se pasa a bigint (H2 lo devuelve con el tipo del divisor): los productos intermedios entran
+    // en un bigint porque x < 2^31.
+    String LIST_VERSION_ROW_KEY = "cast(mod(cast(mod(t.id, 2147483647) as Long) * 48271 + t.version * 16807 " +
+            "+ cast(mod(p.id, 2147483647) as Long) * 69621 + p.version, 2147483647) as Long)";
+
+    @Query("select new domain.model.TaskListVersion(count(t), coalesce(max(t.id), 0), " +
+            "coalesce(sum(cast(mod(cast(mod(" + LIST_VERSION_ROW_KEY + " * " + LIST_VERSION_ROW_KEY + ", 2147483647) as Long) * 48271, " +
+            "2147483629) as Long)), 0)) " +
+            "from TaskEntity t join t.project p where t.status = :status")
+    TaskListVersion findListVersionByStatus(@Param("status") TaskStatus status);
+
+    // Estadisticas de un proyecto: un GROUP BY por estado sobre las tareas. Los comentarios salen de
+    // los contadores de cada tarea (V11), sin leer task_comments
+    @Query("select new domain.model.TaskStatusStats(t.status, count(t), sum(t.estimatedHours), sum(t.commentCount), " +
+            "max(t.createdAt), max(t.lastCommentAt)) " +
+            "from TaskEntity t where t.project.id = :projectId group by t.status")
+    List<TaskStatusStats> findStatsByProjectId(@Param("projectId") Long projectId);
 }
@@ -0,0 +1,12 @@
+-- Cantidad de comentarios y fecha del ultimo de cada tarea, mantenidas al guardar comentarios
+-- (TaskCommentRepositoryImp, en la misma transaccion). GET /projects/{projectId}/stats las suma
+-- con las tareas del proyecto, sin recorrer sus comentarios.
+alter table tasks add column comment_count bigint default 0 not null;
+
+alter table tasks add column last_comment_at timestamp(6);
+
+-- Las tareas que ya tienen comentarios
+update tasks
+set comment_count = (select count(*) from task_comments c where c.task_id = tasks.id),
+    last_comment_at = (select max(c.created_at) from task_comments c where c.task_id = tasks.id)
+where exists (select 1 from task_comments c where c.task_id = tasks.id);
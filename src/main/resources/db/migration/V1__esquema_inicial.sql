@@ -0,0 +1,37 @@
+-- Esquema inicial: el mismo que generaba Hibernate a partir de las entidades.
+-- Las bases creadas antes de Flyway se toman como linea base en esta version
+-- (spring.flyway.baseline-on-migrate) y solo reciben las migraciones siguientes.
+
+create table projects (
+    id          bigint generated by default as identity,
+    name        varchar(255) not null,
+    start_date  date         not null,
+    end_date    date         not null,
+    status      varchar(255) not null check (status in ('PLANNED', 'ACTIVE', 'CLOSED')),
+    description varchar(255),
+    constraint pk_projects primary key (id),
+    constraint uk_projects_name unique (name)
+);
+
+create table tasks (
+    id              bigint generated by default as identity,
+    title           varchar(255),
+    project_id      bigint       not null,
+    estimated_hours integer      not null,
+    assignee        varchar(255),
+    status          varchar(255) not null check (status in ('TODO', 'IN_PROGRESS', 'DONE')),
+    finished_at     timestamp(6) not null,
+    created_at      timestamp(6) not null,
+    constraint pk_tasks primary key (id),
+    constraint fk_tasks_project foreign key (project_id) references projects (id)
+);
+
+create table task_comments (
+    id         bigint generated by default as identity,
+    task_id    bigint        not null,
+    text       varchar(1000) not null,
+    author     varchar(255)  not null,
+    created_at timestamp(6)  not null,
+    constraint pk_task_comments primary key (id),
+    constraint fk_task_comments_task foreign key (task_id) references tasks (id)
+);
@@ -0,0 +1,10 @@
+-- Indices para las formas de consulta de los repositorios.
+
+-- GET /tasks?status=: filtro por estado, orden y keyset por id (findAllByStatus, paginas, streaming)
+create index idx_tasks_status_id on tasks (status, id);
+
+-- existsByTitleAndProject: lo resuelve solo con el indice. Tambien cubre la FK tasks.project_id
+create index idx_tasks_project_id_title on tasks (project_id, title);
+
+-- findAllByTaskId / findSummariesByTaskId. Tambien cubre la FK task_comments.task_id
+create index idx_task_comments_task_id on task_comments (task_id);
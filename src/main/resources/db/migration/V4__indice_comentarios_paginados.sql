@@ -0,0 +1,5 @@
+-- GET /projects/{projectId}/tasks/{taskId}?comments=true pagina los comentarios por (created_at, id).
+-- El nuevo indice tambien resuelve los filtros por task_id solo, asi que reemplaza al anterior.
+create index idx_task_comments_task_id_created_at_id on task_comments (task_id, created_at, id);
+
+drop index idx_task_comments_task_id;
@@ -0,0 +1,8 @@
+-- Un titulo por proyecto lo garantiza la base: el alta de tareas (TaskRepository.insertIfAllowed)
+-- ya no consulta antes si el titulo existe, y dos altas simultaneas no pueden pasar las dos.
+-- Si la base tuviera titulos repetidos en un proyecto (carreras anteriores a esta version),
+-- hay que renombrarlos antes de aplicar esta migracion.
+alter table tasks add constraint uk_tasks_project_id_title unique (project_id, title);
+
+-- El indice del unique cubre lo mismo que el de V2 (existsByTitleAndProject y la FK project_id)
+drop index idx_tasks_project_id_title;
@@ -0,0 +1,6 @@
+-- Version de cada fila (@Version de Hibernate): la incrementa cada UPDATE hecho por JPA.
+-- GET /projects/{projectId}/tasks/{taskId} y GET /tasks?status= arman su ETag con estas columnas
+-- sin cargar las filas. Las filas existentes arrancan en 0, igual que las nuevas.
+alter table projects add column version bigint default 0 not null;
+
+alter table tasks add column version bigint default 0 not null;
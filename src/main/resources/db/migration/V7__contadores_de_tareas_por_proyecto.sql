@@ -0,0 +1,19 @@
+-- Contadores de tareas por proyecto y estado, mantenidos al crear tareas o cambiarlas de estado
+-- (ProjectTaskCountersRepositoryImp). Cada (proyecto, estado) se reparte en varias filas (stripe):
+-- cada alta suma en una al azar, asi las altas simultaneas en un mismo proyecto no esperan el
+-- bloqueo de una sola fila. Al leer se suman las filas del proyecto.
+create table project_task_counters (
+    project_id      bigint       not null,
+    status          varchar(255) not null check (status in ('TODO', 'IN_PROGRESS', 'DONE')),
+    stripe          integer      not null,
+    tasks           bigint       not null,
+    estimated_hours bigint       not null,
+    constraint pk_project_task_counters primary key (project_id, status, stripe),
+    constraint fk_project_task_counters_project foreign key (project_id) references projects (id)
+);
+
+-- Las tareas que ya existen quedan contadas en el stripe 0
+insert into project_task_counters (project_id, status, stripe, tasks, estimated_hours)
+select project_id, status, 0, count(*), sum(estimated_hours)
+from tasks
+group by project_id, status;
@@ -5,6 +5,7 @@ import application.dto.response.CommentResponseDTO;
 import application.mapper.TaskCommentMapper;
 import domain.model.Task;
 import domain.model.TaskComment;
+import domain.repository.CommentSearchRepository;
 import domain.repository.TaskCommentRepository;
 import domain.repository.TaskRepository;
 import infrastructure.exception.ResourceNotFoundException;
@@ -16,6 +17,7 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,6 +38,9 @@ public class AddCommentToTaskTest {
     @Mock
     private TaskCommentMapper commentMapper;
 
+    @Mock
+    private CommentSearchRepository searchRepository;
+
     @InjectMocks
     private AddCommentToTaskUseCase addCommentToTaskUseCase;
 
@@ -84,6 +89,7 @@ public class AddCommentToTaskTest {
         verify(taskRepository).findById(taskIdFromUrl);
         verify(commentRepository).save(commentCaptor.capture());
         verify(commentMapper).toResponseDTO(savedCommentMock);
+        verify(searchRepository).index(List.of(savedCommentMock));
 
         TaskComment commentToSave = commentCaptor.getValue();
         assertNull(commentToSave.getId(), "El ID debe ser nulo antes de guardarse");
@@ -117,5 +123,6 @@ public class AddCommentToTaskTest {
         verify(taskRepository).findById(invalidTaskId);
         verify(commentRepository, never()).save(any());
         verify(commentMapper, never()).toResponseDTO(any());
+        verifyNoInteractions(searchRepository);
     }
 }
\ No newline at end of file
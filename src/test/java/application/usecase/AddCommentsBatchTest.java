@@ -0,0 +1,124 @@
+package application.usecase;
+
+import application.dto.request.TaskCommentBatchItemDTO;
+import application.dto.request.TaskCommentRequestDTO;
+import application.dto.response.CommentBatchResponseDTO;
+import application.mapper.TaskCommentMapper;
+import domain.model.Task;
+import domain.repository.CommentSearchRepository;
+import domain.repository.TaskCommentRepository;
+import domain.repository.TaskRepository;
+import infrastructure.exception.ResourceNotFoundException;
+import infrastructure.exception.ValidationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AddCommentsBatchTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskCommentRepository commentRepository;
+
+    @Mock
+    private CommentSearchRepository searchRepository;
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private AddCommentsBatchUseCase addCommentsBatchUseCase;
+
+    private Task task1;
+    private Task task2;
+
+    @BeforeEach
+    void setUp() {
+        addCommentsBatchUseCase = new AddCommentsBatchUseCase(taskRepository, commentRepository,
+                new TaskCommentMapper(), validator, searchRepository);
+
+        task1 = mock(Task.class);
+        task2 = mock(Task.class);
+        lenient().when(task1.getId()).thenReturn(1L);
+        lenient().when(task2.getId()).thenReturn(2L);
+        lenient().when(commentRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Debe resolver todas las tareas en una consulta y guardar los comentarios validos juntos")
+    void testExecuteCrossTask_ShouldResolveTasksOnce() {
+        List<TaskCommentBatchItemDTO> items = List.of(
+                new TaskCommentBatchItemDTO(1L, "Primero", "Ana"),
+                new TaskCommentBatchItemDTO(2L, "Segundo", "Luis"),
+                new TaskCommentBatchItemDTO(99L, "Tarea inexistente", "Ana"),
+                new TaskCommentBatchItemDTO(1L, "", "Ana"),
+                new TaskCommentBatchItemDTO(1L, "Tercero", "Ana")
+        );
+        when(taskRepository.findAllByIds(anyCollection())).thenReturn(List.of(task1, task2));
+
+        CommentBatchResponseDTO result = addCommentsBatchUseCase.execute(items);
+
+        assertEquals(List.of(0, 1, 4), result.successes().stream().map(success -> success.index()).toList());
+        assertSame(task2, result.successes().get(1).comment().task());
+        assertEquals(List.of(2, 3), result.failures().stream().map(failure -> failure.index()).toList());
+        assertEquals("Task not found with id: 99", result.failures().get(0).error());
+        assertTrue(result.failures().get(1).error().startsWith("text:"));
+
+        verify(taskRepository, times(1)).findAllByIds(argThat(ids -> ids.size() == 3));
+        verify(taskRepository, never()).findById(anyLong());
+        verify(commentRepository, times(1)).saveAll(argThat(comments -> comments.size() == 3));
+        verify(commentRepository, never()).save(any());
+        verify(searchRepository, times(1)).index(argThat(comments -> comments.size() == 3));
+    }
+
+    @Test
+    @DisplayName("Para una sola tarea debe buscarla una vez y asociarla a todos los comentarios")
+    void testExecuteSingleTask_ShouldReuseTask() {
+        List<TaskCommentRequestDTO> requests = List.of(
+                new TaskCommentRequestDTO("Uno", "Ana"),
+                new TaskCommentRequestDTO("Dos", " "),
+                new TaskCommentRequestDTO("Tres", "Ana")
+        );
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
+
+        CommentBatchResponseDTO result = addCommentsBatchUseCase.execute(1L, requests);
+
+        assertEquals(2, result.successes().size());
+        result.successes().forEach(success -> assertSame(task1, success.comment().task()));
+        assertEquals(1, result.failures().get(0).index());
+        verify(taskRepository, times(1)).findById(1L);
+        verify(commentRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Para una sola tarea inexistente debe fallar el lote completo")
+    void testExecuteSingleTask_ShouldThrow_WhenTaskNotFound() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> addCommentsBatchUseCase.execute(1L, List.of(new TaskCommentRequestDTO("Uno", "Ana"))));
+        verify(commentRepository, never()).saveAll(anyList());
+        verifyNoInteractions(searchRepository);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar lotes vacios")
+    void testExecute_ShouldRejectEmptyBatch() {
+        assertThrows(ValidationException.class, () -> addCommentsBatchUseCase.execute(List.of()));
+        assertThrows(ValidationException.class, () -> addCommentsBatchUseCase.execute(1L, List.of()));
+        verifyNoInteractions(taskRepository, commentRepository);
+    }
+}
@@ -21,6 +21,8 @@ import java.time.LocalDate;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -76,7 +78,6 @@ public class CreateProjectTest {
 
     @Test
     void testCreateProject_SHouldSecceed_WhenDataIsValid(){
-        when(repo.existsByName(requestDTO.name())).thenReturn(false);
         when(mapper.toDomain(requestDTO)).thenReturn(savedProject);
         when(repo.save(any(Project.class))).thenReturn(savedProject);
         when(mapper.toResponseDTO(savedProject)).thenReturn(expectedResponse);
@@ -86,11 +87,16 @@ public class CreateProjectTest {
         Assertions.assertNotNull(actual);
         Assertions.assertEquals(expectedResponse.id(), actual.id());
         Assertions.assertEquals(expectedResponse.name(), actual.name());
+        // El nombre duplicado lo detecta el INSERT, no una consulta previa
+        verify(repo).save(any(Project.class));
+        verifyNoMoreInteractions(repo);
     }
 
     @Test
     void testCreateProject_SHouldSecceed_WhenNameIsDuplicate(){
-        when(repo.existsByName(requestDTO.name())).thenReturn(true);
+        when(mapper.toDomain(requestDTO)).thenReturn(savedProject);
+        // El repositorio traduce la violacion del indice unico uk_projects_name
+        when(repo.save(savedProject)).thenThrow(new DuplicateResourceException("Ya existe un proyecto con el mismo nombre"));
 
         Exception exception = assertThrows(DuplicateResourceException.class,
                 () -> useCase.execute(requestDTO));
@@ -100,8 +106,6 @@ public class CreateProjectTest {
 
     @Test
     void testCreateProyect_ShouldThrowException_WhenDomainValidationFails() {
-        when(repo.existsByName(requestDTO.name())).thenReturn(false);
-
         when(mapper.toDomain(requestDTO)).thenThrow(new BusinessRuleViolationsException("La fecha de fin es invalida"));
 
         Exception exception = assertThrows(BusinessRuleViolationsException.class, () -> {
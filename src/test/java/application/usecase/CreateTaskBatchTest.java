@@ -0,0 +1,179 @@
+package application.usecase;
+
+import application.dto.request.TaskRequestDTO;
+import application.dto.response.TaskBatchResponseDTO;
+import application.mapper.TaskMapper;
+import domain.model.Project;
+import domain.model.ProjectStatus;
+import domain.model.Task;
+import domain.model.TaskInsertResult;
+import domain.model.TaskStatus;
+import domain.repository.ProjectRepository;
+import domain.repository.ProjectTaskCountersRepository;
+import domain.repository.TaskRepository;
+import infrastructure.exception.BusinessRuleViolationsException;
+import infrastructure.exception.ResourceNotFoundException;
+import infrastructure.exception.ValidationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateTaskBatchTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectTaskCountersRepository countersRepository;
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private CreateTaskBatchUseCase createTaskBatchUseCase;
+
+    private final Long projectId = 1L;
+    private Project activeProject;
+
+    @BeforeEach
+    void setUp() {
+        // Mapper real: las reglas de Task.create forman parte de la validacion por item
+        createTaskBatchUseCase = new CreateTaskBatchUseCase(taskRepository, new TaskMapper(), projectRepository, validator,
+                countersRepository);
+
+        activeProject = mock(Project.class);
+        lenient().when(activeProject.getId()).thenReturn(projectId);
+        lenient().when(activeProject.getStatus()).thenReturn(ProjectStatus.ACTIVE);
+    }
+
+    private static List<TaskInsertResult> insertedAll(List<Task> tasks) {
+        return tasks.stream().map(TaskInsertResult::inserted).toList();
+    }
+
+    private TaskRequestDTO validRequest(String title) {
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        return new TaskRequestDTO(null, title, 8, "Analista QA", TaskStatus.TODO, start.plusDays(1), start);
+    }
+
+    @Test
+    @DisplayName("Debe guardar los items validos juntos y reportar los invalidos con su indice")
+    void testExecute_ShouldSplitSuccessesAndFailures() {
+        List<TaskRequestDTO> request = List.of(
+                validRequest("Tarea A"),
+                validRequest(""),               // titulo vacio -> anotaciones del DTO
+                validRequest("Ya existe"),      // duplicada en la base
+                validRequest("Tarea A"),        // duplicada dentro del lote
+                validRequest("Tarea B")
+        );
+
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(activeProject));
+        when(taskRepository.findExistingTitles(eq(activeProject), anyCollection())).thenReturn(Set.of("Ya existe"));
+        when(taskRepository.insertAllIfAllowed(anyList())).thenAnswer(invocation -> insertedAll(invocation.getArgument(0)));
+
+        TaskBatchResponseDTO result = createTaskBatchUseCase.execute(projectId, request);
+
+        assertEquals(List.of(0, 4), result.successes().stream().map(success -> success.index()).toList());
+        assertEquals("Tarea B", result.successes().get(1).task().title());
+        assertEquals(List.of(1, 2, 3), result.failures().stream().map(failure -> failure.index()).toList());
+        assertTrue(result.failures().get(0).error().startsWith("title:"));
+        assertEquals(result.failures().get(1).error(), result.failures().get(2).error());
+
+        // Una sola consulta de titulos y un solo lote de INSERT para todo el lote
+        verify(taskRepository, times(1)).findExistingTitles(eq(activeProject), anyCollection());
+        verify(taskRepository, times(1)).insertAllIfAllowed(argThat(tasks -> tasks.size() == 2));
+        verify(taskRepository, never()).insertIfAllowed(any(Task.class));
+        // Los contadores se actualizan una vez por estado, con las tareas guardadas
+        verify(countersRepository).add(projectId, TaskStatus.TODO, 2, 16);
+        verifyNoMoreInteractions(countersRepository);
+    }
+
+    @Test
+    @DisplayName("Si ningun item es valido no debe insertar nada")
+    void testExecute_ShouldNotSave_WhenAllItemsFail() {
+        List<TaskRequestDTO> request = new ArrayList<>();
+        request.add(null);
+        request.add(validRequest(" "));
+
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(activeProject));
+        when(taskRepository.findExistingTitles(eq(activeProject), anyCollection())).thenReturn(Collections.emptySet());
+
+        TaskBatchResponseDTO result = createTaskBatchUseCase.execute(projectId, request);
+
+        assertTrue(result.successes().isEmpty());
+        assertEquals(2, result.failures().size());
+        verify(taskRepository, never()).insertAllIfAllowed(anyList());
+        verifyNoInteractions(countersRepository);
+    }
+
+    @Test
+    @DisplayName("Debe fallar el lote completo si el INSERT encuentra el proyecto CERRADO, aunque la cache lo tenga activo")
+    void testExecute_ShouldThrow_WhenProjectClosed() {
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(activeProject));
+        when(taskRepository.insertAllIfAllowed(anyList())).thenReturn(List.of(
+                TaskInsertResult.rejected(TaskInsertResult.Outcome.PROJECT_CLOSED)));
+
+        Exception exception = assertThrows(BusinessRuleViolationsException.class,
+                () -> createTaskBatchUseCase.execute(projectId, List.of(validRequest("Tarea"))));
+        assertEquals("No se puede agregar una tarea a un proyecto Cerrado (CLOSED).", exception.getMessage());
+        verifyNoInteractions(countersRepository);
+    }
+
+    @Test
+    @DisplayName("Un titulo tomado por otra alta despues de la consulta de titulos falla solo ese item")
+    void testExecute_ShouldReportDuplicate_WhenInsertRejectsTitle() {
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(activeProject));
+        when(taskRepository.findExistingTitles(eq(activeProject), anyCollection())).thenReturn(Collections.emptySet());
+        when(taskRepository.insertAllIfAllowed(anyList())).thenAnswer(invocation -> {
+            List<TaskInsertResult> results = new ArrayList<>(insertedAll(invocation.getArgument(0)));
+            results.set(0, TaskInsertResult.rejected(TaskInsertResult.Outcome.DUPLICATE_TITLE));
+            return results;
+        });
+
+        TaskBatchResponseDTO result = createTaskBatchUseCase.execute(projectId,
+                List.of(validRequest("Tarea Tomada"), validRequest(""), validRequest("Tarea Libre")));
+
+        assertEquals(List.of(2), result.successes().stream().map(success -> success.index()).toList());
+        assertEquals(List.of(0, 1), result.failures().stream().map(failure -> failure.index()).toList());
+        assertEquals("Ya existe una tarea con el mismo titulo en este proyecto.", result.failures().get(0).error());
+        // Solo la tarea insertada suma a los contadores
+        verify(countersRepository).add(projectId, TaskStatus.TODO, 1, 8);
+        verifyNoMoreInteractions(countersRepository);
+    }
+
+    @Test
+    @DisplayName("Debe fallar el lote completo si el proyecto no existe")
+    void testExecute_ShouldThrow_WhenProjectNotFound() {
+        when(projectRepository.findById(projectId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> createTaskBatchUseCase.execute(projectId, List.of(validRequest("Tarea"))));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar lotes vacios o mas grandes que el maximo")
+    void testExecute_ShouldRejectInvalidBatchSize() {
+        List<TaskRequestDTO> tooMany = Collections.nCopies(CreateTaskBatchUseCase.MAX_BATCH_SIZE + 1, validRequest("T"));
+
+        assertThrows(ValidationException.class, () -> createTaskBatchUseCase.execute(projectId, List.of()));
+        assertThrows(ValidationException.class, () -> createTaskBatchUseCase.execute(projectId, tooMany));
+        verifyNoInteractions(projectRepository, taskRepository);
+    }
+}
@@ -6,8 +6,10 @@ import application.mapper.TaskMapper;
 import domain.model.Project;
 import domain.model.ProjectStatus;
 import domain.model.Task;
+import domain.model.TaskInsertResult;
 import domain.model.TaskStatus;
 import domain.repository.ProjectRepository;
+import domain.repository.ProjectTaskCountersRepository;
 import domain.repository.TaskRepository;
 import infrastructure.exception.BusinessRuleViolationsException;
 import infrastructure.exception.DuplicateResourceException;
@@ -42,6 +44,9 @@ public class CreateTaskTest {
     @Mock // Simulamos el mapper de Tareas
     private TaskMapper taskMapper;
 
+    @Mock // Simulamos los contadores de tareas por proyecto
+    private ProjectTaskCountersRepository countersRepository;
+
     @InjectMocks // Instanciamos el Caso de Uso a probar
     private CreateTaskUseCase createTaskUseCase;
 
@@ -73,15 +78,15 @@ public class CreateTaskTest {
 
         Task taskToSave = mock(Task.class);
         Task savedTask = mock(Task.class);
+        when(taskToSave.getStatus()).thenReturn(TaskStatus.TODO);
+        when(taskToSave.getEstimatedHours()).thenReturn(8);
 
         // ARRANGE: Definir el flujo que el Use Case debe seguir
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockActiveProject));
 
-        // FIX 3: Corrección en el nombre del método del repositorio
-        when(taskRepository.existByTitleAndProject(taskRequestDTO.title(), mockActiveProject)).thenReturn(false);
-
         when(taskMapper.toDomain(taskRequestDTO, mockActiveProject)).thenReturn(taskToSave);
-        when(taskRepository.save(taskToSave)).thenReturn(savedTask);
+        // El titulo duplicado ya no se consulta antes: lo decide el INSERT
+        when(taskRepository.insertIfAllowed(taskToSave)).thenReturn(TaskInsertResult.inserted(savedTask));
 
         // El TaskResponseDTO necesita todos los campos, incluyendo las fechas
         TaskResponseDTO expectedResponse = new TaskResponseDTO(
@@ -99,9 +104,9 @@ public class CreateTaskTest {
 
         // VERIFY mocks were called correctly
         verify(projectRepository).findById(projectId);
-        verify(taskRepository).existByTitleAndProject(taskRequestDTO.title(), mockActiveProject);
         verify(taskMapper).toDomain(taskRequestDTO, mockActiveProject);
-        verify(taskRepository).save(taskToSave);
+        verify(taskRepository).insertIfAllowed(taskToSave);
+        verify(countersRepository).add(projectId, TaskStatus.TODO, 1, 8);
         verify(taskMapper).toResponseDTO(savedTask);
     }
 
@@ -128,7 +133,7 @@ public class CreateTaskTest {
         assertEquals("El proyecto no fue encontrado con id: " + noExistentId, exception.getMessage());
 
         verify(projectRepository).findById(noExistentId);
-        verify(taskRepository, never()).existByTitleAndProject(any(), any());
+        verify(taskRepository, never()).insertIfAllowed(any());
     }
 
     @Test
@@ -138,15 +143,20 @@ public class CreateTaskTest {
         // ARRANGE: Mockear un proyecto con estado CLOSED
         Long closedProjectId = 98L;
         Project mockClosedProject = mock(Project.class);
-        when(mockClosedProject.getStatus()).thenReturn(ProjectStatus.CLOSED);
+        Mockito.lenient().when(mockClosedProject.getStatus()).thenReturn(ProjectStatus.CLOSED);
 
         TaskRequestDTO taskRequestDTO = new TaskRequestDTO(
                 null, "Tarea Imposible", 8, "Dev", TaskStatus.TODO,
                 LocalDateTime.now().plusDays(5), LocalDateTime.now().plusSeconds(1)
         );
+        Task taskToSave = mock(Task.class);
 
         // 1. Mockear la búsqueda: debe devolver el proyecto CERRADO
         when(projectRepository.findById(closedProjectId)).thenReturn(Optional.of(mockClosedProject));
+        when(taskMapper.toDomain(taskRequestDTO, mockClosedProject)).thenReturn(taskToSave);
+        // 2. El estado no se mira en Java: el INSERT es el que encuentra el proyecto cerrado
+        when(taskRepository.insertIfAllowed(taskToSave))
+                .thenReturn(TaskInsertResult.rejected(TaskInsertResult.Outcome.PROJECT_CLOSED));
 
         // ACT & ASSERT
         Exception exception = assertThrows(BusinessRuleViolationsException.class, () -> {
@@ -156,7 +166,9 @@ public class CreateTaskTest {
         assertEquals("No se puede agregar una tarea a un proyecto Cerrado (CLOSED).", exception.getMessage());
 
         verify(projectRepository).findById(closedProjectId);
-        verify(taskRepository, never()).existByTitleAndProject(any(), any());
+        verify(mockClosedProject, never()).getStatus();
+        verify(taskRepository).insertIfAllowed(taskToSave);
+        verify(countersRepository, never()).add(any(), any(), Mockito.anyLong(), Mockito.anyLong());
     }
 
     @Test
@@ -172,10 +184,14 @@ public class CreateTaskTest {
                 TaskStatus.TODO, safeStart.plusDays(1), safeStart
         );
 
+        Task taskToSave = mock(Task.class);
+
         // 1. Mockear la búsqueda: debe devolver el proyecto ACTIVO
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockActiveProject));
-        // 2. Mockear la verificación de duplicidad: debe ser TRUE
-        when(taskRepository.existByTitleAndProject(taskRequestDTO.title(), mockActiveProject)).thenReturn(true);
+        when(taskMapper.toDomain(taskRequestDTO, mockActiveProject)).thenReturn(taskToSave);
+        // 2. El INSERT no se hace porque el titulo ya existe en el proyecto
+        when(taskRepository.insertIfAllowed(taskToSave))
+                .thenReturn(TaskInsertResult.rejected(TaskInsertResult.Outcome.DUPLICATE_TITLE));
 
         // ACT & ASSERT
         Exception exception = assertThrows(DuplicateResourceException.class, () -> {
@@ -186,8 +202,53 @@ public class CreateTaskTest {
 
         // VERIFY
         verify(projectRepository).findById(projectId);
-        verify(taskRepository).existByTitleAndProject(taskRequestDTO.title(), mockActiveProject);
-        verify(taskMapper, never()).toDomain(any(), any());
-        verify(taskRepository, never()).save(any());
+        verify(taskRepository).insertIfAllowed(taskToSave);
+        verify(taskMapper, never()).toResponseDTO(any());
+        verify(countersRepository, never()).add(any(), any(), Mockito.anyLong(), Mockito.anyLong());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Si el proyecto se cerro despues de leerlo, el INSERT lo rechaza con la misma Exception")
+    void testCrearTask_DeberiaLanzarBusinessRuleException_CuandoElInsertEncuentraElProyectoCerrado() {
+        LocalDateTime safeStart = LocalDateTime.now().plusSeconds(5);
+        TaskRequestDTO taskRequestDTO = new TaskRequestDTO(
+                null, "Tarea Tardia", 8, "Dev", TaskStatus.TODO, safeStart.plusDays(1), safeStart
+        );
+        Task taskToSave = mock(Task.class);
+
+        // El proyecto de la cache todavia figura ACTIVO
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockActiveProject));
+        when(taskMapper.toDomain(taskRequestDTO, mockActiveProject)).thenReturn(taskToSave);
+        when(taskRepository.insertIfAllowed(taskToSave))
+                .thenReturn(TaskInsertResult.rejected(TaskInsertResult.Outcome.PROJECT_CLOSED));
+
+        Exception exception = assertThrows(BusinessRuleViolationsException.class, () -> {
+            createTaskUseCase.execute(projectId, taskRequestDTO);
+        });
+
+        assertEquals("No se puede agregar una tarea a un proyecto Cerrado (CLOSED).", exception.getMessage());
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Si el proyecto ya no existe al insertar, debe lanzar ResourceNotFoundException")
+    void testCrearTask_DeberiaLanzarResourceNotFoundException_CuandoElInsertNoEncuentraElProyecto() {
+        LocalDateTime safeStart = LocalDateTime.now().plusSeconds(5);
+        TaskRequestDTO taskRequestDTO = new TaskRequestDTO(
+                null, "Tarea Huerfana", 8, "Dev", TaskStatus.TODO, safeStart.plusDays(1), safeStart
+        );
+        Task taskToSave = mock(Task.class);
+
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockActiveProject));
+        when(taskMapper.toDomain(taskRequestDTO, mockActiveProject)).thenReturn(taskToSave);
+        when(taskRepository.insertIfAllowed(taskToSave))
+                .thenReturn(TaskInsertResult.rejected(TaskInsertResult.Outcome.PROJECT_NOT_FOUND));
+
+        Exception exception = assertThrows(ResourceNotFoundException.class, () -> {
+            createTaskUseCase.execute(projectId, taskRequestDTO);
+        });
+
+        assertEquals("El proyecto no fue encontrado con id: " + projectId, exception.getMessage());
     }
 }
\ No newline at end of file
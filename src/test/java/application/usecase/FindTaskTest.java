@@ -1,19 +1,27 @@
 package application.usecase;
 
+import application.dto.response.TaskPageResponseDTO;
 import application.dto.response.TaskResponseDTO;
+import application.dto.response.TaskSummaryResponseDTO;
+import application.mapper.CursorMapper;
 import application.mapper.TaskMapper;
 import domain.model.Task;
 import domain.model.TaskStatus;
+import domain.model.TaskSummary;
 import domain.repository.TaskRepository;
+import infrastructure.exception.ValidationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,6 +35,9 @@ public class FindTaskTest {
     @Mock
     private TaskMapper  taskMapper;
 
+    @Spy
+    private CursorMapper cursorMapper = new CursorMapper();
+
     @InjectMocks
     private FindTaskUseCase findTaskUseCase;
 
@@ -73,4 +84,97 @@ public class FindTaskTest {
         // El mapper nunca debió ser llamado porque la lista estaba vacía
         verifyNoInteractions(taskMapper);
     }
+
+    @Test
+    void testExecutePage_ShouldReturnNextCursor_WhenThereAreMoreTasks() {
+        TaskStatus status = TaskStatus.TODO;
+        Task task1 = mock(Task.class);
+        Task task2 = mock(Task.class);
+        Task task3 = mock(Task.class);
+        when(task2.getId()).thenReturn(20L);
+
+        // Se pide limit + 1 para saber si hay una pagina siguiente
+        when(taskRepository.findByStatusAfter(status, null, 3)).thenReturn(Arrays.asList(task1, task2, task3));
+        when(taskMapper.toResponseDTO(any(Task.class))).thenReturn(mock(TaskResponseDTO.class));
+
+        TaskPageResponseDTO page = findTaskUseCase.execute(status, 2, null);
+
+        assertEquals(2, page.items().size());
+        assertNotNull(page.nextCursor());
+        assertArrayEquals(new String[]{"TODO", "20"}, cursorMapper.decode(page.nextCursor(), 2));
+        verify(taskMapper, never()).toResponseDTO(task3);
+    }
+
+    @Test
+    void testExecutePage_ShouldSeekAfterCursor_AndReturnNullCursorOnLastPage() {
+        TaskStatus status = TaskStatus.TODO;
+        String after = cursorMapper.encode(status, 20L);
+        Task task = mock(Task.class);
+
+        when(taskRepository.findByStatusAfter(status, 20L, 3)).thenReturn(List.of(task));
+        when(taskMapper.toResponseDTO(task)).thenReturn(mock(TaskResponseDTO.class));
+
+        TaskPageResponseDTO page = findTaskUseCase.execute(status, 2, after);
+
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void testExecutePage_ShouldThrowValidationException_WhenCursorBelongsToAnotherStatus() {
+        String after = cursorMapper.encode(TaskStatus.DONE, 20L);
+
+        assertThrows(ValidationException.class, () -> findTaskUseCase.execute(TaskStatus.TODO, 2, after));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testExecutePage_ShouldThrowValidationException_WhenLimitIsOutOfRange() {
+        assertThrows(ValidationException.class, () -> findTaskUseCase.execute(TaskStatus.TODO, 0, null));
+        assertThrows(ValidationException.class,
+                () -> findTaskUseCase.execute(TaskStatus.TODO, FindTaskUseCase.MAX_PAGE_SIZE + 1, null));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExecuteStream_ShouldMapEachTaskAsItIsRead() {
+        TaskStatus status = TaskStatus.DONE;
+        Task task1 = mock(Task.class);
+        Task task2 = mock(Task.class);
+        TaskResponseDTO dto1 = mock(TaskResponseDTO.class);
+        TaskResponseDTO dto2 = mock(TaskResponseDTO.class);
+
+        // El repositorio entrega las tareas de a una al consumidor
+        doAnswer(invocation -> {
+            Consumer<Task> action = invocation.getArgument(1);
+            action.accept(task1);
+            action.accept(task2);
+            return null;
+        }).when(taskRepository).forEachByStatus(eq(status), any(Consumer.class));
+        when(taskMapper.toResponseDTO(task1)).thenReturn(dto1);
+        when(taskMapper.toResponseDTO(task2)).thenReturn(dto2);
+
+        List<TaskResponseDTO> written = new ArrayList<>();
+        findTaskUseCase.execute(status, written::add);
+
+        assertEquals(List.of(dto1, dto2), written);
+        verify(taskRepository, never()).findByStatus(any());
+    }
+
+    @Test
+    void testExecuteSummary_ShouldMapProjectionsWithoutLoadingDomainTasks() {
+        TaskStatus status = TaskStatus.TODO;
+        TaskSummary summary = new TaskSummary(1L, "Tarea", 7L, "Proyecto", 3, "Ana", status, null, null);
+        TaskSummaryResponseDTO dto = mock(TaskSummaryResponseDTO.class);
+
+        when(taskRepository.findSummariesByStatus(status)).thenReturn(List.of(summary));
+        when(taskMapper.toSummaryResponseDTO(summary)).thenReturn(dto);
+
+        List<TaskSummaryResponseDTO> result = findTaskUseCase.executeSummary(status);
+
+        assertEquals(List.of(dto), result);
+        verify(taskRepository, never()).findByStatus(any());
+        verify(taskMapper, never()).toResponseDTO(any());
+    }
 }
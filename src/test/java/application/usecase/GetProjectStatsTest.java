@@ -0,0 +1,84 @@
+package application.usecase;
+
+import application.dto.response.ProjectStatsResponseDTO;
+import domain.model.Project;
+import domain.model.TaskStatus;
+import domain.model.TaskStatusStats;
+import domain.repository.ProjectRepository;
+import domain.repository.TaskRepository;
+import infrastructure.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GetProjectStatsTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private GetProjectStatsUseCase getProjectStatsUseCase;
+
+    @Test
+    @DisplayName("Suma los agregados de cada estado y completa en cero los estados sin tareas")
+    void testExecute_ShouldSumRowsAndFillMissingStatuses() {
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 10, 0);
+        when(taskRepository.findStatsByProjectId(1L)).thenReturn(List.of(
+                new TaskStatusStats(TaskStatus.TODO, 3, 24, 5, base, base.plusDays(2)),
+                new TaskStatusStats(TaskStatus.DONE, 2, 10, 0, base.plusDays(1), null)
+        ));
+
+        ProjectStatsResponseDTO stats = getProjectStatsUseCase.execute(1L);
+
+        assertEquals(1L, stats.projectId());
+        assertEquals(5, stats.tasks());
+        assertEquals(34, stats.estimatedHours());
+        assertEquals(5, stats.comments());
+        assertEquals(base.plusDays(2), stats.lastActivityAt());
+        assertEquals(3, stats.byStatus().size());
+        assertEquals(3, stats.byStatus().get(TaskStatus.TODO).tasks());
+        assertEquals(10, stats.byStatus().get(TaskStatus.DONE).estimatedHours());
+        assertEquals(0, stats.byStatus().get(TaskStatus.IN_PROGRESS).tasks());
+        // Con filas no hace falta buscar el proyecto
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    @DisplayName("Proyecto sin tareas: todo en cero y sin ultima actividad")
+    void testExecute_ShouldReturnZeros_WhenProjectHasNoTasks() {
+        when(taskRepository.findStatsByProjectId(1L)).thenReturn(Collections.emptyList());
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(mock(Project.class)));
+
+        ProjectStatsResponseDTO stats = getProjectStatsUseCase.execute(1L);
+
+        assertEquals(0, stats.tasks());
+        assertNull(stats.lastActivityAt());
+        assertEquals(0, stats.byStatus().get(TaskStatus.TODO).comments());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar ResourceNotFoundException si el proyecto no existe")
+    void testExecute_ShouldThrow_WhenProjectNotFound() {
+        when(taskRepository.findStatsByProjectId(99L)).thenReturn(Collections.emptyList());
+        when(projectRepository.findById(99L)).thenReturn(Optional.empty());
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> getProjectStatsUseCase.execute(99L));
+        assertEquals("Project not found with id: 99", exception.getMessage());
+    }
+}
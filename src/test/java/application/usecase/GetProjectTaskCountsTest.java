@@ -0,0 +1,59 @@
+package application.usecase;
+
+import application.dto.response.ProjectTaskCountsResponseDTO;
+import domain.model.ProjectTaskCount;
+import domain.model.TaskStatus;
+import domain.repository.ProjectTaskCountersRepository;
+import infrastructure.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GetProjectTaskCountsTest {
+
+    @Mock
+    private ProjectTaskCountersRepository countersRepository;
+
+    @InjectMocks
+    private GetProjectTaskCountsUseCase getProjectTaskCountsUseCase;
+
+    @Test
+    @DisplayName("Devuelve un item por proyecto pedido, en orden, con ceros donde no hay contadores")
+    void testExecute_ShouldReturnOneItemPerProject() {
+        when(countersRepository.findByProjectIds(anyCollection())).thenReturn(List.of(
+                new ProjectTaskCount(2L, TaskStatus.TODO, 3, 12),
+                new ProjectTaskCount(2L, TaskStatus.DONE, 1, 5)
+        ));
+
+        List<ProjectTaskCountsResponseDTO> result = getProjectTaskCountsUseCase.execute(List.of(1L, 2L, 1L));
+
+        assertEquals(List.of(1L, 2L), result.stream().map(ProjectTaskCountsResponseDTO::projectId).toList());
+        assertEquals(0, result.get(0).tasks());
+        assertEquals(0, result.get(0).byStatus().get(TaskStatus.TODO).tasks());
+        assertEquals(4, result.get(1).tasks());
+        assertEquals(17, result.get(1).estimatedHours());
+        assertEquals(0, result.get(1).byStatus().get(TaskStatus.IN_PROGRESS).tasks());
+        verify(countersRepository, times(1)).findByProjectIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar ValidationException sin ids o con mas de MAX_PROJECTS")
+    void testExecute_ShouldThrow_WhenIdsOutOfRange() {
+        List<Long> tooMany = Collections.nCopies(GetProjectTaskCountsUseCase.MAX_PROJECTS + 1, 1L);
+
+        assertThrows(ValidationException.class, () -> getProjectTaskCountsUseCase.execute(List.of()));
+        assertThrows(ValidationException.class, () -> getProjectTaskCountsUseCase.execute(tooMany));
+        verifyNoInteractions(countersRepository);
+    }
+}
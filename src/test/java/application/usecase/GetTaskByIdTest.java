@@ -1,23 +1,32 @@
 package application.usecase;
 
 import application.dto.response.CommentResponseDTO;
+import application.dto.response.CommentSummaryResponseDTO;
 import application.dto.response.TaskResponseDTO;
+import application.dto.response.TaskSummaryResponseDTO;
+import application.dto.response.TaskSummaryWithCommentsResponseDTO;
 import application.dto.response.TaskWithCommentsResponseDTO;
+import application.mapper.CursorMapper;
 import application.mapper.TaskCommentMapper;
 import application.mapper.TaskMapper;
 import domain.model.Project;
 import domain.model.Task;
 import domain.model.TaskComment;
+import domain.model.TaskCommentSummary;
 import domain.model.TaskStatus;
+import domain.model.TaskSummary;
+import domain.model.TaskWithComments;
 import domain.repository.TaskCommentRepository;
 import domain.repository.TaskRepository;
 import infrastructure.exception.ResourceNotFoundException;
+import infrastructure.exception.ValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
@@ -27,6 +36,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -44,6 +54,8 @@ public class GetTaskByIdTest {
     private TaskMapper taskMapper;
     @Mock
     private TaskCommentMapper commentMapper;
+    @Spy
+    private CursorMapper cursorMapper = new CursorMapper();
 
     @InjectMocks
     private GetTaskByIdUseCase getTaskByIdUseCase;
@@ -55,7 +67,7 @@ public class GetTaskByIdTest {
     @BeforeEach
     void setUp() {
         mockTask = mock(Task.class);
-        when(mockTask.getProyect()).thenReturn(mock(Project.class));
+        lenient().when(mockTask.getProyect()).thenReturn(mock(Project.class));
 
         mockTaskDTO = new TaskResponseDTO(
                 taskId,
@@ -87,7 +99,7 @@ public class GetTaskByIdTest {
 
         verify(taskRepository).findById(taskId);
         verify(taskMapper).toResponseDTO(mockTask);
-        verify(commentRepository, never()).findAllByTaskId(anyLong());
+        verify(taskRepository, never()).findByIdWithComments(anyLong(), any(), any(), anyInt());
         verify(commentMapper, never()).toResponseDTO(any());
     }
 
@@ -102,8 +114,9 @@ public class GetTaskByIdTest {
         CommentResponseDTO mockCommentDTO2 = new CommentResponseDTO(11L, mockTask, "Texto 2", "Autor 2", LocalDateTime.now());
 
         when(taskMapper.toResponseDTO(mockTask)).thenReturn(mockTaskDTO);
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(mockTask));
-        when(commentRepository.findAllByTaskId(taskId)).thenReturn(commentList);
+        // Pide un comentario de mas que el limite por defecto para saber si hay otra pagina
+        when(taskRepository.findByIdWithComments(taskId, null, null, 51))
+                .thenReturn(Optional.of(new TaskWithComments(mockTask, commentList)));
         when(commentMapper.toResponseDTO(mockComment1)).thenReturn(mockCommentDTO1);
         when(commentMapper.toResponseDTO(mockComment2)).thenReturn(mockCommentDTO2);
 
@@ -115,10 +128,12 @@ public class GetTaskByIdTest {
         assertEquals(2, result.comments().size(), "Debe haber dos comentarios");
         assertTrue(result.comments().contains(mockCommentDTO1));
         assertTrue(result.comments().contains(mockCommentDTO2));
+        assertFalse(result.hasMoreComments());
+        assertNull(result.nextCommentsCursor());
 
-        verify(taskRepository).findById(taskId);
+        verify(taskRepository).findByIdWithComments(taskId, null, null, 51); // Tarea y comentarios juntos
+        verify(taskRepository, never()).findById(anyLong());
         verify(taskMapper).toResponseDTO(mockTask);
-        verify(commentRepository).findAllByTaskId(taskId); // Se debe llamar al repo de comentarios
         verify(commentMapper, times(2)).toResponseDTO(any(TaskComment.class)); // Se debe llamar al mapper de comentarios
     }
 
@@ -126,8 +141,8 @@ public class GetTaskByIdTest {
     @DisplayName("Debe devolver la tarea con lista vacía si withComments es true pero no hay comentarios")
     void testExecute_ShouldReturnTask_WithEmptyCommentList() {
         when(taskMapper.toResponseDTO(mockTask)).thenReturn(mockTaskDTO);
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(mockTask));
-        when(commentRepository.findAllByTaskId(taskId)).thenReturn(Collections.emptyList());
+        when(taskRepository.findByIdWithComments(taskId, null, null, 51))
+                .thenReturn(Optional.of(new TaskWithComments(mockTask, Collections.emptyList())));
 
         TaskWithCommentsResponseDTO result = getTaskByIdUseCase.execute(taskId, true);
 
@@ -136,9 +151,8 @@ public class GetTaskByIdTest {
         assertNotNull(result.comments());
         assertTrue(result.comments().isEmpty(), "La lista de comentarios debe estar vacía");
 
-        verify(taskRepository).findById(taskId);
+        verify(taskRepository).findByIdWithComments(taskId, null, null, 51);
         verify(taskMapper).toResponseDTO(mockTask);
-        verify(commentRepository).findAllByTaskId(taskId);
         verify(commentMapper, never()).toResponseDTO(any());
     }
 
@@ -156,6 +170,98 @@ public class GetTaskByIdTest {
 
         verify(taskRepository).findById(invalidTaskId);
         verify(taskMapper, never()).toResponseDTO(any());
-        verify(commentRepository, never()).findAllByTaskId(anyLong());
+        verify(taskRepository, never()).findByIdWithComments(anyLong(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar ResourceNotFoundException si la tarea no existe al pedir comentarios")
+    void testExecute_ShouldThrowException_WhenTaskNotFound_WithComments() {
+        when(taskRepository.findByIdWithComments(99L, null, null, 51)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> getTaskByIdUseCase.execute(99L, true));
+        verify(taskMapper, never()).toResponseDTO(any());
+    }
+
+    @Test
+    @DisplayName("Debe indicar hasMoreComments y devolver el cursor del ultimo comentario de la pagina")
+    void testExecute_ShouldReturnNextCursor_WhenMoreCommentsExist() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 11, 10, 9, 30);
+        TaskComment first = mock(TaskComment.class);
+        TaskComment second = mock(TaskComment.class);
+        TaskComment extra = mock(TaskComment.class);
+        when(second.getId()).thenReturn(11L);
+        when(second.getCreatedAt()).thenReturn(createdAt);
+
+        when(taskMapper.toResponseDTO(mockTask)).thenReturn(mockTaskDTO);
+        when(taskRepository.findByIdWithComments(taskId, null, null, 3))
+                .thenReturn(Optional.of(new TaskWithComments(mockTask, List.of(first, second, extra))));
+
+        TaskWithCommentsResponseDTO result = getTaskByIdUseCase.execute(taskId, true, 2, null);
+
+        assertEquals(2, result.comments().size());
+        assertTrue(result.hasMoreComments());
+        assertArrayEquals(new String[]{"2025-11-10T09:30", "11"}, cursorMapper.decode(result.nextCommentsCursor(), 2));
+        verify(commentMapper, never()).toResponseDTO(extra);
+    }
+
+    @Test
+    @DisplayName("Debe continuar despues de la posicion indicada por commentsAfter")
+    void testExecute_ShouldUseCursorPosition() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 11, 10, 9, 30, 15, 123456000);
+        String cursor = cursorMapper.encode(createdAt, 11L);
+
+        when(taskMapper.toResponseDTO(mockTask)).thenReturn(mockTaskDTO);
+        when(taskRepository.findByIdWithComments(taskId, createdAt, 11L, 11))
+                .thenReturn(Optional.of(new TaskWithComments(mockTask, Collections.emptyList())));
+
+        TaskWithCommentsResponseDTO result = getTaskByIdUseCase.execute(taskId, true, 10, cursor);
+
+        assertTrue(result.comments().isEmpty());
+        assertFalse(result.hasMoreComments());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar ValidationException si el limite o el cursor de comentarios son invalidos")
+    void testExecute_ShouldThrowValidation_WhenPagingParamsInvalid() {
+        assertThrows(ValidationException.class, () -> getTaskByIdUseCase.execute(taskId, true, 0, null));
+        assertThrows(ValidationException.class,
+                () -> getTaskByIdUseCase.execute(taskId, true, GetTaskByIdUseCase.MAX_COMMENTS_LIMIT + 1, null));
+        assertThrows(ValidationException.class,
+                () -> getTaskByIdUseCase.execute(taskId, true, 10, cursorMapper.encode("ayer", 11L)));
+        verifyNoInteractions(taskRepository, commentRepository);
+    }
+
+    @Test
+    @DisplayName("view=summary debe usar las proyecciones y no reconstruir la tarea ni sus comentarios")
+    void testExecuteSummary_ShouldUseProjections() {
+        TaskSummary summary = new TaskSummary(taskId, "Tarea de Prueba", 3L, "Proyecto", 8, "Asignado",
+                TaskStatus.TODO, null, null);
+        TaskSummaryResponseDTO summaryDto = new TaskSummaryResponseDTO(taskId, "Tarea de Prueba", 3L, "Proyecto", 8,
+                "Asignado", TaskStatus.TODO, null, null);
+        TaskCommentSummary comment = new TaskCommentSummary(10L, taskId, "Texto 1", "Autor 1", LocalDateTime.now());
+        CommentSummaryResponseDTO commentDto = new CommentSummaryResponseDTO(10L, taskId, "Texto 1", "Autor 1", comment.createdAt());
+
+        when(taskRepository.findSummaryById(taskId)).thenReturn(Optional.of(summary));
+        when(taskMapper.toSummaryResponseDTO(summary)).thenReturn(summaryDto);
+        when(commentRepository.findSummaryPageByTaskId(taskId, null, null, 51)).thenReturn(List.of(comment));
+        when(commentMapper.toSummaryResponseDTO(comment)).thenReturn(commentDto);
+
+        TaskSummaryWithCommentsResponseDTO result = getTaskByIdUseCase.executeSummary(taskId, true);
+
+        assertEquals(taskId, result.id());
+        assertEquals(3L, result.projectId());
+        assertEquals(List.of(commentDto), result.comments());
+        assertFalse(result.hasMoreComments());
+        verify(taskRepository, never()).findById(anyLong());
+        verify(taskRepository, never()).findByIdWithComments(anyLong(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("view=summary debe lanzar ResourceNotFoundException si la tarea no existe")
+    void testExecuteSummary_ShouldThrowException_WhenTaskNotFound() {
+        when(taskRepository.findSummaryById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> getTaskByIdUseCase.executeSummary(99L, true));
+        verify(commentRepository, never()).findSummaryPageByTaskId(anyLong(), any(), any(), anyInt());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,101 @@
+package application.usecase;
+
+import application.dto.response.CommentSearchPageResponseDTO;
+import application.mapper.CursorMapper;
+import domain.model.CommentSearchHit;
+import domain.model.Project;
+import domain.model.TaskCommentSummary;
+import domain.repository.CommentSearchRepository;
+import domain.repository.ProjectRepository;
+import infrastructure.exception.ResourceNotFoundException;
+import infrastructure.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchCommentsTest {
+
+    @Mock
+    private CommentSearchRepository searchRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private final CursorMapper cursorMapper = new CursorMapper();
+
+    private SearchCommentsUseCase searchCommentsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        searchCommentsUseCase = new SearchCommentsUseCase(searchRepository, projectRepository, cursorMapper);
+    }
+
+    private static CommentSearchHit hit(long id, double score) {
+        return new CommentSearchHit(new TaskCommentSummary(id, 1L, "Comentario " + id, "Ana",
+                LocalDateTime.of(2025, 3, 1, 10, 0)), score);
+    }
+
+    @Test
+    @DisplayName("Pide un resultado de mas y arma el cursor con el puntaje y el id del ultimo devuelto")
+    void testExecute_ShouldReturnPageAndCursor() {
+        when(searchRepository.search("deploy bloqueado", 7L, null, null, 3))
+                .thenReturn(List.of(hit(9L, 2.5), hit(4L, 1.25), hit(8L, 0.5)));
+
+        CommentSearchPageResponseDTO page = searchCommentsUseCase.execute("  deploy bloqueado ", 7L, 2, null);
+
+        assertEquals(List.of(9L, 4L), page.items().stream().map(item -> item.id()).toList());
+        assertEquals(1.25, page.items().get(1).score());
+        assertNotNull(page.nextCursor());
+
+        when(searchRepository.search("deploy", null, 1.25, 4L, 3)).thenReturn(List.of(hit(8L, 0.5)));
+        CommentSearchPageResponseDTO next = searchCommentsUseCase.execute("deploy", null, 2, page.nextCursor());
+
+        assertEquals(List.of(8L), next.items().stream().map(item -> item.id()).toList());
+        assertNull(next.nextCursor());
+        // Con resultados no hace falta buscar el proyecto
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    @DisplayName("Sin resultados distingue un proyecto sin coincidencias de uno inexistente")
+    void testExecute_ShouldThrow_WhenProjectNotFound() {
+        when(searchRepository.search(anyString(), anyLong(), isNull(), isNull(), anyInt())).thenReturn(List.of());
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(mock(Project.class)));
+        when(projectRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertTrue(searchCommentsUseCase.execute("deploy", 1L, 20, null).items().isEmpty());
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> searchCommentsUseCase.execute("deploy", 99L, 20, null));
+        assertEquals("Project not found with id: 99", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Rechaza busquedas vacias, sin letras ni digitos o demasiado largas, limites fuera de rango y cursores invalidos")
+    void testExecute_ShouldValidateParameters() {
+        assertThrows(ValidationException.class, () -> searchCommentsUseCase.execute(" ", null, 20, null));
+        assertThrows(ValidationException.class, () -> searchCommentsUseCase.execute("¿?", null, 20, null));
+        assertThrows(ValidationException.class, () -> searchCommentsUseCase.execute(" -- ; ", null, 20, null));
+        assertThrows(ValidationException.class,
+                () -> searchCommentsUseCase.execute("x".repeat(SearchCommentsUseCase.MAX_QUERY_LENGTH + 1), null, 20, null));
+        assertThrows(ValidationException.class, () -> searchCommentsUseCase.execute("deploy", null, 0, null));
+        assertThrows(ValidationException.class,
+                () -> searchCommentsUseCase.execute("deploy", null, SearchCommentsUseCase.MAX_PAGE_SIZE + 1, null));
+        assertThrows(ValidationException.class,
+                () -> searchCommentsUseCase.execute("deploy", null, 20, cursorMapper.encode("NaN", 4)));
+        assertThrows(ValidationException.class,
+                () -> searchCommentsUseCase.execute("deploy", null, 20, cursorMapper.encode(1.5)));
+        verifyNoInteractions(searchRepository, projectRepository);
+    }
+}
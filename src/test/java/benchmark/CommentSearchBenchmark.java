@@ -0,0 +1,173 @@
+package benchmark;
+
+import application.dto.response.CommentSearchPageResponseDTO;
+import application.usecase.SearchCommentsUseCase;
+import domain.model.Project;
+import domain.model.ProjectStatus;
+import domain.model.TaskStatus;
+import domain.repository.ProjectRepository;
+import infrastructure.persistence.repository.implementations.EmbeddedCommentSearchRepository;
+import model.integradorsinteclados.IntegradorSinTecladosApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import persistence.SqlStatementRecorder;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /search/comments sobre 200.000 comentarios (2 proyectos de 10.000 tareas con 10 comentarios
+ * cada una). Contexto completo de Spring sobre H2, con el indice en memoria.
+ *
+ * - index: SearchCommentsUseCase (indice invertido y lectura de la pagina por id), primera pagina de 20.
+ * - indexProject: lo mismo, limitado a un proyecto.
+ * - indexLaterPage: la pagina 51 (con el cursor de la 50), sin proyecto.
+ * - likeScan: lo que haria la consulta sin indice: lower(text) like '%termino%' por cada termino,
+ *   sin ranking (solo los 20 ultimos por id).
+ *
+ * query: "deploy" aparece en 1 de cada 7 comentarios; "deploy migracion" (los dos) en 1 de cada 45;
+ * "incidente" en 1 de cada 5.000 (likeScan tiene que recorrer toda la tabla para juntar 20).
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="CommentSearchBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class CommentSearchBenchmark {
+
+    private static final int TASKS_PER_PROJECT = 10_000;
+    private static final int COMMENTS_PER_TASK = 10;
+    private static final int PAGE_SIZE = 20;
+    private static final int LATER_PAGE = 50;
+
+    private static final String[] TOPICS = {"deploy", "revision", "estimacion", "cliente", "reunion", "pruebas", "diseño"};
+    private static final String[] DETAILS = {"migracion", "bloqueado", "pendiente", "urgente", "documentacion",
+            "rendimiento", "seguridad", "factura", "backlog", "sprint", "demo", "soporte", "retraso"};
+
+    @Param({"deploy", "deploy migracion", "incidente"})
+    private String query;
+
+    private ConfigurableApplicationContext context;
+    private SearchCommentsUseCase searchCommentsUseCase;
+    private JdbcTemplate jdbcTemplate;
+    private Long projectId;
+    private String laterCursor;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(IntegradorSinTecladosApplication.class)
+                .web(WebApplicationType.NONE)
+                // OPTIMIZE_REUSE_RESULTS=FALSE: H2 devuelve el resultado anterior si la consulta y las tablas
+                // no cambiaron, y se mediria un acceso a memoria en lugar de la consulta
+                .run("--spring.datasource.url=jdbc:h2:mem:commentSearchBenchmark;MODE=PostgreSQL;"
+                                + "DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE;OPTIMIZE_REUSE_RESULTS=FALSE",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--app.comment-search.engine=embedded",
+                        "--logging.level.root=WARN");
+        searchCommentsUseCase = context.getBean(SearchCommentsUseCase.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        ProjectRepository projectRepository = context.getBean(ProjectRepository.class);
+        for (int p = 0; p < 2; p++) {
+            Project project = projectRepository.save(Project.create("Proyecto Busqueda " + p, LocalDate.now(),
+                    LocalDate.now().plusYears(1), ProjectStatus.ACTIVE, Optional.empty()));
+            insertTasksAndComments(project.getId(), (long) p * TASKS_PER_PROJECT);
+            projectId = project.getId();
+        }
+
+        // Los comentarios se cargaron por JDBC despues de la carga inicial del indice
+        EmbeddedCommentSearchRepository index = context.getBean(EmbeddedCommentSearchRepository.class);
+        long start = System.nanoTime();
+        index.load();
+        System.out.println("index load: " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+        laterCursor = cursorAfterPages(LATER_PAGE);
+        SqlStatementRecorder.clear();
+    }
+
+    private String cursorAfterPages(int pages) {
+        String cursor = null;
+        for (int page = 0; page < pages; page++) {
+            cursor = searchCommentsUseCase.execute(query, null, PAGE_SIZE, cursor).nextCursor();
+        }
+        return cursor;
+    }
+
+    // Filas directo por JDBC, con ids propios (lejos de los que reparten las secuencias)
+    private void insertTasksAndComments(Long projectId, long firstTaskId) {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<Object[]> tasks = new ArrayList<>(TASKS_PER_PROJECT);
+        List<Object[]> comments = new ArrayList<>(TASKS_PER_PROJECT * COMMENTS_PER_TASK);
+        for (int i = 0; i < TASKS_PER_PROJECT; i++) {
+            long taskId = 1_000_000 + firstTaskId + i;
+            tasks.add(new Object[]{taskId, "Tarea " + i, projectId, 1 + i % 40, "Usuario " + i % 50,
+                    TaskStatus.TODO.name(), Timestamp.valueOf(start.plusMinutes(i)),
+                    Timestamp.valueOf(start.plusMinutes(i).plusDays(30))});
+            for (int c = 0; c < COMMENTS_PER_TASK; c++) {
+                long commentId = taskId * COMMENTS_PER_TASK + c;
+                String text = "Comentario " + commentId + " sobre " + TOPICS[(int) (commentId % TOPICS.length)]
+                        + ": " + DETAILS[(int) (commentId % DETAILS.length)] + " y "
+                        + DETAILS[(int) (commentId / 7 % DETAILS.length)] + " para el equipo"
+                        + (commentId % 5000 == 0 ? " por un incidente" : "");
+                comments.add(new Object[]{commentId, taskId, text, "Autor " + c,
+                        Timestamp.valueOf(start.plusMinutes(i).plusSeconds(c))});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into tasks (id, title, project_id, estimated_hours, assignee, status, " +
+                "created_at, finished_at) values (?, ?, ?, ?, ?, ?, ?, ?)", tasks);
+        jdbcTemplate.batchUpdate("insert into task_comments (id, task_id, text, author, created_at) " +
+                "values (?, ?, ?, ?, ?)", comments);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearRecorder() {
+        SqlStatementRecorder.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public CommentSearchPageResponseDTO index() {
+        return searchCommentsUseCase.execute(query, null, PAGE_SIZE, null);
+    }
+
+    @Benchmark
+    public CommentSearchPageResponseDTO indexProject() {
+        return searchCommentsUseCase.execute(query, projectId, PAGE_SIZE, null);
+    }
+
+    @Benchmark
+    public CommentSearchPageResponseDTO indexLaterPage() {
+        return searchCommentsUseCase.execute(query, null, PAGE_SIZE, laterCursor);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> likeScan() {
+        String[] terms = query.toLowerCase(Locale.ROOT).split(" ");
+        StringBuilder sql = new StringBuilder("select id, task_id, text, author, created_at from task_comments where true");
+        for (String ignored : terms) {
+            sql.append(" and lower(text) like ?");
+        }
+        sql.append(" order by id desc limit ").append(PAGE_SIZE + 1);
+        Object[] patterns = new Object[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            patterns[i] = "%" + terms[i] + "%";
+        }
+        return jdbcTemplate.queryForList(sql.toString(), patterns);
+    }
+}
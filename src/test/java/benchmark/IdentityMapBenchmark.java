@@ -0,0 +1,111 @@
+package benchmark;
+
+import application.dto.response.TaskResponseDTO;
+import application.mapper.TaskMapper;
+import domain.model.ProjectStatus;
+import domain.model.TaskStatus;
+import infrastructure.persistence.entities.ProjectEntity;
+import infrastructure.persistence.entities.TaskEntity;
+import infrastructure.persistence.mapper.PersistenceMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Respuesta de GET /tasks?status=... con 5.000 tareas de 20 proyectos (entidad -> dominio -> DTO).
+ *
+ * - identityMap=false: cada tarea arma su propio Project (toDomain por fila).
+ * - identityMap=true: PersistenceMapper.IdentityMap, un Project por id de proyecto.
+ *
+ * Como en el contexto de persistencia, las tareas de un proyecto apuntan a la misma ProjectEntity.
+ * Ademas de la asignacion por operacion (-prof gc), el setup imprime cuanto heap queda ocupado
+ * por cada lista de respuesta (heap usado despues de System.gc(), con 50 respuestas retenidas).
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="IdentityMapBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdentityMapBenchmark {
+
+    private static final int TASKS = 5000;
+    private static final int PROJECTS = 20;
+    private static final int RETAINED_RESPONSES = 50;
+
+    @Param({"false", "true"})
+    private boolean identityMap;
+
+    private final PersistenceMapper persistenceMapper = new PersistenceMapper(null); // solo toDomain: no usa el EntityManager
+    private final TaskMapper taskMapper = new TaskMapper();
+
+    private List<TaskEntity> entities;
+
+    @Setup
+    public void setUp() {
+        List<ProjectEntity> projects = new ArrayList<>(PROJECTS);
+        for (int p = 0; p < PROJECTS; p++) {
+            ProjectEntity project = new ProjectEntity();
+            project.setId((long) p);
+            project.setName("Proyecto " + p);
+            project.setStartDate(LocalDate.now());
+            project.setEndDate(LocalDate.now().plusYears(1));
+            project.setStatus(ProjectStatus.ACTIVE);
+            project.setDescription("Descripcion del proyecto " + p);
+            projects.add(project);
+        }
+
+        LocalDateTime start = LocalDateTime.now();
+        entities = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            TaskEntity task = new TaskEntity();
+            task.setId((long) i);
+            task.setTitle("Tarea " + i);
+            task.setProject(projects.get(i % PROJECTS));
+            task.setEstimatedHours(8);
+            task.setAssignee("Tester");
+            task.setStatus(TaskStatus.IN_PROGRESS);
+            task.setCreatedAt(start);
+            task.setFinishedAt(start.plusYears(1));
+            entities.add(task);
+        }
+
+        // Una sola respuesta queda dentro del ruido de la medicion: se retienen varias y se divide
+        long before = usedHeapAfterGc();
+        List<List<TaskResponseDTO>> responses = new ArrayList<>(RETAINED_RESPONSES);
+        for (int i = 0; i < RETAINED_RESPONSES; i++) {
+            responses.add(listResponse());
+        }
+        long after = usedHeapAfterGc();
+        Reference.reachabilityFence(responses);
+        System.out.printf("%nidentityMap=%s: heap retenido por respuesta = %d KB%n",
+                identityMap, (after - before) / RETAINED_RESPONSES / 1024);
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> listResponse() {
+        PersistenceMapper.IdentityMap identities = identityMap ? new PersistenceMapper.IdentityMap() : null;
+        List<TaskResponseDTO> result = new ArrayList<>(TASKS);
+        for (TaskEntity entity : entities) {
+            result.add(taskMapper.toResponseDTO(identities == null
+                    ? persistenceMapper.toDomain(entity)
+                    : persistenceMapper.toDomain(entity, identities)));
+        }
+        return result;
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
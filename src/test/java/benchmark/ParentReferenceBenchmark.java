@@ -0,0 +1,119 @@
+package benchmark;
+
+import application.dto.response.TaskResponseDTO;
+import application.mapper.TaskMapper;
+import domain.model.ProjectStatus;
+import domain.model.Task;
+import domain.model.TaskComment;
+import domain.model.TaskStatus;
+import infrastructure.persistence.entities.ProjectEntity;
+import infrastructure.persistence.entities.TaskCommentEntity;
+import infrastructure.persistence.entities.TaskEntity;
+import infrastructure.persistence.mapper.PersistenceMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de mapear entidades a dominio segun si se usan o no los padres (Project de cada Task,
+ * Task de cada TaskComment).
+ *
+ * - tasksToDomain / commentsToDomain: se mapea la lista y los padres no se usan.
+ * - tasksToResponseDto: el DTO incluye el Project, asi que el padre si se usa.
+ *
+ * Como en los repositorios, cada lista se mapea con un IdentityMap: los hijos de un mismo padre
+ * comparten la referencia. Las entidades se arman en memoria (ya inicializadas, como las que trae
+ * un join fetch): se mide el mapeo y la asignacion de objetos, no la base.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ParentReferenceBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParentReferenceBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private final PersistenceMapper persistenceMapper = new PersistenceMapper(null); // solo toDomain: no usa el EntityManager
+    private final TaskMapper taskMapper = new TaskMapper();
+
+    private List<TaskEntity> tasks;
+    private List<TaskCommentEntity> comments;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<ProjectEntity> projects = new ArrayList<>();
+        for (int p = 0; p < 20; p++) {
+            ProjectEntity project = new ProjectEntity();
+            project.setId((long) p);
+            project.setName("Proyecto " + p);
+            project.setStartDate(LocalDate.now());
+            project.setEndDate(LocalDate.now().plusYears(1));
+            project.setStatus(ProjectStatus.ACTIVE);
+            project.setDescription("Descripcion del proyecto " + p);
+            projects.add(project);
+        }
+
+        tasks = new ArrayList<>(ROWS);
+        comments = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            TaskEntity task = new TaskEntity();
+            task.setId((long) i);
+            task.setTitle("Tarea " + i);
+            task.setProject(projects.get(i % projects.size()));
+            task.setEstimatedHours(8);
+            task.setAssignee("Tester");
+            task.setStatus(TaskStatus.TODO);
+            task.setCreatedAt(start);
+            task.setFinishedAt(start.plusYears(1));
+            tasks.add(task);
+
+            TaskCommentEntity comment = new TaskCommentEntity();
+            comment.setId((long) i);
+            comment.setTask(tasks.get(i / 20)); // 20 comentarios por tarea
+            comment.setText("Comentario " + i);
+            comment.setAuthor("Autor");
+            comment.setCreatedAt(start);
+            comments.add(comment);
+        }
+    }
+
+    @Benchmark
+    public void tasksToDomain(Blackhole blackhole) {
+        PersistenceMapper.IdentityMap identities = new PersistenceMapper.IdentityMap();
+        List<Task> result = new ArrayList<>(ROWS);
+        for (TaskEntity entity : tasks) {
+            result.add(persistenceMapper.toDomain(entity, identities));
+        }
+        blackhole.consume(result);
+    }
+
+    @Benchmark
+    public void commentsToDomain(Blackhole blackhole) {
+        PersistenceMapper.IdentityMap identities = new PersistenceMapper.IdentityMap();
+        List<TaskComment> result = new ArrayList<>(ROWS);
+        for (TaskCommentEntity entity : comments) {
+            result.add(persistenceMapper.toDomain(entity, identities));
+        }
+        blackhole.consume(result);
+    }
+
+    @Benchmark
+    public void tasksToResponseDto(Blackhole blackhole) {
+        PersistenceMapper.IdentityMap identities = new PersistenceMapper.IdentityMap();
+        List<TaskResponseDTO> result = new ArrayList<>(ROWS);
+        for (TaskEntity entity : tasks) {
+            result.add(taskMapper.toResponseDTO(persistenceMapper.toDomain(entity, identities)));
+        }
+        blackhole.consume(result);
+    }
+}
@@ -0,0 +1,128 @@
+package benchmark;
+
+import application.dto.response.ProjectStatsResponseDTO;
+import application.dto.response.TaskResponseDTO;
+import application.usecase.FindTaskUseCase;
+import application.usecase.GetProjectStatsUseCase;
+import domain.model.Project;
+import domain.model.ProjectStatus;
+import domain.model.TaskStatus;
+import domain.repository.ProjectRepository;
+import model.integradorsinteclados.IntegradorSinTecladosApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import persistence.SqlStatementRecorder;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /projects/{projectId}/stats sobre un proyecto de 100.000 tareas (y 200.000 comentarios),
+ * con otro proyecto del mismo tamaño en la base. Contexto completo de Spring sobre H2.
+ *
+ * - stats: GetProjectStatsUseCase, una consulta de agregados (GROUP BY status) sobre las tareas,
+ *   con los comentarios contados en cada tarea.
+ * - listsPerStatus: lo que hacia el cliente: GET /tasks?status= para los tres estados y sumar
+ *   las tareas del proyecto (sin serializar el JSON, que solo agregaria costo).
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ProjectStatsBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ProjectStatsBenchmark {
+
+    private static final int TASKS_PER_PROJECT = 100_000;
+    private static final int COMMENTS_PER_TASK = 2;
+
+    private ConfigurableApplicationContext context;
+    private GetProjectStatsUseCase getProjectStatsUseCase;
+    private FindTaskUseCase findTaskUseCase;
+    private Long projectId;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(IntegradorSinTecladosApplication.class)
+                .web(WebApplicationType.NONE)
+                // Como argumentos de linea de comandos para que pisen a application.properties.
+                // OPTIMIZE_REUSE_RESULTS=FALSE: H2 devuelve el resultado anterior si la consulta y las tablas
+                // no cambiaron, y se mediria un acceso a memoria en lugar de la consulta
+                .run("--spring.datasource.url=jdbc:h2:mem:projectStatsBenchmark;MODE=PostgreSQL;"
+                                + "DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE;OPTIMIZE_REUSE_RESULTS=FALSE",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.root=WARN");
+        getProjectStatsUseCase = context.getBean(GetProjectStatsUseCase.class);
+        findTaskUseCase = context.getBean(FindTaskUseCase.class);
+
+        ProjectRepository projectRepository = context.getBean(ProjectRepository.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        for (int p = 0; p < 2; p++) {
+            Project project = projectRepository.save(Project.create("Proyecto Stats " + p, LocalDate.now(),
+                    LocalDate.now().plusYears(1), ProjectStatus.ACTIVE, Optional.empty()));
+            insertTasks(jdbcTemplate, project.getId(), (long) p * TASKS_PER_PROJECT);
+            projectId = project.getId();
+        }
+        SqlStatementRecorder.clear();
+    }
+
+    // Filas directo por JDBC, con ids propios (lejos de los que reparten las secuencias)
+    private static void insertTasks(JdbcTemplate jdbcTemplate, Long projectId, long firstId) {
+        TaskStatus[] statuses = TaskStatus.values();
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<Object[]> rows = new ArrayList<>(TASKS_PER_PROJECT);
+        for (int i = 0; i < TASKS_PER_PROJECT; i++) {
+            rows.add(new Object[]{1_000_000 + firstId + i, "Tarea " + i, projectId, 1 + i % 40, "Usuario " + i % 50,
+                    statuses[i % statuses.length].name(), Timestamp.valueOf(start.plusMinutes(i)),
+                    Timestamp.valueOf(start.plusMinutes(i).plusDays(30))});
+        }
+        jdbcTemplate.batchUpdate("insert into tasks (id, title, project_id, estimated_hours, assignee, status, " +
+                "created_at, finished_at) values (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        for (int c = 0; c < COMMENTS_PER_TASK; c++) {
+            jdbcTemplate.update("insert into task_comments (id, task_id, text, author, created_at) " +
+                    "select id * ? + ?, id, 'Comentario', 'Autor', created_at from tasks where project_id = ?",
+                    COMMENTS_PER_TASK, c, projectId);
+        }
+        // Los contadores de cada tarea (V11) que mantiene TaskCommentRepositoryImp al guardar comentarios
+        jdbcTemplate.update("update tasks set comment_count = ?, last_comment_at = created_at where project_id = ?",
+                COMMENTS_PER_TASK, projectId);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearRecorder() {
+        SqlStatementRecorder.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProjectStatsResponseDTO stats() {
+        return getProjectStatsUseCase.execute(projectId);
+    }
+
+    @Benchmark
+    public long listsPerStatus() {
+        long estimatedHours = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            for (TaskResponseDTO task : findTaskUseCase.execute(status)) {
+                if (projectId.equals(task.project().getId())) {
+                    estimatedHours += task.estimatedHours();
+                }
+            }
+        }
+        return estimatedHours;
+    }
+}
@@ -0,0 +1,69 @@
+package benchmark;
+
+import domain.model.LazyReference;
+import domain.model.Project;
+import domain.model.ProjectStatus;
+import domain.model.Task;
+import domain.model.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara los dos caminos para armar un objeto de dominio con datos ya guardados:
+ *
+ * - create: valida cada campo y compara las fechas contra LocalDate.now()/LocalDateTime.now().
+ * - rehydrate: copia los valores, sin validar ni leer el reloj (lo que usa PersistenceMapper).
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="RehydrateBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RehydrateBenchmark {
+
+    private final Long id = 42L;
+    private final String name = "Proyecto Benchmark";
+    private final LocalDate startDate = LocalDate.now();
+    private final LocalDate endDate = startDate.plusYears(1);
+    private final Optional<String> description = Optional.of("Descripcion");
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final LocalDateTime finishedAt = createdAt.plusYears(1);
+
+    private Project project;
+    private LazyReference<Project> projectReference;
+
+    @Setup
+    public void setUp() {
+        project = Project.rehydrate(id, name, startDate, endDate, ProjectStatus.ACTIVE, description, 0L);
+        projectReference = LazyReference.resolved(project, Project::getId);
+    }
+
+    @Benchmark
+    public Project projectCreate() {
+        Project created = Project.create(name, startDate, endDate, ProjectStatus.ACTIVE, description);
+        created.setId(id);
+        return created;
+    }
+
+    @Benchmark
+    public Project projectRehydrate() {
+        return Project.rehydrate(id, name, startDate, endDate, ProjectStatus.ACTIVE, description, 0L);
+    }
+
+    @Benchmark
+    public Task taskCreate() {
+        return Task.create(id, "Tarea", project, 8, "Tester", TaskStatus.TODO, createdAt, finishedAt);
+    }
+
+    @Benchmark
+    public Task taskRehydrate() {
+        return Task.rehydrate(id, "Tarea", projectReference, 8, "Tester", TaskStatus.TODO, createdAt, finishedAt, 0L);
+    }
+}
@@ -0,0 +1,226 @@
+package benchmark;
+
+import domain.model.*;
+import domain.repository.ProjectRepository;
+import domain.repository.TaskCommentRepository;
+import domain.repository.TaskRepository;
+import model.integradorsinteclados.IntegradorSinTecladosApplication;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prueba de carga de GET /projects/{projectId}/tasks/{taskId}?comments=true con N clientes
+ * concurrentes, cada uno en un ciclo cerrado (manda un request, espera la respuesta, manda el siguiente).
+ *
+ * Levanta la aplicacion dos veces en este mismo proceso (H2 en memoria, configuracion de los tests),
+ * las dos con el perfil virtual-threads para que el pool de Hikari y open-in-view sean iguales:
+ * - platform: spring.threads.virtual.enabled=false (pool de 200 hilos de Tomcat)
+ * - virtual:  spring.threads.virtual.enabled=true
+ *
+ * Los primeros segundos de cada corrida son de calentamiento y no se cuentan.
+ * H2 en memoria no bloquea en I/O de red: contra PostgreSQL (url=... de un servidor ya levantado)
+ * los requests pasan mucho mas tiempo bloqueados y la diferencia entre los modos es otra.
+ *
+ * mvn -Pbenchmark test-compile exec:exec@load -Dload.args="clients=2000 seconds=30"
+ * Para ver los pinning de hilos virtuales: -Dload.jvm="-Djdk.tracePinnedThreads=short"
+ */
+public class RequestThreadsLoadHarness {
+
+    private static final int WARMUP_SECONDS = 10;
+    private static final int COMMENTS = 20;
+
+    public static void main(String[] args) throws Exception {
+        // devtools esta en el classpath: su reinicio volveria a llamar a este main con otros argumentos
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        int clients = intArg(args, "clients", 2000);
+        int seconds = intArg(args, "seconds", 30);
+        String url = stringArg(args, "url", null);
+        List<String> modes = url == null ? List.of("platform", "virtual") : List.of("external");
+
+        List<String> results = new ArrayList<>();
+        for (String mode : modes) {
+            results.add(run(mode, url, clients, seconds));
+        }
+
+        System.out.printf("%n%-9s %8s %10s %9s %9s %9s %7s%n",
+                "modo", "clientes", "req/s", "p50 ms", "p99 ms", "max ms", "errores");
+        results.forEach(System.out::println);
+    }
+
+    private static String run(String mode, String url, int clients, int seconds) throws Exception {
+        ConfigurableApplicationContext context = null;
+        String target = url;
+        if (target == null) {
+            context = startApplication(mode);
+            target = seed(context);
+        }
+
+        try (HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build()) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(target))
+                    .timeout(Duration.ofSeconds(60))
+                    .GET()
+                    .build();
+
+            long warmupEnd = System.nanoTime() + Duration.ofSeconds(WARMUP_SECONDS).toNanos();
+            long end = warmupEnd + Duration.ofSeconds(seconds).toNanos();
+            AtomicLong errors = new AtomicLong();
+            List<LatencyRecorder> recorders = new ArrayList<>(clients);
+
+            // Los clientes son hilos virtuales en los dos modos: lo que cambia es el servidor
+            try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < clients; i++) {
+                    LatencyRecorder recorder = new LatencyRecorder();
+                    recorders.add(recorder);
+                    clientThreads.submit(() -> {
+                        while (true) {
+                            long start = System.nanoTime();
+                            if (start >= end) {
+                                return;
+                            }
+                            try {
+                                int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                                long finish = System.nanoTime();
+                                if (status != 200) {
+                                    errors.incrementAndGet();
+                                } else if (start >= warmupEnd && finish <= end) {
+                                    recorder.record(finish - start);
+                                }
+                            } catch (Exception e) {
+                                if (start >= warmupEnd) {
+                                    errors.incrementAndGet();
+                                }
+                            }
+                        }
+                    });
+                }
+            }
+
+            long[] latencies = LatencyRecorder.merge(recorders);
+            Arrays.sort(latencies);
+            return String.format("%-9s %8d %10.0f %9.1f %9.1f %9.1f %7d",
+                    mode, clients, latencies.length / (double) seconds,
+                    percentile(latencies, 0.50), percentile(latencies, 0.99),
+                    latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6, errors.get());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(String mode) {
+        // Como argumentos de linea de comandos para que pisen a application.properties
+        return new SpringApplicationBuilder(IntegradorSinTecladosApplication.class)
+                .profiles("virtual-threads")
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + mode.equals("virtual"),
+                        "--spring.datasource.url=jdbc:h2:mem:load_" + mode + ";MODE=PostgreSQL;"
+                                + "DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                                + NoSqlRecording.class.getName(),
+                        "--logging.level.root=WARN");
+    }
+
+    private static String seed(ConfigurableApplicationContext context) {
+        Project project = context.getBean(ProjectRepository.class).save(Project.create(
+                "Proyecto Carga",
+                LocalDate.now(),
+                LocalDate.now().plusYears(1),
+                ProjectStatus.ACTIVE,
+                Optional.empty()
+        ));
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        Task task = context.getBean(TaskRepository.class).save(Task.create(null, "Tarea Carga", project, 5,
+                "Tester", TaskStatus.TODO, start, start.plusDays(30)));
+
+        List<TaskComment> comments = new ArrayList<>(COMMENTS);
+        for (int i = 0; i < COMMENTS; i++) {
+            comments.add(TaskComment.create(task, "Comentario " + i, "Autor", LocalDateTime.now()));
+        }
+        context.getBean(TaskCommentRepository.class).saveAll(comments);
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return "http://localhost:" + port + "/projects/" + project.getId() + "/tasks/" + task.getId()
+                + "?comments=true";
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        String value = stringArg(args, name, null);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static String stringArg(String[] args, String name, String defaultValue) {
+        for (String arg : args) {
+            if (arg.startsWith(name + "=")) {
+                return arg.substring(name.length() + 1);
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Latencias de un solo cliente: cada cliente escribe en la suya, sin sincronizar.
+     */
+    private static final class LatencyRecorder {
+        private long[] values = new long[1024];
+        private int size;
+
+        void record(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        static long[] merge(List<LatencyRecorder> recorders) {
+            long[] merged = new long[recorders.stream().mapToInt(recorder -> recorder.size).sum()];
+            int offset = 0;
+            for (LatencyRecorder recorder : recorders) {
+                System.arraycopy(recorder.values, 0, merged, offset, recorder.size);
+                offset += recorder.size;
+            }
+            return merged;
+        }
+    }
+
+    /**
+     * Reemplaza a persistence.SqlStatementRecorder de la configuracion de los tests, que guarda
+     * cada sentencia en una lista sincronizada y crece sin limite durante la prueba.
+     */
+    public static class NoSqlRecording implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            return sql;
+        }
+    }
+}
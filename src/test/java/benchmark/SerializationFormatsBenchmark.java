@@ -0,0 +1,132 @@
+package benchmark;
+
+import application.dto.response.CommentResponseDTO;
+import application.dto.response.TaskResponseDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import domain.model.LazyReference;
+import domain.model.Project;
+import domain.model.ProjectStatus;
+import domain.model.Task;
+import domain.model.TaskComment;
+import domain.model.TaskStatus;
+import infrastructure.config.TaskJsonModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tamaño y tiempo de codificar/decodificar las respuestas en JSON, CBOR y Smile (Accept de
+ * BinaryFormatsConfig), con ObjectMappers configurados como los de la aplicacion:
+ *
+ * - tasks: 1.000 TaskResponseDTO de 20 proyectos (GET /tasks).
+ * - comments: 1.000 CommentResponseDTO de 10 tareas (respuestas de comentarios, con la tarea embebida).
+ *
+ * decode lee el arbol (JsonNode), como un cliente que no comparte los DTO. El tamaño de cada
+ * payload se imprime al preparar el benchmark ("payload ... bytes").
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="SerializationFormatsBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationFormatsBenchmark {
+
+    private static final int ITEMS = 1_000;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"tasks", "comments"})
+    private String payload;
+
+    private ObjectMapper mapper;
+    private List<?> values;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        // Misma configuracion que el ObjectMapper de Spring Boot (fechas ISO, no timestamps)
+        mapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new TaskJsonModule())
+                .build();
+
+        values = payload.equals("tasks") ? tasks() : comments();
+        encoded = mapper.writeValueAsBytes(values);
+        System.out.println("payload " + payload + " " + format + ": " + encoded.length + " bytes");
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(values);
+    }
+
+    @Benchmark
+    public JsonNode decode() throws IOException {
+        return mapper.readTree(encoded);
+    }
+
+    private static List<Project> projects(int count) {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            projects.add(Project.rehydrate((long) i + 1, "Proyecto " + i, start, start.plusYears(1),
+                    ProjectStatus.ACTIVE, i % 2 == 0 ? Optional.of("Descripcion del proyecto " + i) : Optional.empty(), 0L));
+        }
+        return projects;
+    }
+
+    private static List<TaskResponseDTO> tasks() {
+        List<Project> projects = projects(20);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 9, 30, 15, 250_000_000);
+        List<TaskResponseDTO> tasks = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            boolean done = i % 3 == 0;
+            tasks.add(new TaskResponseDTO((long) i + 1, "Tarea " + i, projects.get(i % projects.size()), 1 + i % 40,
+                    "Usuario " + i % 50, done ? TaskStatus.DONE : TaskStatus.IN_PROGRESS,
+                    createdAt.plusMinutes(i), done ? createdAt.plusDays(i % 30) : null));
+        }
+        return tasks;
+    }
+
+    private static List<CommentResponseDTO> comments() {
+        List<Project> projects = projects(2);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 9, 30, 15, 250_000_000);
+        List<Task> tasks = new ArrayList<>(10);
+        for (int i = 0; i < 10; i++) {
+            Project project = projects.get(i % projects.size());
+            tasks.add(Task.rehydrate((long) i + 1, "Tarea " + i, LazyReference.resolved(project, Project::getId),
+                    8, "Usuario " + i, TaskStatus.IN_PROGRESS, createdAt, createdAt.plusDays(10), 0L));
+        }
+        List<CommentResponseDTO> comments = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            Task task = tasks.get(i % tasks.size());
+            TaskComment comment = TaskComment.rehydrate((long) i + 1, LazyReference.resolved(task, Task::getId),
+                    "Comentario numero " + i + " sobre el avance de la tarea", "Autor " + i % 20, createdAt.plusMinutes(i));
+            comments.add(new CommentResponseDTO(comment.getId(), task, comment.getText(), comment.getAuthor(),
+                    comment.getCreatedAt()));
+        }
+        return comments;
+    }
+}
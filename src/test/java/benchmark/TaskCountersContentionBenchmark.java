@@ -0,0 +1,80 @@
+package benchmark;
+
+import application.dto.request.TaskRequestDTO;
+import application.dto.response.TaskResponseDTO;
+import application.usecase.CreateTaskUseCase;
+import domain.model.Project;
+import domain.model.ProjectStatus;
+import domain.model.TaskStatus;
+import domain.repository.ProjectRepository;
+import model.integradorsinteclados.IntegradorSinTecladosApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import persistence.SqlStatementRecorder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Altas simultaneas (16 hilos) de tareas en un mismo proyecto con CreateTaskUseCase, que en la
+ * misma transaccion suma la tarea a project_task_counters.
+ *
+ * - stripes=1: un solo contador por (proyecto, estado); cada alta espera el commit de la anterior.
+ * - stripes=8: el alta suma en una de 8 filas al azar.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="TaskCountersContentionBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class TaskCountersContentionBenchmark {
+
+    @Param({"1", "8"})
+    private int stripes;
+
+    private ConfigurableApplicationContext context;
+    private CreateTaskUseCase createTaskUseCase;
+    private Long projectId;
+    private final AtomicLong titles = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(IntegradorSinTecladosApplication.class)
+                .web(WebApplicationType.NONE)
+                // Como argumentos de linea de comandos para que pisen a application.properties
+                .run("--spring.datasource.url=jdbc:h2:mem:taskCountersBenchmark;MODE=PostgreSQL;"
+                                + "DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE",
+                        "--app.task-counters.stripes=" + stripes,
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.root=WARN");
+        createTaskUseCase = context.getBean(CreateTaskUseCase.class);
+        projectId = context.getBean(ProjectRepository.class).save(Project.create("Proyecto Caliente",
+                LocalDate.now(), LocalDate.now().plusYears(1), ProjectStatus.ACTIVE, Optional.empty())).getId();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearRecorder() {
+        SqlStatementRecorder.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskResponseDTO createTask() {
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        return createTaskUseCase.execute(projectId, new TaskRequestDTO(null, "Tarea " + titles.incrementAndGet(),
+                5, "Dev", TaskStatus.TODO, start.plusDays(30), start));
+    }
+}
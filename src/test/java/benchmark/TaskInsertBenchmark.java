@@ -0,0 +1,107 @@
+package benchmark;
+
+import domain.model.Project;
+import domain.model.ProjectStatus;
+import domain.model.Task;
+import domain.model.TaskStatus;
+import domain.repository.ProjectRepository;
+import domain.repository.TaskRepository;
+import model.integradorsinteclados.IntegradorSinTecladosApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import persistence.SqlStatementRecorder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserta 10.000 tareas con el contexto completo de Spring sobre H2 (configuracion de los tests).
+ *
+ * - saveOneByOne: un save por tarea, cada uno en su propia transaccion (como CreateTaskUseCase).
+ * - saveAll: una sola llamada; con batch_size=50 los INSERT viajan en lotes JDBC.
+ *
+ * batch_size=1 reproduce el comportamiento anterior (un INSERT por viaje a la base).
+ * H2 en memoria no tiene latencia de red: contra PostgreSQL la diferencia es mayor.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="TaskInsertBenchmark"
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskInsertBenchmark {
+
+    private static final int TASKS = 10_000;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private JdbcTemplate jdbcTemplate;
+    private List<Task> tasks;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(IntegradorSinTecladosApplication.class)
+                .web(WebApplicationType.NONE)
+                // Como argumentos de linea de comandos para que pisen a application.properties
+                .run("--spring.datasource.url=jdbc:h2:mem:taskInsertBenchmark;MODE=PostgreSQL;"
+                                + "DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.root=WARN");
+        taskRepository = context.getBean(TaskRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Project project = context.getBean(ProjectRepository.class).save(Project.create(
+                "Proyecto Benchmark",
+                LocalDate.now(),
+                LocalDate.now().plusYears(1),
+                ProjectStatus.ACTIVE,
+                Optional.empty()
+        ));
+
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(Task.create(null, "Tarea " + i, project, 5, "Tester",
+                    TaskStatus.TODO, start, start.plusDays(30)));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteTasks() {
+        jdbcTemplate.update("delete from tasks");
+        SqlStatementRecorder.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public int saveOneByOne() {
+        int saved = 0;
+        for (Task task : tasks) {
+            taskRepository.save(task);
+            saved++;
+        }
+        return saved;
+    }
+
+    @Benchmark
+    public int saveAll() {
+        return taskRepository.saveAll(tasks).size();
+    }
+}
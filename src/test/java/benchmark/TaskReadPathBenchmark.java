@@ -0,0 +1,101 @@
+package benchmark;
+
+import application.dto.response.TaskResponseDTO;
+import application.dto.response.TaskSummaryResponseDTO;
+import application.mapper.TaskMapper;
+import domain.model.ProjectStatus;
+import domain.model.TaskStatus;
+import domain.model.TaskSummary;
+import infrastructure.persistence.entities.ProjectEntity;
+import infrastructure.persistence.entities.TaskEntity;
+import infrastructure.persistence.mapper.PersistenceMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el camino de lectura actual (entidad -> dominio -> DTO) contra la
+ * proyeccion (record con solo las columnas necesarias -> DTO liviano) para
+ * un listado de tareas.
+ *
+ * Las entidades se arman en memoria: se mide el costo de mapeo y de
+ * asignacion de objetos, no el de la base de datos.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="TaskReadPathBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskReadPathBenchmark {
+
+    @Param({"100", "1000"})
+    private int tasks;
+
+    private final PersistenceMapper persistenceMapper = new PersistenceMapper(null); // solo toDomain: no usa el EntityManager
+    private final TaskMapper taskMapper = new TaskMapper();
+
+    private List<TaskEntity> entities;
+    private List<Object[]> rows;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime start = LocalDateTime.now();
+        entities = new ArrayList<>(tasks);
+        rows = new ArrayList<>(tasks);
+
+        for (int i = 0; i < tasks; i++) {
+            ProjectEntity project = new ProjectEntity();
+            project.setId((long) (i % 20));
+            project.setName("Proyecto " + (i % 20));
+            project.setStartDate(LocalDate.now());
+            project.setEndDate(LocalDate.now().plusYears(1));
+            project.setStatus(ProjectStatus.ACTIVE);
+            project.setDescription("Descripcion del proyecto " + (i % 20));
+
+            TaskEntity task = new TaskEntity();
+            task.setId((long) i);
+            task.setTitle("Tarea " + i);
+            task.setProject(project);
+            task.setEstimatedHours(8);
+            task.setAssignee("Tester");
+            task.setStatus(TaskStatus.TODO);
+            task.setCreatedAt(start);
+            task.setFinishedAt(start.plusYears(1));
+            entities.add(task);
+
+            // Lo que devuelve el driver para la proyeccion: solo las columnas seleccionadas
+            rows.add(new Object[]{task.getId(), task.getTitle(), project.getId(), project.getName(),
+                    task.getEstimatedHours(), task.getAssignee(), task.getStatus(),
+                    task.getCreatedAt(), task.getFinishedAt()});
+        }
+    }
+
+    @Benchmark
+    public void entityToDomainToDto(Blackhole blackhole) {
+        List<TaskResponseDTO> result = new ArrayList<>(tasks);
+        for (TaskEntity entity : entities) {
+            result.add(taskMapper.toResponseDTO(persistenceMapper.toDomain(entity)));
+        }
+        blackhole.consume(result);
+    }
+
+    @Benchmark
+    public void projectionToSummaryDto(Blackhole blackhole) {
+        List<TaskSummaryResponseDTO> result = new ArrayList<>(tasks);
+        for (Object[] row : rows) {
+            TaskSummary summary = new TaskSummary((Long) row[0], (String) row[1], (Long) row[2],
+                    (String) row[3], (Integer) row[4], (String) row[5], (TaskStatus) row[6],
+                    (LocalDateTime) row[7], (LocalDateTime) row[8]);
+            result.add(taskMapper.toSummaryResponseDTO(summary));
+        }
+        blackhole.consume(result);
+    }
+}
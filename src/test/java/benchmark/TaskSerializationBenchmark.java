@@ -0,0 +1,109 @@
+package benchmark;
+
+import application.dto.response.TaskResponseDTO;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import domain.model.Project;
+import domain.model.ProjectStatus;
+import domain.model.TaskStatus;
+import infrastructure.config.TaskJsonModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializa una lista de 10.000 TaskResponseDTO (20 proyectos) como lo hace GET /tasks:
+ *
+ * - defaultMapper: ObjectMapper con la configuracion de Spring Boot, serializacion por reflexion.
+ * - taskJsonModule: el mismo ObjectMapper con TaskJsonModule registrado.
+ *
+ * Se escribe a un OutputStream que descarta los bytes, para medir solo la serializacion.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="TaskSerializationBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskSerializationBenchmark {
+
+    private static final int TASKS = 10_000;
+    private static final int PROJECTS = 20;
+
+    private List<TaskResponseDTO> tasks;
+    private ObjectWriter defaultWriter;
+    private ObjectWriter moduleWriter;
+    private CountingOutputStream out;
+
+    @Setup
+    public void setUp() {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        List<Project> projects = new ArrayList<>(PROJECTS);
+        for (int i = 0; i < PROJECTS; i++) {
+            projects.add(Project.rehydrate((long) i + 1, "Proyecto " + i, start, start.plusYears(1),
+                    ProjectStatus.ACTIVE, i % 2 == 0 ? Optional.of("Descripcion " + i) : Optional.empty(), 0L));
+        }
+
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 9, 30, 15, 250_000_000);
+        tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            boolean done = i % 3 == 0;
+            tasks.add(new TaskResponseDTO((long) i + 1, "Tarea " + i, projects.get(i % PROJECTS), 1 + i % 40,
+                    "Usuario " + i % 50, done ? TaskStatus.DONE : TaskStatus.IN_PROGRESS,
+                    createdAt.plusMinutes(i), done ? createdAt.plusDays(i % 30) : null));
+        }
+
+        defaultWriter = builder().build().writer();
+        moduleWriter = builder().modulesToInstall(new TaskJsonModule()).build().writer();
+        out = new CountingOutputStream();
+    }
+
+    // Misma configuracion que el ObjectMapper de Spring Boot (fechas ISO, no timestamps)
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public long defaultMapper() throws IOException {
+        return write(defaultWriter);
+    }
+
+    @Benchmark
+    public long taskJsonModule() throws IOException {
+        return write(moduleWriter);
+    }
+
+    private long write(ObjectWriter writer) throws IOException {
+        out.count = 0;
+        writer.writeValue(out, tasks);
+        return out.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyReferenceTest {
+
+    private Project newProject() {
+        return Project.create("Proyecto Referencia",
+                LocalDate.now(),
+                LocalDate.now().plusDays(10),
+                ProjectStatus.ACTIVE,
+                Optional.empty());
+    }
+
+    @Test
+    @DisplayName("Una referencia lazy da el id sin llamar al loader y lo llama una sola vez al resolverse")
+    public void testLazy_ShouldLoadOnFirstGetOnly() {
+        Project project = newProject();
+        AtomicInteger loads = new AtomicInteger();
+        LazyReference<Project> reference = LazyReference.lazy(7L, () -> {
+            loads.incrementAndGet();
+            return project;
+        });
+
+        assertEquals(7L, reference.getId());
+        assertFalse(reference.isResolved());
+        assertEquals(0, loads.get());
+
+        assertSame(project, reference.get());
+        assertSame(project, reference.get());
+        assertTrue(reference.isResolved());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Una referencia resuelta lee el id del objeto (el proyecto recibe su id al guardarse)")
+    public void testResolved_ShouldReadIdFromValue() {
+        Project project = newProject();
+        LazyReference<Project> reference = LazyReference.resolved(project, Project::getId);
+
+        assertNull(reference.getId());
+        project.setId(3L);
+
+        assertEquals(3L, reference.getId());
+        assertSame(project, reference.get());
+    }
+
+    @Test
+    @DisplayName("Una tarea rehidratada con referencia no arma el proyecto hasta getProyect()")
+    public void testTaskWithReference_ShouldResolveProjectOnDemand() {
+        Project project = newProject();
+        project.setId(5L);
+        AtomicInteger loads = new AtomicInteger();
+        LocalDateTime start = LocalDateTime.now().plusMinutes(1);
+
+        Task task = Task.rehydrate(1L, "Tarea", LazyReference.lazy(5L, () -> {
+            loads.incrementAndGet();
+            return project;
+        }), 4, "Tester", TaskStatus.TODO, start, start.plusDays(2), 0L);
+
+        assertEquals(5L, task.projectReference().getId());
+        assertEquals(0, loads.get());
+        assertSame(project, task.getProyect());
+        assertEquals(1, loads.get());
+    }
+}
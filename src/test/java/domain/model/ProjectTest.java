@@ -132,4 +132,21 @@ public class ProjectTest {
 
         assertFalse(closedProject.canAddTask());
     }
+
+    @Test
+    @DisplayName("rehydrate debe reconstruir un proyecto guardado aunque su fecha de fin ya haya pasado")
+    void testRehydrate_ShouldNotValidateEndDate() {
+        LocalDate startDate = LocalDate.now().minusDays(30);
+        LocalDate endDate = LocalDate.now().minusDays(1);
+
+        assertThrows(BusinessRuleViolationsException.class, () -> Project.create("Proyecto Vencido",
+                startDate, endDate, ProjectStatus.CLOSED, Optional.empty()));
+
+        Project project = Project.rehydrate(9L, "Proyecto Vencido", startDate, endDate,
+                ProjectStatus.CLOSED, Optional.empty(), 2L);
+
+        assertEquals(9L, project.getId());
+        assertEquals(endDate, project.getEndDate());
+        assertEquals(2L, project.version());
+    }
 }
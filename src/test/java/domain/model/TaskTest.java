@@ -224,4 +224,19 @@ public class TaskTest {
 
     }
 
+    @Test
+    @DisplayName("rehydrate debe reconstruir una tarea guardada aunque su fecha de fin ya haya pasado")
+    public void testRehydrate_ShouldNotValidateDates() {
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(10);
+        LocalDateTime finishedAt = LocalDateTime.now().minusDays(1);
+
+        Task task = Task.rehydrate(4L, "Tarea vencida", LazyReference.lazy(2L, () -> null), 3, "Tester",
+                TaskStatus.IN_PROGRESS, createdAt, finishedAt, 3L);
+
+        assertEquals(4L, task.getId());
+        assertEquals(2L, task.projectReference().getId());
+        assertEquals(finishedAt, task.getFinishedAt());
+        assertEquals(3L, task.version());
+    }
+
 }
@@ -0,0 +1,111 @@
+package infrastructure.config;
+
+import application.dto.response.TaskResponseDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import domain.model.Project;
+import domain.model.ProjectStatus;
+import domain.model.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.reflect.RecordComponent;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskJsonModuleTest {
+
+    // Misma configuracion que el ObjectMapper de Spring Boot (fechas ISO, no timestamps)
+    private ObjectMapper mapper(boolean withModule) {
+        return mapper(withModule, Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+    }
+
+    private ObjectMapper mapper(boolean withModule, Jackson2ObjectMapperBuilder builder) {
+        if (withModule) {
+            builder.modulesToInstall(new TaskJsonModule());
+        }
+        return builder.build();
+    }
+
+    @Test
+    @DisplayName("Los serializadores a mano escriben el mismo JSON que Jackson por defecto")
+    public void testSerialize_ShouldMatchDefaultJson() throws Exception {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 10, 15, 30, 123_000_000);
+        Project project = Project.rehydrate(3L, "Proyecto \"JSON\"", LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 12, 31), ProjectStatus.ACTIVE, Optional.of("Descripción"), 0L);
+        Project withoutDescription = Project.rehydrate(4L, "Sin descripcion", LocalDate.of(2025, 1, 1),
+                null, ProjectStatus.PLANNED, Optional.empty(), 0L);
+
+        List<TaskResponseDTO> tasks = Arrays.asList(
+                new TaskResponseDTO(1L, "Tarea", project, 8, "Ana", TaskStatus.IN_PROGRESS,
+                        createdAt, createdAt.plusDays(3)),
+                new TaskResponseDTO(2L, "Sin cierre", withoutDescription, null, null, TaskStatus.TODO,
+                        createdAt, null),
+                new TaskResponseDTO(null, null, null, null, null, null, null, null)
+        );
+
+        assertEquals(mapper(false).writeValueAsString(tasks), mapper(true).writeValueAsString(tasks));
+    }
+
+    @Test
+    @DisplayName("Un DTO con todos los campos completos sale igual con y sin el modulo: un campo nuevo no se pierde")
+    public void testSerialize_FullyPopulated_ShouldKeepEveryField() throws Exception {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 10, 15, 30);
+        Project project = Project.rehydrate(3L, "Proyecto", LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 12, 31), ProjectStatus.ACTIVE, Optional.of("Descripcion"), 0L);
+        TaskResponseDTO task = new TaskResponseDTO(1L, "Tarea", project, 8, "Ana", TaskStatus.IN_PROGRESS,
+                createdAt, createdAt.plusDays(3));
+
+        String expected = mapper(false).writeValueAsString(task);
+        JsonNode json = mapper(false).readTree(expected);
+        // Si se agrega un campo al DTO o a Project y aca queda en null, el test lo marca
+        for (RecordComponent component : TaskResponseDTO.class.getRecordComponents()) {
+            assertTrue(json.hasNonNull(component.getName()), component.getName());
+        }
+        json.get("project").properties().forEach(field ->
+                assertFalse(field.getValue().isNull(), "project." + field.getKey()));
+
+        assertEquals(expected, mapper(true).writeValueAsString(task));
+    }
+
+    @Test
+    @DisplayName("Las fechas escritas a mano siguen el formato ISO de Jackson (segundos y fraccion)")
+    public void testSerialize_DatesShouldMatchIsoFormatter() throws Exception {
+        Project project = Project.rehydrate(1L, "Proyecto", LocalDate.of(999, 2, 3),
+                LocalDate.of(10_000, 1, 1), ProjectStatus.CLOSED, Optional.empty(), 0L);
+        LocalDateTime base = LocalDateTime.of(2025, 11, 9, 7, 5);
+
+        List<TaskResponseDTO> tasks = Arrays.asList(
+                new TaskResponseDTO(1L, "Sin segundos", project, 1, "A", TaskStatus.DONE, base, base.withNano(100)),
+                new TaskResponseDTO(2L, "Fracciones", project, 1, "A", TaskStatus.DONE,
+                        base.withSecond(9).withNano(120_000_000), base.withNano(123_456_000)),
+                new TaskResponseDTO(3L, "Anio largo", project, 1, "A", TaskStatus.DONE,
+                        LocalDateTime.of(12_345, 1, 1, 0, 0), base.withNano(999_999_999))
+        );
+
+        assertEquals(mapper(false).writeValueAsString(tasks), mapper(true).writeValueAsString(tasks));
+    }
+
+    @Test
+    @DisplayName("Si el ObjectMapper escribe las fechas como timestamps, el modulo delega en JavaTimeModule")
+    public void testSerialize_WithTimestamps_ShouldDelegate() throws Exception {
+        Project project = Project.rehydrate(1L, "Proyecto", LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 6, 1), ProjectStatus.ACTIVE, Optional.of("Descripcion"), 0L);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 10, 0);
+        TaskResponseDTO task = new TaskResponseDTO(1L, "Tarea", project, 2, "Ana", TaskStatus.TODO,
+                createdAt, createdAt.plusDays(1));
+
+        assertEquals(mapper(false, Jackson2ObjectMapperBuilder.json()).writeValueAsString(task),
+                mapper(true, Jackson2ObjectMapperBuilder.json()).writeValueAsString(task));
+    }
+}
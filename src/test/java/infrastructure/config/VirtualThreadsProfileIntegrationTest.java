@@ -0,0 +1,77 @@
+package infrastructure.config;
+
+import model.integradorsinteclados.IntegradorSinTecladosApplication;
+import org.apache.catalina.connector.Connector;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Levanta la aplicacion con el perfil virtual-threads y verifica que requests,
+ * tareas @Async y tareas programadas corran sobre hilos virtuales.
+ */
+@SpringBootTest(classes = IntegradorSinTecladosApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("virtual-threads")
+public class VirtualThreadsProfileIntegrationTest {
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("Tomcat debe atender los requests con hilos virtuales")
+    void testTomcat_ShouldUseVirtualThreadExecutor() {
+        Connector connector = ((TomcatWebServer) context.getWebServer()).getTomcat().getConnector();
+
+        assertInstanceOf(VirtualThreadExecutor.class, connector.getProtocolHandler().getExecutor());
+    }
+
+    @Test
+    @DisplayName("Las tareas @Async y las programadas deben correr en hilos virtuales")
+    void testExecutors_ShouldRunOnVirtualThreads() throws Exception {
+        Boolean asyncVirtual = applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual())
+                .get(5, TimeUnit.SECONDS);
+
+        CompletableFuture<Boolean> scheduledVirtual = new CompletableFuture<>();
+        taskScheduler.schedule(() -> scheduledVirtual.complete(Thread.currentThread().isVirtual()), Instant.now());
+
+        assertTrue(asyncVirtual);
+        assertTrue(scheduledVirtual.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Sin open-in-view los requests deben seguir resolviendose de punta a punta")
+    void testRequest_ShouldWorkWithoutOpenInView() {
+        assertTrue(context.getBeansOfType(OpenEntityManagerInViewInterceptor.class).isEmpty());
+
+        ResponseEntity<String> response = restTemplate.getForEntity("/projects/999999/tasks/999999", String.class);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
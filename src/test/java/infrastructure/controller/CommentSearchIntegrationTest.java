@@ -0,0 +1,198 @@
+package infrastructure.controller;
+
+import application.dto.request.TaskCommentRequestDTO;
+import application.dto.request.TaskRequestDTO;
+import application.usecase.AddCommentToTaskUseCase;
+import application.usecase.AddCommentsBatchUseCase;
+import application.usecase.CreateTaskUseCase;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import domain.model.Project;
+import domain.model.ProjectStatus;
+import domain.model.TaskStatus;
+import domain.repository.ProjectRepository;
+import model.integradorsinteclados.IntegradorSinTecladosApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * GET /search/comments con el indice en memoria (el motor de los tests), sin transaccion de test:
+ * los comentarios entran al indice cuando su transaccion se confirma.
+ */
+@SpringBootTest(classes = IntegradorSinTecladosApplication.class)
+@AutoConfigureMockMvc
+public class CommentSearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private CreateTaskUseCase createTaskUseCase;
+
+    @Autowired
+    private AddCommentToTaskUseCase addCommentToTaskUseCase;
+
+    @Autowired
+    private AddCommentsBatchUseCase addCommentsBatchUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Termino que no aparece en los comentarios de otros tests (el indice es el mismo para todo el contexto)
+    private final String keyword = "clave" + System.nanoTime();
+
+    private final List<Long> projectIds = new ArrayList<>();
+    private Long projectA;
+    private Long projectB;
+
+    @BeforeEach
+    void setUp() {
+        projectA = createProject("Proyecto Busqueda A");
+        projectB = createProject("Proyecto Busqueda B");
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long projectId : projectIds) {
+            jdbcTemplate.update("delete from task_comments where task_id in (select id from tasks where project_id = ?)", projectId);
+            jdbcTemplate.update("delete from project_task_counters where project_id = ?", projectId);
+            jdbcTemplate.update("delete from tasks where project_id = ?", projectId);
+            jdbcTemplate.update("delete from projects where id = ?", projectId);
+        }
+    }
+
+    private Long createProject(String name) {
+        Long id = projectRepository.save(Project.create(name + " " + keyword, LocalDate.now(), LocalDate.now().plusDays(30),
+                ProjectStatus.ACTIVE, Optional.empty())).getId();
+        projectIds.add(id);
+        return id;
+    }
+
+    private Long createTask(Long projectId, String title) {
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        return createTaskUseCase.execute(projectId, new TaskRequestDTO(null, title, 3, "Dev", TaskStatus.TODO,
+                start.plusDays(2), start)).id();
+    }
+
+    private JsonNode search(MockHttpServletRequestBuilder request) throws Exception {
+        String json = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(json);
+    }
+
+    private static List<Long> ids(JsonNode page) {
+        List<Long> ids = new ArrayList<>();
+        page.get("items").forEach(item -> ids.add(item.get("id").asLong()));
+        return ids;
+    }
+
+    @Test
+    @DisplayName("Encuentra los comentarios nuevos (uno a uno y en lote), ordenados por relevancia y filtrados por proyecto")
+    void testSearchComments_ShouldFindIndexedComments() throws Exception {
+        Long taskA = createTask(projectA, "Tarea A");
+        Long taskB = createTask(projectB, "Tarea B");
+
+        Long single = addCommentToTaskUseCase.execute(
+                new TaskCommentRequestDTO("El deploy de " + keyword + " quedo bloqueado", "Ana"), taskA).id();
+        List<Long> batch = addCommentsBatchUseCase.execute(taskA, List.of(
+                new TaskCommentRequestDTO(keyword + " " + keyword + " deploy", "Luis"),
+                new TaskCommentRequestDTO("Sin la palabra buscada", "Luis")
+        )).successes().stream().map(success -> success.comment().id()).toList();
+        Long other = addCommentToTaskUseCase.execute(
+                new TaskCommentRequestDTO("Deploy de " + keyword + " en el otro proyecto", "Eva"), taskB).id();
+
+        JsonNode all = search(get("/search/comments").param("q", keyword.toUpperCase() + " deploy"));
+        // El del lote repite el termino: es el mas relevante
+        assertEquals(batch.getFirst(), ids(all).getFirst());
+        assertEquals(List.of(batch.getFirst(), other, single).stream().sorted().toList(), ids(all).stream().sorted().toList());
+        assertTrue(all.get("items").get(0).get("score").asDouble() > all.get("items").get(1).get("score").asDouble());
+        assertEquals(taskA, all.get("items").get(0).get("taskId").asLong());
+        assertEquals("Luis", all.get("items").get(0).get("author").asText());
+        assertTrue(all.get("nextCursor").isNull());
+
+        JsonNode onlyB = search(get("/search/comments").param("q", keyword).param("projectId", projectB.toString()));
+        assertEquals(List.of(other), ids(onlyB));
+
+        // Paginas de a uno: mismos resultados y en el mismo orden
+        List<Long> paged = new ArrayList<>();
+        JsonNode page = search(get("/search/comments").param("q", keyword).param("limit", "1"));
+        while (true) {
+            paged.addAll(ids(page));
+            if (page.get("nextCursor").isNull()) {
+                break;
+            }
+            page = search(get("/search/comments").param("q", keyword).param("limit", "1")
+                    .param("after", page.get("nextCursor").asText()));
+        }
+        assertEquals(ids(search(get("/search/comments").param("q", keyword))), paged);
+        assertEquals(3, paged.size());
+    }
+
+    @Test
+    @DisplayName("Un comentario borrado por fuera de la aplicacion no acorta la pagina ni corta el cursor")
+    void testSearchComments_ShouldSkipDeletedComments() throws Exception {
+        Long task = createTask(projectA, "Tarea Borrados");
+        List<Long> created = addCommentsBatchUseCase.execute(task, List.of(
+                new TaskCommentRequestDTO("Primero " + keyword, "Ana"),
+                new TaskCommentRequestDTO("Segundo " + keyword, "Ana"),
+                new TaskCommentRequestDTO("Tercero " + keyword, "Ana"),
+                new TaskCommentRequestDTO("Cuarto " + keyword, "Ana")
+        )).successes().stream().map(success -> success.comment().id()).toList();
+
+        // Mismo puntaje: el orden es por id descendente. Se borran los dos primeros de la busqueda,
+        // que siguen en el indice
+        List<Long> expected = created.stream().sorted(Comparator.reverseOrder()).toList();
+        jdbcTemplate.update("delete from task_comments where id in (?, ?)", expected.get(0), expected.get(1));
+
+        JsonNode page = search(get("/search/comments").param("q", keyword).param("limit", "1"));
+        assertEquals(List.of(expected.get(2)), ids(page));
+        assertFalse(page.get("nextCursor").isNull());
+
+        JsonNode next = search(get("/search/comments").param("q", keyword).param("limit", "1")
+                .param("after", page.get("nextCursor").asText()));
+        assertEquals(List.of(expected.get(3)), ids(next));
+        assertTrue(next.get("nextCursor").isNull());
+    }
+
+    @Test
+    @DisplayName("Sin coincidencias responde una pagina vacia; 404 si el proyecto no existe y 400 si la busqueda es invalida")
+    void testSearchComments_EmptyNotFoundAndInvalid() throws Exception {
+        JsonNode empty = search(get("/search/comments").param("q", keyword).param("projectId", projectA.toString()));
+        assertEquals(0, empty.get("items").size());
+
+        mockMvc.perform(get("/search/comments").param("q", keyword).param("projectId", "999999"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/search/comments").param("q", " "))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/search/comments").param("q", "¿?"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/search/comments").param("q", keyword).param("after", "no-es-un-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+}
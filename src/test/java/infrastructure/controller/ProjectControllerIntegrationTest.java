@@ -1,27 +1,42 @@
 package infrastructure.controller;
 
 import application.dto.request.ProjectRequestDTO;
+import application.dto.request.TaskCommentBatchItemDTO;
 import application.dto.request.TaskCommentRequestDTO;
 import application.dto.request.TaskRequestDTO;
 import domain.model.ProjectStatus;
 import domain.model.TaskStatus;
+import infrastructure.persistence.entities.ProjectEntity;
+import infrastructure.persistence.repository.interfaces.IProjectRepository;
 import model.integradorsinteclados.IntegradorSinTecladosApplication;
 import org.junit.jupiter.api.BeforeEach;
+import persistence.SqlStatementRecorder;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -41,6 +56,12 @@ public class ProjectControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private IProjectRepository projectJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     // Formato para enviar fechas y horas en JSON (ISO-8601)
     private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
 
@@ -253,6 +274,45 @@ public class ProjectControllerIntegrationTest {
                 .andExpect(jsonPath("$", hasSize(0))); // Espera 0 tareas
     }
 
+    @Test
+    @DisplayName("Debe paginar las tareas por keyset usando el nextCursor")
+    void testFindTasksPage_ShouldWalkAllPagesWithCursor() throws Exception {
+        createTask(activeProjectId, "Tarea 1 IP", TaskStatus.IN_PROGRESS);
+        createTask(activeProjectId, "Tarea 2 IP", TaskStatus.IN_PROGRESS);
+        createTask(activeProjectId, "Tarea 3 IP", TaskStatus.IN_PROGRESS);
+
+        String firstPage = mockMvc.perform(get("/tasks")
+                        .param("status", "IN_PROGRESS")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].title").value("Tarea 1 IP"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/tasks")
+                        .param("status", "IN_PROGRESS")
+                        .param("limit", "2")
+                        .param("after", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title").value("Tarea 3 IP"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Debe fallar (400) si el cursor de paginacion es invalido")
+    void testFindTasksPage_ShouldReturn400_WhenCursorIsInvalid() throws Exception {
+        mockMvc.perform(get("/tasks")
+                        .param("status", "TODO")
+                        .param("limit", "2")
+                        .param("after", "no-es-un-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+    }
+
 // ---------------------------------------------------------------------
 
     // --- 5. GET /projects/{projectId}/tasks/{taskId}?comments={boolean} ---
@@ -273,7 +333,8 @@ public class ProjectControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(activeTaskId))
                 .andExpect(jsonPath("$.title").value("Tarea Base Test"))
-                .andExpect(jsonPath("$.comments").doesNotExist());
+                .andExpect(jsonPath("$.comments").doesNotExist())
+                .andExpect(jsonPath("$.hasMoreComments").doesNotExist());
     }
 
     @Test
@@ -297,7 +358,542 @@ public class ProjectControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(activeTaskId))
                 .andExpect(jsonPath("$.comments", hasSize(2))) // Verifica que se devuelven 2 comentarios
-                .andExpect(jsonPath("$.comments[0].text").value("Primer comentario"));
+                .andExpect(jsonPath("$.comments[0].text").value("Primer comentario"))
+                .andExpect(jsonPath("$.hasMoreComments").value(false))
+                .andExpect(jsonPath("$.nextCommentsCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Debe paginar los comentarios por (createdAt, id) con commentsLimit y commentsAfter")
+    void testGetTaskById_ShouldPageComments() throws Exception {
+        List<TaskCommentRequestDTO> request = new java.util.ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            request.add(new TaskCommentRequestDTO("Comentario " + i, "User A"));
+        }
+        mockMvc.perform(post("/projects/{projectId}/tasks/{taskId}/comments:batch", activeProjectId, activeTaskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        List<String> texts = new java.util.ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var getRequest = get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId)
+                    .param("comments", "true")
+                    .param("commentsLimit", "2");
+            if (cursor != null) {
+                getRequest.param("commentsAfter", cursor);
+            }
+            String json = mockMvc.perform(getRequest)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+
+            var body = objectMapper.readTree(json);
+            body.get("comments").forEach(comment -> texts.add(comment.get("text").asText()));
+            cursor = body.hasNonNull("nextCommentsCursor") ? body.get("nextCommentsCursor").asText() : null;
+            assertEquals(cursor != null, body.get("hasMoreComments").asBoolean());
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(List.of("Comentario 0", "Comentario 1", "Comentario 2", "Comentario 3", "Comentario 4"), texts);
+    }
+
+    @Test
+    @DisplayName("Debe fallar (400) si commentsLimit esta fuera de rango")
+    void testGetTaskById_ShouldFail_WhenCommentsLimitInvalid() throws Exception {
+        mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId)
+                        .param("comments", "true")
+                        .param("commentsLimit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("view=summary debe devolver la tarea y sus comentarios solo con los ids de los padres")
+    void testGetTaskById_SummaryView_ShouldReturnParentIdsOnly() throws Exception {
+        TaskCommentRequestDTO commentRequest = new TaskCommentRequestDTO("Comentario resumido", "User A");
+        mockMvc.perform(post("/projects/{projectId}/tasks/{taskId}/comments", activeProjectId, activeTaskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(commentRequest)))
+                .andExpect(status().is(201));
+
+        mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId)
+                        .param("view", "summary")
+                        .param("comments", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(activeTaskId))
+                .andExpect(jsonPath("$.projectId").value(activeProjectId))
+                .andExpect(jsonPath("$.projectName").value("Proyecto Base Test"))
+                .andExpect(jsonPath("$.project").doesNotExist())
+                .andExpect(jsonPath("$.comments", hasSize(1)))
+                .andExpect(jsonPath("$.comments[0].taskId").value(activeTaskId))
+                .andExpect(jsonPath("$.comments[0].task").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("view=summary en GET /tasks debe devolver el proyecto solo por id y nombre")
+    void testFindTasks_SummaryView_ShouldReturnSlimRecords() throws Exception {
+        mockMvc.perform(get("/tasks")
+                        .param("status", "TODO")
+                        .param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value("Tarea Base Test"))
+                .andExpect(jsonPath("$[0].projectId").value(activeProjectId))
+                .andExpect(jsonPath("$[0].project").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("POST tasks:batch debe crear los items validos y devolver los rechazados con su indice")
+    void testCreateTasksBatch_ShouldReturnSuccessesAndFailures() throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusMinutes(1);
+        List<TaskRequestDTO> request = List.of(
+                new TaskRequestDTO(null, "Tarea Lote 1", 4, "Ana", TaskStatus.TODO, start.plusDays(2), start),
+                new TaskRequestDTO(null, "Tarea Base Test", 4, "Ana", TaskStatus.TODO, start.plusDays(2), start),
+                new TaskRequestDTO(null, "Tarea Lote 2", 0, "Ana", TaskStatus.TODO, start.plusDays(2), start),
+                new TaskRequestDTO(null, "Tarea Lote 3", 4, "Ana", TaskStatus.TODO, start.plusDays(2), start)
+        );
+
+        mockMvc.perform(post("/projects/{projectId}/tasks:batch", activeProjectId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.successes", hasSize(2)))
+                .andExpect(jsonPath("$.successes[0].index").value(0))
+                .andExpect(jsonPath("$.successes[0].task.id").isNumber())
+                .andExpect(jsonPath("$.successes[1].index").value(3))
+                .andExpect(jsonPath("$.failures", hasSize(2)))
+                .andExpect(jsonPath("$.failures[0].index").value(1))
+                .andExpect(jsonPath("$.failures[1].index").value(2))
+                .andExpect(jsonPath("$.failures[1].error").value("estimatedHours: Las horas estimadas deben ser mayor a 0"));
+
+        mockMvc.perform(get("/tasks").param("status", "TODO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)));
+    }
+
+    @Test
+    @DisplayName("POST tasks:batch debe fallar (409) si el proyecto esta CERRADO")
+    void testCreateTasksBatch_ShouldFail_WhenProjectClosed() throws Exception {
+        Long closedProjectId = createProject("Proyecto Lote Cerrado", ProjectStatus.CLOSED);
+        LocalDateTime start = LocalDateTime.now().plusMinutes(1);
+        List<TaskRequestDTO> request = List.of(
+                new TaskRequestDTO(null, "Tarea Lote", 4, "Ana", TaskStatus.TODO, start.plusDays(2), start));
+
+        mockMvc.perform(post("/projects/{projectId}/tasks:batch", closedProjectId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("POST comments:batch debe agregar los comentarios validos a la tarea")
+    void testAddCommentsToTaskBatch_ShouldReturnSuccessesAndFailures() throws Exception {
+        List<TaskCommentRequestDTO> request = List.of(
+                new TaskCommentRequestDTO("Comentario importado 1", "Ana"),
+                new TaskCommentRequestDTO("", "Ana"),
+                new TaskCommentRequestDTO("Comentario importado 2", "Luis"));
+
+        mockMvc.perform(post("/projects/{projectId}/tasks/{taskId}/comments:batch", activeProjectId, activeTaskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.successes", hasSize(2)))
+                .andExpect(jsonPath("$.successes[1].index").value(2))
+                .andExpect(jsonPath("$.successes[1].comment.id").isNumber())
+                .andExpect(jsonPath("$.failures", hasSize(1)))
+                .andExpect(jsonPath("$.failures[0].index").value(1));
+
+        mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId)
+                        .param("comments", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments", hasSize(2)));
+    }
+
+    @Test
+    @DisplayName("POST /comments:batch debe resolver la tarea de cada item y rechazar las inexistentes")
+    void testAddCommentsBatch_CrossTask() throws Exception {
+        Long otherTaskId = createTask(activeProjectId, "Otra Tarea Lote", TaskStatus.IN_PROGRESS);
+        List<TaskCommentBatchItemDTO> request = List.of(
+                new TaskCommentBatchItemDTO(activeTaskId, "Para la primera", "Ana"),
+                new TaskCommentBatchItemDTO(otherTaskId, "Para la segunda", "Ana"),
+                new TaskCommentBatchItemDTO(999999L, "Tarea inexistente", "Ana"));
+
+        mockMvc.perform(post("/comments:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.successes", hasSize(2)))
+                .andExpect(jsonPath("$.successes[0].comment.task.id").value(activeTaskId))
+                .andExpect(jsonPath("$.successes[1].comment.task.id").value(otherTaskId))
+                .andExpect(jsonPath("$.failures[0].index").value(2))
+                .andExpect(jsonPath("$.failures[0].error").value("Task not found with id: 999999"));
+    }
+
+    @Test
+    @DisplayName("view=summary en POST de tareas y comentarios debe devolver los padres solo por id")
+    void testCreate_SummaryView_ShouldReturnParentIdsOnly() throws Exception {
+        LocalDateTime now = LocalDateTime.now().plusMinutes(1);
+        TaskRequestDTO taskRequest = new TaskRequestDTO(null, "Tarea Resumida", 4, "Test Assignee",
+                TaskStatus.TODO, now.plusDays(5), now);
+
+        mockMvc.perform(post("/projects/{projectId}/tasks", activeProjectId)
+                        .param("view", "summary")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(taskRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", org.hamcrest.Matchers.not(org.hamcrest.Matchers.containsString("view="))))
+                .andExpect(jsonPath("$.projectId").value(activeProjectId))
+                .andExpect(jsonPath("$.project").doesNotExist());
+
+        mockMvc.perform(post("/projects/{projectId}/tasks/{taskId}/comments", activeProjectId, activeTaskId)
+                        .param("view", "summary")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskCommentRequestDTO("Resumido", "Ana"))))
+                .andExpect(status().is(201))
+                .andExpect(jsonPath("$.taskId").value(activeTaskId))
+                .andExpect(jsonPath("$.task").doesNotExist());
+
+        mockMvc.perform(get("/tasks")
+                        .param("status", "TODO")
+                        .param("limit", "10")
+                        .param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].projectId").value(activeProjectId))
+                .andExpect(jsonPath("$.items[0].project").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("view=summary en comments:batch debe devolver cada comentario con el id de su tarea")
+    void testAddCommentsBatch_SummaryView_ShouldBeSmaller() throws Exception {
+        List<TaskCommentRequestDTO> request = new java.util.ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            request.add(new TaskCommentRequestDTO("Comentario " + i, "Ana"));
+        }
+        String body = objectMapper.writeValueAsString(request);
+
+        String full = mockMvc.perform(post("/projects/{projectId}/tasks/{taskId}/comments:batch", activeProjectId, activeTaskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String summary = mockMvc.perform(post("/projects/{projectId}/tasks/{taskId}/comments:batch", activeProjectId, activeTaskId)
+                        .param("view", "summary")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.successes", hasSize(20)))
+                .andExpect(jsonPath("$.successes[0].comment.taskId").value(activeTaskId))
+                .andExpect(jsonPath("$.successes[0].comment.task").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+
+        // Cada comentario deja de repetir la tarea y el proyecto completos
+        assertTrue(summary.length() * 3 < full.length(), summary.length() + " vs " + full.length());
+    }
+
+    @Test
+    @DisplayName("fields= debe devolver solo los campos pedidos, tambien los anidados y en listas")
+    void testFields_ShouldReturnSparseFieldset() throws Exception {
+        mockMvc.perform(post("/projects/{projectId}/tasks/{taskId}/comments", activeProjectId, activeTaskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskCommentRequestDTO("Con campos", "Ana"))))
+                .andExpect(status().is(201));
+
+        mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId)
+                        .param("comments", "true")
+                        .param("fields", "id,project.id,comments.text"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(activeTaskId))
+                .andExpect(jsonPath("$.project.id").value(activeProjectId))
+                .andExpect(jsonPath("$.project.name").doesNotExist())
+                .andExpect(jsonPath("$.title").doesNotExist())
+                .andExpect(jsonPath("$.comments[0].text").value("Con campos"))
+                .andExpect(jsonPath("$.comments[0].task").doesNotExist());
+
+        mockMvc.perform(get("/tasks")
+                        .param("status", "TODO")
+                        .param("view", "summary")
+                        .param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Tarea Base Test"))
+                .andExpect(jsonPath("$[0].projectId").doesNotExist());
+
+        // Los errores no se filtran
+        mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, 999999L)
+                        .param("fields", "id"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").exists());
+    }
+
+    @Test
+    @DisplayName("GET de una tarea con If-None-Match de la version actual debe responder 304 sin cuerpo")
+    void testGetTaskById_ShouldReturn304_WhenEtagMatches() throws Exception {
+        String etag = mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId)
+                        .param("comments", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String etagWithoutComments = mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId)
+                        .param("comments", "true")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        // Un comentario nuevo cambia la variante con comentarios, no la otra
+        mockMvc.perform(post("/projects/{projectId}/tasks/{taskId}/comments", activeProjectId, activeTaskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskCommentRequestDTO("Nuevo", "Ana"))))
+                .andExpect(status().is(201));
+
+        mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId)
+                        .param("comments", "true")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments", hasSize(1)));
+        mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etagWithoutComments))
+                .andExpect(status().isNotModified());
+
+        // El proyecto va embebido: un UPDATE del proyecto (@Version) cambia el ETag de la tarea
+        ProjectEntity project = projectJpaRepository.findById(activeProjectId).orElseThrow();
+        project.setDescription("Descripcion modificada");
+        projectJpaRepository.flush();
+        assertEquals(1L, project.getVersion());
+
+        mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etagWithoutComments))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.project.description").value("Descripcion modificada"));
+    }
+
+    @Test
+    @DisplayName("GET /tasks?status= debe responder 304 mientras el listado del estado no cambie")
+    void testGetTasksByStatus_ShouldReturn304_UntilListChanges() throws Exception {
+        String etag = mockMvc.perform(get("/tasks").param("status", "TODO"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        SqlStatementRecorder.clear();
+        mockMvc.perform(get("/tasks").param("status", "TODO").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        // Solo la consulta de la version: las tareas no se leen
+        assertEquals(1, SqlStatementRecorder.selects().size(), SqlStatementRecorder.selects().toString());
+        mockMvc.perform(get("/tasks").param("status", "TODO").param("limit", "10").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // Una tarea de otro estado no cambia el listado
+        createTask(activeProjectId, "Tarea Terminada ETag", TaskStatus.DONE);
+        mockMvc.perform(get("/tasks").param("status", "TODO").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        createTask(activeProjectId, "Tarea Nueva ETag", TaskStatus.TODO);
+        String newEtag = mockMvc.perform(get("/tasks").param("status", "TODO").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+    }
+
+    @Test
+    @DisplayName("GET /tasks?status= debe cambiar el ETag si una tarea sale del estado y otra entra en su lugar")
+    void testGetTasksByStatus_EtagShouldChange_WhenMemberIsSwapped() throws Exception {
+        Long otherStatusTaskId = createTask(activeProjectId, "Tarea En Curso ETag", TaskStatus.IN_PROGRESS);
+        createTask(activeProjectId, "Tarea Ultima ETag", TaskStatus.TODO);
+        String etag = mockMvc.perform(get("/tasks").param("status", "TODO"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Misma cantidad, mismo id maximo, mismas versiones y mismo proyecto: solo cambia quien esta
+        jdbcTemplate.update("update tasks set status = 'IN_PROGRESS' where id = ?", activeTaskId);
+        jdbcTemplate.update("update tasks set status = 'TODO' where id = ?", otherStatusTaskId);
+
+        String newEtag = mockMvc.perform(get("/tasks").param("status", "TODO").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+    }
+
+    @Test
+    @DisplayName("Con Accept CBOR o Smile debe responder el mismo contenido que en JSON, mas chico")
+    void testGetTaskById_BinaryFormats_ShouldMatchJson() throws Exception {
+        byte[] json = mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] cbor = mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] smile = mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId)
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Mismo arbol: fechas ISO y el proyecto embebido, igual que en JSON
+        JsonNode expected = objectMapper.readTree(json);
+        assertEquals(expected, new CBORMapper().readTree(cbor));
+        assertEquals(expected, new SmileMapper().readTree(smile));
+        assertTrue(cbor.length < json.length && smile.length < json.length,
+                json.length + " / " + cbor.length + " / " + smile.length);
+    }
+
+    @Test
+    @DisplayName("Debe aceptar un cuerpo CBOR y responder en CBOR, con un ETag distinto al del JSON")
+    void testCreateTask_CborRequest_ShouldReturn201() throws Exception {
+        LocalDateTime now = LocalDateTime.now().plusMinutes(1);
+        TaskRequestDTO request = new TaskRequestDTO(null, "Tarea CBOR", 3, "Ana", TaskStatus.TODO, now.plusDays(2), now);
+
+        byte[] response = mockMvc.perform(post("/projects/{projectId}/tasks", activeProjectId)
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(new CBORMapper().findAndRegisterModules().writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals("Tarea CBOR", new CBORMapper().readTree(response).get("title").asText());
+
+        String jsonEtag = mockMvc.perform(get("/tasks").param("status", "TODO"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String cborEtag = mockMvc.perform(get("/tasks").param("status", "TODO").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(jsonEtag, cborEtag);
+
+        mockMvc.perform(get("/tasks").param("status", "TODO")
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonEtag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/tasks").param("status", "TODO")
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, cborEtag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, cborEtag))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+
+    @Test
+    @DisplayName("El ETag de las lecturas de tareas sigue al Content-Type que elige la negociacion, con Vary: Accept")
+    void testGetTasks_EtagShouldFollowNegotiatedContentType() throws Exception {
+        String jsonEtag = mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Comodines: la negociacion elige JSON (primer conversor), con el mismo ETag
+        for (String accept : new String[]{"*/*", "application/*", "application/cbor;q=0.5, */*"}) {
+            mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId)
+                            .header(HttpHeaders.ACCEPT, accept))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(header().string(HttpHeaders.ETAG, jsonEtag));
+            mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId)
+                            .header(HttpHeaders.ACCEPT, accept)
+                            .header(HttpHeaders.IF_NONE_MATCH, jsonEtag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+        }
+
+        // Smile preferido sobre JSON: el ETag del 200 y el del 304 son los de Smile
+        String smileAccept = "application/json;q=0.5, application/x-jackson-smile";
+        String smileEtag = mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId)
+                        .header(HttpHeaders.ACCEPT, smileAccept))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-jackson-smile"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertTrue(smileEtag.endsWith("-smile\""), smileEtag);
+        mockMvc.perform(get("/projects/{projectId}/tasks/{taskId}", activeProjectId, activeTaskId)
+                        .header(HttpHeaders.ACCEPT, smileAccept)
+                        .header(HttpHeaders.IF_NONE_MATCH, smileEtag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, smileEtag));
+    }
+
+    @Test
+    @DisplayName("GET /projects/{id}/stats suma tareas, horas y comentarios por estado en una sola consulta")
+    void testGetProjectStats_ShouldAggregateByStatus() throws Exception {
+        Long inProgressId = createTask(activeProjectId, "Tarea Stats 1", TaskStatus.IN_PROGRESS);
+        createTask(activeProjectId, "Tarea Stats 2", TaskStatus.IN_PROGRESS);
+        Long otherProjectId = createProject("Proyecto Stats Otro", ProjectStatus.ACTIVE);
+        Long otherTaskId = createTask(otherProjectId, "Tarea de otro proyecto", TaskStatus.IN_PROGRESS);
+
+        TaskCommentRequestDTO comment = new TaskCommentRequestDTO("Comentario Stats", "Autor");
+        for (Long[] ids : new Long[][]{{activeProjectId, activeTaskId}, {activeProjectId, activeTaskId},
+                {activeProjectId, inProgressId}, {otherProjectId, otherTaskId}}) {
+            mockMvc.perform(post("/projects/{projectId}/tasks/{taskId}/comments", ids[0], ids[1])
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(comment)))
+                    .andExpect(status().isCreated());
+        }
+        // El lote tambien suma en los contadores de cada tarea
+        mockMvc.perform(post("/comments:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                new TaskCommentBatchItemDTO(inProgressId, "Comentario Stats lote", "Autor"),
+                                new TaskCommentBatchItemDTO(inProgressId, "Comentario Stats lote", "Autor")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.successes", hasSize(2)));
+
+        SqlStatementRecorder.clear();
+        mockMvc.perform(get("/projects/{projectId}/stats", activeProjectId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectId").value(activeProjectId))
+                .andExpect(jsonPath("$.tasks").value(3))
+                .andExpect(jsonPath("$.estimatedHours").value(30))
+                .andExpect(jsonPath("$.comments").value(5))
+                .andExpect(jsonPath("$.lastActivityAt").isNotEmpty())
+                .andExpect(jsonPath("$.byStatus.TODO.tasks").value(1))
+                .andExpect(jsonPath("$.byStatus.TODO.estimatedHours").value(10))
+                .andExpect(jsonPath("$.byStatus.TODO.comments").value(2))
+                .andExpect(jsonPath("$.byStatus.IN_PROGRESS.tasks").value(2))
+                .andExpect(jsonPath("$.byStatus.IN_PROGRESS.estimatedHours").value(20))
+                .andExpect(jsonPath("$.byStatus.IN_PROGRESS.comments").value(3))
+                .andExpect(jsonPath("$.byStatus.DONE.tasks").value(0));
+        assertEquals(1, SqlStatementRecorder.selects().size(), SqlStatementRecorder.selects().toString());
+    }
+
+    @Test
+    @DisplayName("GET /projects/{id}/stats responde ceros sin tareas y 404 si el proyecto no existe")
+    void testGetProjectStats_EmptyAndNotFound() throws Exception {
+        Long emptyProjectId = createProject("Proyecto Stats Vacio", ProjectStatus.PLANNED);
+
+        mockMvc.perform(get("/projects/{projectId}/stats", emptyProjectId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks").value(0))
+                .andExpect(jsonPath("$.comments").value(0))
+                .andExpect(jsonPath("$.lastActivityAt").doesNotExist())
+                .andExpect(jsonPath("$.byStatus.TODO.tasks").value(0));
+
+        mockMvc.perform(get("/projects/{projectId}/stats", 9999L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Project not found with id: 9999"));
+    }
+
+    @Test
+    @DisplayName("GET /projects/task-counts devuelve los contadores de varios proyectos, en el orden pedido")
+    void testGetProjectTaskCounts_ShouldReturnCountersPerProject() throws Exception {
+        createTask(activeProjectId, "Tarea Contador", TaskStatus.IN_PROGRESS);
+        Long emptyProjectId = createProject("Proyecto Contadores Vacio", ProjectStatus.PLANNED);
+
+        mockMvc.perform(get("/projects/task-counts").param("ids", emptyProjectId + "," + activeProjectId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].projectId").value(emptyProjectId))
+                .andExpect(jsonPath("$[0].tasks").value(0))
+                .andExpect(jsonPath("$[0].byStatus.TODO.tasks").value(0))
+                .andExpect(jsonPath("$[1].projectId").value(activeProjectId))
+                .andExpect(jsonPath("$[1].tasks").value(2))
+                .andExpect(jsonPath("$[1].estimatedHours").value(20))
+                .andExpect(jsonPath("$[1].byStatus.TODO.tasks").value(1))
+                .andExpect(jsonPath("$[1].byStatus.IN_PROGRESS.estimatedHours").value(10))
+                .andExpect(jsonPath("$[1].byStatus.DONE.tasks").value(0));
     }
 
     @Test
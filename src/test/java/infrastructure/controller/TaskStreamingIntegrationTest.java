@@ -0,0 +1,156 @@
+package infrastructure.controller;
+
+import domain.model.Project;
+import domain.model.ProjectStatus;
+import domain.model.Task;
+import domain.model.TaskStatus;
+import domain.repository.ProjectRepository;
+import domain.repository.TaskRepository;
+import infrastructure.persistence.repository.interfaces.IProjectRepository;
+import model.integradorsinteclados.IntegradorSinTecladosApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Pruebas del endpoint GET /tasks en modo streaming (application/x-ndjson y application/cbor-seq).
+ * No es @Transactional: el cuerpo se escribe en otro hilo, que solo ve datos confirmados.
+ * Por eso los datos se crean y se borran explicitamente en cada test.
+ */
+@SpringBootTest(classes = IntegradorSinTecladosApplication.class)
+@AutoConfigureMockMvc
+public class TaskStreamingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private IProjectRepository projectJpaRepository;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        Project project = projectRepository.save(Project.create(
+                "Proyecto Streaming Test",
+                LocalDate.now(),
+                LocalDate.now().plusDays(10),
+                ProjectStatus.ACTIVE,
+                Optional.empty()
+        ));
+        projectId = project.getId();
+
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        for (int i = 1; i <= 3; i++) {
+            taskRepository.save(Task.create(null, "Tarea Stream " + i, project, i,
+                    "Tester", TaskStatus.IN_PROGRESS, start, start.plusDays(2)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        // El proyecto borra sus tareas en cascada
+        projectJpaRepository.deleteById(projectId);
+    }
+
+    @Test
+    @DisplayName("Debe escribir una tarea por linea en formato NDJSON")
+    void testStreamTasks_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        MvcResult pending = mockMvc.perform(get("/tasks")
+                        .param("status", "IN_PROGRESS")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(body.endsWith("\n"), "Cada linea NDJSON debe terminar en salto de linea");
+        String[] lines = body.split("\n");
+        assertEquals(3, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            assertEquals("Tarea Stream " + (i + 1), objectMapper.readTree(lines[i]).get("title").asText());
+            assertEquals("Proyecto Streaming Test", objectMapper.readTree(lines[i]).get("project").get("name").asText());
+        }
+    }
+
+    @Test
+    @DisplayName("Con Accept application/cbor-seq debe escribir un item CBOR por tarea")
+    void testStreamTasks_Cbor_ShouldWriteOneCborItemPerTask() throws Exception {
+        MvcResult pending = mockMvc.perform(get("/tasks")
+                        .param("status", "IN_PROGRESS")
+                        .accept("application/cbor-seq"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/cbor-seq"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<JsonNode> tasks;
+        try (MappingIterator<JsonNode> items = new CBORMapper().readerFor(JsonNode.class).readValues(body)) {
+            tasks = items.readAll();
+        }
+        assertEquals(3, tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals("Tarea Stream " + (i + 1), tasks.get(i).get("title").asText());
+            assertEquals("Proyecto Streaming Test", tasks.get(i).get("project").get("name").asText());
+        }
+    }
+
+    @Test
+    @DisplayName("Debe responder un cuerpo vacio si ninguna tarea tiene el estado")
+    void testStreamTasks_ShouldWriteEmptyBodyWhenNoneMatch() throws Exception {
+        MvcResult pending = mockMvc.perform(get("/tasks")
+                        .param("status", "DONE")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Sin Accept NDJSON, GET /tasks sigue devolviendo un arreglo JSON")
+    void testFindTasks_ShouldKeepJsonArrayByDefault() throws Exception {
+        mockMvc.perform(get("/tasks").param("status", "IN_PROGRESS"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].title").value("Tarea Stream 1"));
+    }
+}
@@ -0,0 +1,145 @@
+package infrastructure.persistence.repository.implementations;
+
+import domain.model.Project;
+import domain.model.ProjectStatus;
+import domain.repository.ProjectRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingProjectRepositoryTest {
+
+    @Mock
+    private ProjectRepository delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private CachingProjectRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingProjectRepository(delegate, 2, Duration.ofMinutes(10), nanos::get, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Project project(long id) {
+        Project project = Project.create("Proyecto " + id, LocalDate.now(), LocalDate.now().plusDays(10),
+                ProjectStatus.ACTIVE, Optional.empty());
+        project.setId(id);
+        return project;
+    }
+
+    @Test
+    @DisplayName("La segunda busqueda por id debe salir de la cache sin llamar al repositorio")
+    void testFindById_ShouldHitCacheOnSecondLookup() {
+        Project project = project(1L);
+        when(delegate.findById(1L)).thenReturn(Optional.of(project));
+
+        assertSame(project, repository.findById(1L).orElseThrow());
+        assertSame(project, repository.findById(1L).orElseThrow());
+
+        verify(delegate, times(1)).findById(1L);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "projects").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "projects").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Un id inexistente no debe quedar cacheado")
+    void testFindById_ShouldNotCacheMissingProject() {
+        when(delegate.findById(5L)).thenReturn(Optional.empty());
+
+        assertTrue(repository.findById(5L).isEmpty());
+        assertTrue(repository.findById(5L).isEmpty());
+
+        verify(delegate, times(2)).findById(5L);
+    }
+
+    @Test
+    @DisplayName("save debe dejar el proyecto en la cache")
+    void testSave_ShouldPopulateCache() {
+        Project project = project(2L);
+        when(delegate.save(project)).thenReturn(project);
+
+        repository.save(project);
+
+        assertSame(project, repository.findById(2L).orElseThrow());
+        verify(delegate, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Dentro de una transaccion la cache se actualiza recien al confirmar")
+    void testSave_ShouldWaitForCommitInsideTransaction() {
+        Project committed = project(3L);
+        Project rolledBack = project(4L);
+        when(delegate.saveAll(List.of(committed))).thenReturn(List.of(committed));
+        when(delegate.save(rolledBack)).thenReturn(rolledBack);
+        when(delegate.findById(4L)).thenReturn(Optional.empty());
+
+        TransactionSynchronizationManager.initSynchronization();
+        repository.saveAll(List.of(committed));
+        assertNull(repository.cache().getIfPresent(3L));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Transaccion que se deshace: nunca llega el afterCommit
+        TransactionSynchronizationManager.initSynchronization();
+        repository.save(rolledBack);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertSame(committed, repository.findById(3L).orElseThrow());
+        assertTrue(repository.findById(4L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Las entradas deben vencer al pasar el ttl")
+    void testFindById_ShouldExpireAfterTtl() {
+        Project project = project(6L);
+        when(delegate.findById(6L)).thenReturn(Optional.of(project));
+
+        repository.findById(6L);
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+        repository.findById(6L);
+
+        verify(delegate, times(2)).findById(6L);
+    }
+
+    @Test
+    @DisplayName("La cache no debe superar el tamaño maximo")
+    void testCache_ShouldEvictBySize() {
+        for (long id = 10; id < 15; id++) {
+            Project project = project(id);
+            when(delegate.save(project)).thenReturn(project);
+            repository.save(project);
+        }
+        repository.cache().cleanUp();
+
+        assertTrue(repository.cache().estimatedSize() <= 2);
+        assertTrue(meterRegistry.get("cache.evictions").tag("cache", "projects").functionCounter().count() >= 3);
+    }
+}
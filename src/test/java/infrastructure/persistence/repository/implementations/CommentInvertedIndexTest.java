@@ -0,0 +1,174 @@
+package infrastructure.persistence.repository.implementations;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommentInvertedIndexTest {
+
+    private CommentInvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CommentInvertedIndex();
+        index.add(1L, 10L, "El deploy quedo bloqueado por la migracion");
+        index.add(2L, 10L, "Deploy, deploy y mas deploy: bloqueado otra vez");
+        index.add(3L, 20L, "Revisar el DEPLOY bloqueado del proyecto vecino");
+        index.add(4L, 10L, "Nada que ver con la busqueda");
+    }
+
+    // Texto, terminos del indice y lexemas de to_tsvector('simple', texto) en PostgreSQL, en orden de
+    // aparicion. Solo se verifican los del indice: los de PostgreSQL documentan donde divergen.
+    private static final String[][] TOKENIZATION = {
+            {"Deploy BLOQUEADO", "deploy bloqueado", "deploy bloqueado"},
+            {"diseño, migración!", "diseño migración", "diseño migración"},
+            {"foo-bar", "foo bar", "foo-bar foo bar"},
+            {"ana@example.com", "ana example com", "ana@example.com"},
+            {"www.example.com", "www example com", "www.example.com"},
+            {"subir a 1.5", "subir a 1 5", "subir a 1.5"},
+    };
+
+    private static List<Long> ids(List<CommentInvertedIndex.Hit> hits) {
+        return hits.stream().map(CommentInvertedIndex.Hit::id).toList();
+    }
+
+    @Test
+    @DisplayName("Devuelve solo los comentarios con todos los terminos, sin distinguir mayusculas ni puntuacion")
+    void testSearch_ShouldRequireAllTerms() {
+        assertEquals(List.of(1L, 2L, 3L), ids(index.search("bloqueado, Deploy!", null, null, null, 10)).stream().sorted().toList());
+        assertTrue(index.search("deploy inexistente", null, null, null, 10).isEmpty());
+        assertTrue(index.search("  ;  ", null, null, null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Corta en todo lo que no sea letra o digito (PostgreSQL deja enteros mails, hosts y decimales)")
+    void testTokenize_ShouldSplitOnNonAlphanumerics() {
+        for (String[] row : TOKENIZATION) {
+            assertEquals(row[1], String.join(" ", CommentInvertedIndex.tokenize(row[0])), row[0]);
+        }
+    }
+
+    @Test
+    @DisplayName("Ordena por relevancia: mas apariciones del termino, mas puntaje")
+    void testSearch_ShouldRankByFrequency() {
+        List<CommentInvertedIndex.Hit> hits = index.search("deploy", null, null, null, 10);
+
+        assertEquals(2L, hits.getFirst().id());
+        for (int i = 1; i < hits.size(); i++) {
+            assertTrue(CommentInvertedIndex.RANKING.compare(hits.get(i - 1), hits.get(i)) < 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Filtra por proyecto")
+    void testSearch_ShouldFilterByProject() {
+        assertEquals(List.of(3L), ids(index.search("deploy", 20L, null, null, 10)));
+        assertTrue(index.search("deploy", 99L, null, null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Pagina por (puntaje, id) sin repetir ni saltear resultados, aunque entren comentarios nuevos")
+    void testSearch_ShouldPageByKeyset() {
+        for (long id = 100; id < 150; id++) {
+            // Largos distintos (puntajes distintos) y empates que se desempatan por id
+            index.add(id, 30L, "comentario de deploy numero " + id + " extra".repeat((int) id % 3));
+        }
+        List<Long> all = ids(index.search("deploy", 30L, null, null, 1000));
+        assertEquals(50, all.size());
+
+        List<Long> paged = new ArrayList<>();
+        List<CommentInvertedIndex.Hit> page = index.search("deploy", 30L, null, null, 7);
+        while (!page.isEmpty()) {
+            page.forEach(hit -> paged.add(hit.id()));
+            // Comentarios nuevos con el mismo termino no cambian el puntaje de los demas
+            index.add(1000L + paged.size(), 40L, "deploy " + "palabra ".repeat(paged.size() % 5));
+            CommentInvertedIndex.Hit last = page.getLast();
+            page = index.search("deploy", 30L, last.score(), last.id(), 7);
+        }
+        assertEquals(all, paged);
+    }
+
+    @Test
+    @DisplayName("Las paginas saltadas con el cursor coinciden con ordenar todos los resultados, con altas entre paginas")
+    void testSearch_ShouldSeekLikeAFullSort() {
+        Random random = new Random(42);
+        String[] words = {"deploy", "migracion", "bloqueado", "revisar", "otra", "vez"};
+        List<String> texts = new ArrayList<>();
+        for (long id = 100; id < 1100; id++) {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0, n = 1 + random.nextInt(12); i < n; i++) {
+                text.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            index.add(id, 50L + id % 3, text.toString());
+            texts.add(text.toString());
+        }
+
+        for (String query : List.of("deploy", "deploy migracion", "vez otra bloqueado")) {
+            for (Long project : new Long[]{null, 51L}) {
+                List<Long> paged = new ArrayList<>();
+                List<CommentInvertedIndex.Hit> page = index.search(query, project, null, null, 9);
+                long next = 5000;
+                while (!page.isEmpty()) {
+                    // Sin filtro de proyecto tambien salen las altas nuevas y los comentarios de setUp: se
+                    // compara el orden de los comentarios 100..1099, que no cambia con las altas
+                    page.stream().map(CommentInvertedIndex.Hit::id).filter(id -> id >= 100 && id < 1100).forEach(paged::add);
+                    // Altas entre paginas, de otro proyecto: quedan sin ordenar hasta que la vista se rehace
+                    for (int i = 0; i < 20; i++) {
+                        index.add(next++, 99L, texts.get(random.nextInt(texts.size())));
+                    }
+                    CommentInvertedIndex.Hit last = page.getLast();
+                    page = index.search(query, project, last.score(), last.id(), 9);
+                }
+                assertEquals(bruteForce(query, project, texts), paged, query + " / " + project);
+            }
+        }
+    }
+
+    // Los comentarios 100..1099 que tienen todos los terminos, puntuados y ordenados sin el indice
+    private static List<Long> bruteForce(String query, Long project, List<String> texts) {
+        List<String> terms = new ArrayList<>(new java.util.LinkedHashSet<>(CommentInvertedIndex.tokenize(query)));
+        List<CommentInvertedIndex.Hit> hits = new ArrayList<>();
+        for (int i = 0; i < texts.size(); i++) {
+            long id = 100 + i;
+            if (project != null && 50L + id % 3 != project) {
+                continue;
+            }
+            List<String> tokens = CommentInvertedIndex.tokenize(texts.get(i));
+            int[] frequencies = terms.stream()
+                    .mapToInt(term -> (int) tokens.stream().filter(term::equals).count())
+                    .toArray();
+            if (java.util.Arrays.stream(frequencies).allMatch(frequency -> frequency > 0)) {
+                hits.add(new CommentInvertedIndex.Hit(id, CommentInvertedIndex.score(frequencies, tokens.size())));
+            }
+        }
+        return hits.stream().sorted(CommentInvertedIndex.RANKING).map(CommentInvertedIndex.Hit::id).toList();
+    }
+
+    @Test
+    @DisplayName("Ignora un comentario que ya esta en el indice")
+    void testAdd_ShouldIgnoreDuplicates() {
+        assertFalse(index.add(1L, 10L, "deploy deploy deploy deploy"));
+        assertEquals(4, index.size());
+        assertNotEquals(1L, index.search("deploy", null, null, null, 10).getFirst().id());
+    }
+
+    @Test
+    @DisplayName("Acepta ids fuera de orden y los ordena igual por id entre puntajes iguales")
+    void testAdd_ShouldAcceptIdsOutOfOrder() {
+        index.add(0L, 10L, "deploy temprano");
+        index.add(50L, 10L, "deploy tardio");
+        index.add(25L, 10L, "deploy medio");
+
+        assertEquals(List.of(0L, 1L, 2L, 3L, 25L, 50L),
+                ids(index.search("deploy", null, null, null, 10)).stream().sorted().toList());
+        assertEquals(List.of(25L), ids(index.search("medio", null, null, null, 10)));
+        assertEquals(List.of(50L, 25L, 0L), ids(index.search("deploy", 10L, null, null, 10)).stream()
+                .filter(id -> id == 0L || id == 25L || id == 50L).toList());
+    }
+}
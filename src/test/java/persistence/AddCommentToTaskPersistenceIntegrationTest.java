@@ -6,6 +6,7 @@ import application.dto.response.CommentResponseDTO;
 import application.mapper.TaskCommentMapper;
 import domain.model.Task;
 import domain.model.TaskComment;
+import domain.repository.CommentSearchRepository;
 import domain.repository.TaskCommentRepository;
 import domain.repository.TaskRepository;
 import infrastructure.exception.ResourceNotFoundException;
@@ -33,6 +34,9 @@ public class AddCommentToTaskPersistenceIntegrationTest {
     @Mock
     private TaskCommentMapper commentMapper;
 
+    @Mock
+    private CommentSearchRepository searchRepository;
+
     @InjectMocks
     private AddCommentToTaskUseCase addCommentToTaskUseCase;
 
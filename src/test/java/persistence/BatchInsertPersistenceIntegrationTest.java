@@ -0,0 +1,208 @@
+package persistence;
+
+import application.dto.request.TaskCommentBatchItemDTO;
+import application.dto.request.TaskRequestDTO;
+import application.dto.response.CommentBatchResponseDTO;
+import application.dto.response.TaskBatchResponseDTO;
+import application.usecase.AddCommentsBatchUseCase;
+import application.usecase.CreateTaskBatchUseCase;
+import domain.model.*;
+import domain.repository.ProjectRepository;
+import domain.repository.TaskCommentRepository;
+import domain.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import model.integradorsinteclados.IntegradorSinTecladosApplication;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que saveAll asigne los ids desde las secuencias y envie los INSERT
+ * en lotes JDBC (hibernate.jdbc.batch_size), en lugar de una sentencia por fila.
+ */
+@SpringBootTest(classes = IntegradorSinTecladosApplication.class)
+@Transactional
+public class BatchInsertPersistenceIntegrationTest {
+
+    private static final int ROWS = 120;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCommentRepository commentRepository;
+
+    @Autowired
+    private CreateTaskBatchUseCase createTaskBatchUseCase;
+
+    @Autowired
+    private AddCommentsBatchUseCase addCommentsBatchUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        project = projectRepository.save(Project.create(
+                "Proyecto Lotes",
+                LocalDate.now(),
+                LocalDate.now().plusDays(10),
+                ProjectStatus.ACTIVE,
+                Optional.empty()
+        ));
+        entityManager.flush();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("saveAll de tareas debe asignar ids unicos y agrupar los INSERT en lotes")
+    void testSaveAllTasks_ShouldBatchInserts() {
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            tasks.add(Task.create(null, "Tarea lote " + i, project, 3, "Tester",
+                    TaskStatus.TODO, start, start.plusDays(2)));
+        }
+
+        List<Task> saved = taskRepository.saveAll(tasks);
+        entityManager.flush();
+
+        assertEquals(ROWS, saved.size());
+        assertEquals(ROWS, new HashSet<>(saved.stream().map(Task::getId).toList()).size());
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        // Sin lotes serian 120 sentencias: aca solo quedan las lecturas de la secuencia y un INSERT por lote
+        assertTrue(statistics.getPrepareStatementCount() < 10,
+                "Sentencias preparadas: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("saveAll de comentarios debe agrupar los INSERT en lotes")
+    void testSaveAllComments_ShouldBatchInserts() {
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        Task task = taskRepository.save(Task.create(null, "Tarea con comentarios", project, 3, "Tester",
+                TaskStatus.TODO, start, start.plusDays(2)));
+        entityManager.flush();
+        statistics.clear();
+
+        List<TaskComment> comments = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            comments.add(TaskComment.create(task, "Comentario " + i, "Autor", LocalDateTime.now()));
+        }
+
+        List<TaskComment> saved = commentRepository.saveAll(comments);
+        entityManager.flush();
+
+        assertEquals(ROWS, saved.size());
+        saved.forEach(comment -> assertNotNull(comment.getId()));
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() < 10,
+                "Sentencias preparadas: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("La carga masiva no debe hacer consultas por tarea (proyecto y titulos se leen una vez)")
+    void testCreateTaskBatch_ShouldNotQueryPerTask() {
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        List<TaskRequestDTO> request = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            request.add(new TaskRequestDTO(null, "Tarea masiva " + i, 3, "Tester",
+                    TaskStatus.TODO, start.plusDays(2), start));
+        }
+        entityManager.clear();
+
+        TaskBatchResponseDTO response = createTaskBatchUseCase.execute(project.getId(), request);
+
+        assertEquals(ROWS, response.successes().size());
+        assertEquals(ROWS, jdbcTemplate.queryForObject("select count(*) from tasks where project_id = ?",
+                Integer.class, project.getId()));
+        // proyecto + titulos + secuencia (antes: 3 sentencias por tarea); los INSERT van en un lote JDBC
+        assertTrue(statistics.getPrepareStatementCount() < 12,
+                "Sentencias preparadas: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("insertAllIfAllowed debe evaluar las reglas del INSERT en cada fila del lote")
+    void testInsertAllIfAllowed_ShouldCheckRulesPerRow() {
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        taskRepository.save(Task.create(null, "Tarea existente", project, 3, "Tester", TaskStatus.TODO, start, start.plusDays(2)));
+        Project cerrado = projectRepository.save(Project.create("Proyecto Lotes Cerrado", LocalDate.now(),
+                LocalDate.now().plusDays(10), ProjectStatus.CLOSED, Optional.empty()));
+        entityManager.flush();
+
+        List<TaskInsertResult> results = taskRepository.insertAllIfAllowed(List.of(
+                Task.create(null, "Tarea nueva", project, 3, "Tester", TaskStatus.TODO, start, start.plusDays(2)),
+                Task.create(null, "Tarea existente", project, 3, "Tester", TaskStatus.TODO, start, start.plusDays(2)),
+                Task.create(null, "Tarea nueva", cerrado, 3, "Tester", TaskStatus.TODO, start, start.plusDays(2))));
+
+        assertEquals(List.of(TaskInsertResult.Outcome.INSERTED, TaskInsertResult.Outcome.DUPLICATE_TITLE,
+                TaskInsertResult.Outcome.PROJECT_CLOSED), results.stream().map(TaskInsertResult::outcome).toList());
+        assertTrue(taskRepository.findById(results.getFirst().task().getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("La carga masiva de comentarios debe resolver todas las tareas en una sola consulta")
+    void testAddCommentsBatch_ShouldResolveTasksOnce() {
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        List<Task> tasks = taskRepository.saveAll(List.of(
+                Task.create(null, "Tarea historial 1", project, 3, "Tester", TaskStatus.TODO, start, start.plusDays(2)),
+                Task.create(null, "Tarea historial 2", project, 3, "Tester", TaskStatus.TODO, start, start.plusDays(2))));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<TaskCommentBatchItemDTO> items = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            items.add(new TaskCommentBatchItemDTO(tasks.get(i % 2).getId(), "Comentario importado " + i, "Autor"));
+        }
+
+        CommentBatchResponseDTO response = addCommentsBatchUseCase.execute(items);
+        entityManager.flush();
+
+        assertEquals(ROWS, response.successes().size());
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        // tareas + proyectos en un SELECT, secuencia e INSERT por lote (antes: SELECT + INSERT por comentario)
+        assertTrue(statistics.getPrepareStatementCount() < 10,
+                "Sentencias preparadas: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("saveAll de proyectos debe devolver los proyectos con id")
+    void testSaveAllProjects_ShouldAssignIds() {
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            projects.add(Project.create("Proyecto Lote " + i, LocalDate.now(), LocalDate.now().plusDays(5),
+                    ProjectStatus.PLANNED, Optional.empty()));
+        }
+
+        List<Project> saved = projectRepository.saveAll(projects);
+        entityManager.flush();
+
+        assertEquals(3, saved.size());
+        saved.forEach(savedProject -> assertTrue(projectRepository.findById(savedProject.getId()).isPresent()));
+    }
+}
@@ -0,0 +1,87 @@
+package persistence;
+
+import application.dto.request.ProjectRequestDTO;
+import application.usecase.CreateProjectUseCase;
+import domain.model.ProjectStatus;
+import infrastructure.exception.DuplicateResourceException;
+import model.integradorsinteclados.IntegradorSinTecladosApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Crea el mismo proyecto desde muchos hilos a la vez. Sin transaccion de test:
+ * cada request confirma su INSERT como en produccion, y el indice unico del
+ * nombre es lo unico que decide cual gana.
+ */
+@SpringBootTest(classes = IntegradorSinTecladosApplication.class)
+public class CreateProjectConcurrencyIntegrationTest {
+
+    private static final int REQUESTS = 500;
+    private static final String NAME = "Proyecto Concurrente";
+
+    @Autowired
+    private CreateProjectUseCase createProjectUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from projects where name = ?", NAME);
+    }
+
+    @Test
+    @DisplayName("De 500 altas simultaneas con el mismo nombre solo una debe crearse; el resto, DuplicateResourceException")
+    void testCreateProject_ShouldCreateOnlyOnce_WhenRequestsRace() throws Exception {
+        ProjectRequestDTO request = new ProjectRequestDTO(NAME, LocalDate.now(), LocalDate.now().plusDays(30),
+                ProjectStatus.ACTIVE, "Altas en paralelo");
+
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger duplicated = new AtomicInteger();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        createProjectUseCase.execute(request);
+                        created.incrementAndGet();
+                    } catch (DuplicateResourceException e) {
+                        duplicated.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        unexpected.add(e);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(unexpected.isEmpty(), "Excepciones no traducidas: " + unexpected);
+        assertEquals(1, created.get());
+        assertEquals(REQUESTS - 1, duplicated.get());
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from projects where name = ?",
+                Integer.class, NAME));
+    }
+}
@@ -0,0 +1,105 @@
+package persistence;
+
+import application.dto.request.TaskRequestDTO;
+import application.usecase.CreateTaskUseCase;
+import domain.model.Project;
+import domain.model.ProjectStatus;
+import domain.model.TaskStatus;
+import domain.repository.ProjectRepository;
+import infrastructure.exception.DuplicateResourceException;
+import model.integradorsinteclados.IntegradorSinTecladosApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Crea la misma tarea desde muchos hilos a la vez, sin transaccion de test: el NOT EXISTS
+ * del INSERT y el indice unico (project_id, title) tienen que dejar pasar una sola.
+ */
+@SpringBootTest(classes = IntegradorSinTecladosApplication.class)
+public class CreateTaskConcurrencyIntegrationTest {
+
+    private static final int REQUESTS = 200;
+
+    @Autowired
+    private CreateTaskUseCase createTaskUseCase;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        project = projectRepository.save(Project.create("Proyecto Tareas Concurrentes", LocalDate.now(),
+                LocalDate.now().plusDays(30), ProjectStatus.ACTIVE, Optional.empty()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from tasks where project_id = ?", project.getId());
+        jdbcTemplate.update("delete from project_task_counters where project_id = ?", project.getId());
+        jdbcTemplate.update("delete from projects where id = ?", project.getId());
+    }
+
+    @Test
+    @DisplayName("De 200 altas simultaneas del mismo titulo solo una debe crearse; el resto, DuplicateResourceException")
+    void testCreateTask_ShouldCreateOnlyOnce_WhenRequestsRace() throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        TaskRequestDTO request = new TaskRequestDTO(null, "Tarea Concurrente", 3, "Dev",
+                TaskStatus.TODO, start.plusDays(2), start);
+
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger duplicated = new AtomicInteger();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+        CountDownLatch startSignal = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    try {
+                        createTaskUseCase.execute(project.getId(), request);
+                        created.incrementAndGet();
+                    } catch (DuplicateResourceException e) {
+                        duplicated.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        unexpected.add(e);
+                    }
+                    return null;
+                }));
+            }
+            startSignal.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(unexpected.isEmpty(), "Excepciones no traducidas: " + unexpected);
+        assertEquals(1, created.get());
+        assertEquals(REQUESTS - 1, duplicated.get());
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from tasks where project_id = ?",
+                Integer.class, project.getId()));
+    }
+}
@@ -0,0 +1,114 @@
+package persistence;
+
+import domain.model.Project;
+import domain.model.ProjectStatus;
+import domain.model.Task;
+import domain.model.TaskStatus;
+import domain.model.TaskSummary;
+import domain.repository.ProjectRepository;
+import domain.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import model.integradorsinteclados.IntegradorSinTecladosApplication;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que la busqueda de tareas por estado tenga un costo constante
+ * de sentencias SQL, sin importar cuantas tareas o proyectos devuelva (sin N+1).
+ */
+@SpringBootTest(classes = IntegradorSinTecladosApplication.class)
+@Transactional
+public class FindTaskPersistenceIntegrationTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        for (int p = 0; p < 3; p++) {
+            Project project = projectRepository.save(Project.create(
+                    "Proyecto N+1 " + p,
+                    LocalDate.now(),
+                    LocalDate.now().plusDays(10),
+                    ProjectStatus.ACTIVE,
+                    Optional.empty()
+            ));
+            for (int t = 0; t < 4; t++) {
+                taskRepository.save(Task.create(null, "Tarea " + p + "-" + t, project, 5,
+                        "Tester", TaskStatus.TODO, start, start.plusDays(3)));
+            }
+        }
+
+        // Vaciamos el contexto de persistencia para que la consulta vaya realmente a la base
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findByStatus debe resolver tareas y proyectos en una sola sentencia")
+    void testFindByStatus_ShouldExecuteSingleStatement() {
+        List<Task> tasks = taskRepository.findByStatus(TaskStatus.TODO);
+
+        // Accedemos a los proyectos como lo hace la serializacion de la respuesta
+        tasks.forEach(task -> assertNotNull(task.getProyect().getName()));
+
+        assertEquals(12, tasks.size());
+        assertEquals(1, statistics.getPrepareStatementCount(),
+                "La busqueda por estado no debe disparar un SELECT por cada proyecto");
+    }
+
+    @Test
+    @DisplayName("forEachByStatus debe recorrer las tareas en una sola sentencia sin retenerlas en el contexto")
+    void testForEachByStatus_ShouldStreamWithSingleStatement() {
+        List<Long> ids = new ArrayList<>();
+
+        taskRepository.forEachByStatus(TaskStatus.TODO, task -> {
+            assertNotNull(task.getProyect().getName());
+            ids.add(task.getId());
+        });
+
+        assertEquals(12, ids.size());
+        assertEquals(ids.stream().sorted().toList(), ids, "El streaming debe respetar el orden por id");
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(3, entityManager.unwrap(Session.class).getStatistics().getEntityCount(),
+                "Solo los proyectos deben quedar en el contexto de persistencia");
+    }
+
+    @Test
+    @DisplayName("findSummariesByStatus debe leer la proyeccion en una sola sentencia sin cargar entidades")
+    void testFindSummariesByStatus_ShouldNotLoadEntities() {
+        List<TaskSummary> summaries = taskRepository.findSummariesByStatus(TaskStatus.TODO);
+
+        assertEquals(12, summaries.size());
+        summaries.forEach(summary -> assertTrue(summary.projectName().startsWith("Proyecto N+1")));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount(), "La proyeccion no debe hidratar entidades");
+    }
+}
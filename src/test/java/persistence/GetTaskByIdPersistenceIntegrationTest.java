@@ -0,0 +1,102 @@
+package persistence;
+
+import application.dto.response.TaskWithCommentsResponseDTO;
+import application.usecase.GetTaskByIdUseCase;
+import domain.model.*;
+import domain.repository.ProjectRepository;
+import domain.repository.TaskCommentRepository;
+import domain.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import model.integradorsinteclados.IntegradorSinTecladosApplication;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que GET task?comments=true resuelva tarea, proyecto y comentarios
+ * en un maximo de dos sentencias, sin reconstruir la tarea por cada comentario.
+ */
+@SpringBootTest(classes = IntegradorSinTecladosApplication.class)
+@Transactional
+public class GetTaskByIdPersistenceIntegrationTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCommentRepository commentRepository;
+
+    @Autowired
+    private GetTaskByIdUseCase getTaskByIdUseCase;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        Project project = projectRepository.save(Project.create(
+                "Proyecto Comentarios",
+                LocalDate.now(),
+                LocalDate.now().plusDays(10),
+                ProjectStatus.ACTIVE,
+                Optional.empty()
+        ));
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        task = taskRepository.save(Task.create(null, "Tarea con historial", project, 5,
+                "Tester", TaskStatus.TODO, start, start.plusDays(3)));
+
+        List<TaskComment> comments = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            comments.add(TaskComment.create(task, "Comentario " + i, "Autor", LocalDateTime.now()));
+        }
+        commentRepository.saveAll(comments);
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("La tarea con comentarios debe costar como maximo dos sentencias")
+    void testGetTaskWithComments_ShouldExecuteAtMostTwoStatements() {
+        TaskWithCommentsResponseDTO response = getTaskByIdUseCase.execute(task.getId(), true, 20, null);
+
+        assertEquals(20, response.comments().size());
+        assertTrue(response.hasMoreComments());
+        assertEquals("Proyecto Comentarios", response.project().getName());
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "Sentencias preparadas: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Todos los comentarios de la pagina deben compartir la misma Task mapeada")
+    void testFindByIdWithComments_ShouldMapParentOnce() {
+        TaskWithComments result = taskRepository.findByIdWithComments(task.getId(), null, null, 10).orElseThrow();
+
+        assertEquals(10, result.comments().size());
+        result.comments().forEach(comment -> assertSame(result.task(), comment.getTask()));
+        // Solo la tarea y el proyecto quedan en el contexto: los proxies lazy de los comentarios no se inicializan
+        assertEquals(2, statistics.getEntityLoadCount() - result.comments().size());
+    }
+}
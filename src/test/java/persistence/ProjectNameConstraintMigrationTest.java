@@ -0,0 +1,70 @@
+package persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Una base creada por Hibernate (ddl-auto) antes de Flyway: se toma como linea base y al migrar
+ * la restriccion unica de projects.name tiene que quedar con el nombre que busca ProjectRepositoryImp.
+ * Usa su propia base H2, no la del contexto de Spring.
+ */
+public class ProjectNameConstraintMigrationTest {
+
+    private static final String URL =
+            "jdbc:h2:mem:baselineDeHibernate;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Test
+    @DisplayName("Una base de Hibernate tomada como linea base debe terminar con uk_projects_name")
+    void testMigrate_ShouldRenameHibernateGeneratedUniqueConstraint() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            // Las tablas como las dejaba Hibernate: la unica de name con el nombre generado
+            statement.execute("""
+                    create table projects (id bigint generated by default as identity primary key,
+                        name varchar(255) not null, start_date date not null, end_date date not null,
+                        status varchar(255) not null, description varchar(255))""");
+            statement.execute("alter table projects add constraint \"UKt7ftbbgxwfpl4hxkq4usnjsxb\" unique (name)");
+            statement.execute("""
+                    create table tasks (id bigint generated by default as identity primary key, title varchar(255),
+                        project_id bigint not null references projects (id), estimated_hours integer not null,
+                        assignee varchar(255), status varchar(255) not null, finished_at timestamp(6) not null,
+                        created_at timestamp(6) not null)""");
+            statement.execute("""
+                    create table task_comments (id bigint generated by default as identity primary key,
+                        task_id bigint not null references tasks (id), text varchar(1000) not null,
+                        author varchar(255) not null, created_at timestamp(6) not null)""");
+
+            Flyway.configure()
+                    .dataSource(URL, "sa", "")
+                    .locations("classpath:db/migration")
+                    .baselineOnMigrate(true)
+                    .load()
+                    .migrate();
+
+            assertEquals(List.of("uk_projects_name"), uniqueConstraintsOfProjects(statement));
+        }
+    }
+
+    private static List<String> uniqueConstraintsOfProjects(Statement statement) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery("""
+                select constraint_name from information_schema.table_constraints
+                where table_name = 'projects' and constraint_type = 'UNIQUE'""")) {
+            while (resultSet.next()) {
+                names.add(resultSet.getString(1));
+            }
+        }
+        return names;
+    }
+}
@@ -11,6 +11,7 @@ import model.integradorsinteclados.IntegradorSinTecladosApplication;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -32,6 +33,9 @@ public class ProjectPersistenceIntegrationTest {
     @Autowired
     private ProjectRepository projectRepository; //Inyecta el Repositorio REAL (para hacer verificaciones)
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void testUseCase_ShouldSaveToDatabase() {
         ProjectRequestDTO request = new ProjectRequestDTO(
@@ -51,7 +55,7 @@ public class ProjectPersistenceIntegrationTest {
         assertEquals("Proyecto de Integracion", response.name());
 
         //Comprueba que el repositorio de dominio puede encontrarlo
-        assertTrue(projectRepository.existsByName("Proyecto de Integracion"));
+        assertTrue(projectRepository.findById(response.id()).isPresent());
     }
 
     @Test
@@ -106,4 +110,17 @@ public class ProjectPersistenceIntegrationTest {
         assertTrue(foundProjectOpt.isPresent(), "El proyecto no se encontro en la DB");
         assertEquals("Proyecto de Test Directo", foundProjectOpt.get().getName());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRepository_ShouldLoadProjectWhoseEndDateHasPassed() {
+        // Un proyecto guardado hace tiempo: su fecha de fin ya paso y Project.create lo rechazaria
+        Long id = jdbcTemplate.queryForObject("select nextval('projects_seq')", Long.class);
+        jdbcTemplate.update("insert into projects (id, name, start_date, end_date, status) values (?, ?, ?, ?, ?)",
+                id, "Proyecto Vencido", LocalDate.now().minusMonths(2), LocalDate.now().minusDays(1), "CLOSED");
+
+        Optional<Project> found = projectRepository.findById(id);
+
+        assertTrue(found.isPresent());
+        assertEquals(LocalDate.now().minusDays(1), found.get().getEndDate());
+    }
+}
@@ -0,0 +1,152 @@
+package persistence;
+
+import application.dto.request.TaskRequestDTO;
+import application.usecase.CreateTaskUseCase;
+import domain.model.Project;
+import domain.model.ProjectStatus;
+import domain.model.ProjectTaskCount;
+import domain.model.Task;
+import domain.model.TaskStatus;
+import domain.repository.ProjectRepository;
+import domain.repository.ProjectTaskCountersRepository;
+import domain.repository.TaskRepository;
+import model.integradorsinteclados.IntegradorSinTecladosApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Contadores de tareas por proyecto (project_task_counters), sin transaccion de test:
+ * las altas concurrentes tienen que confirmarse de verdad para repartirse entre los stripes.
+ */
+@SpringBootTest(classes = IntegradorSinTecladosApplication.class)
+public class ProjectTaskCountersIntegrationTest {
+
+    private static final int REQUESTS = 200;
+
+    @Autowired
+    private CreateTaskUseCase createTaskUseCase;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectTaskCountersRepository countersRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        project = projectRepository.save(Project.create("Proyecto Contadores", LocalDate.now(),
+                LocalDate.now().plusDays(30), ProjectStatus.ACTIVE, Optional.empty()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from project_task_counters where project_id = ?", project.getId());
+        jdbcTemplate.update("delete from tasks where project_id = ?", project.getId());
+        jdbcTemplate.update("delete from projects where id = ?", project.getId());
+    }
+
+    private Map<TaskStatus, ProjectTaskCount> counts() {
+        Map<TaskStatus, ProjectTaskCount> counts = new EnumMap<>(TaskStatus.class);
+        countersRepository.findByProjectIds(List.of(project.getId())).forEach(count -> counts.put(count.status(), count));
+        return counts;
+    }
+
+    @Test
+    @DisplayName("200 altas simultaneas en un proyecto: los contadores suman todas, repartidas en varias filas")
+    void testCreateTask_ConcurrentInserts_ShouldBeCountedAcrossStripes() throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+        CountDownLatch startSignal = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                TaskStatus status = i % 4 == 0 ? TaskStatus.IN_PROGRESS : TaskStatus.TODO;
+                TaskRequestDTO request = new TaskRequestDTO(null, "Tarea " + i, 1 + i % 5, "Dev",
+                        status, start.plusDays(2), start);
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    try {
+                        createTaskUseCase.execute(project.getId(), request);
+                    } catch (RuntimeException e) {
+                        unexpected.add(e);
+                    }
+                    return null;
+                }));
+            }
+            startSignal.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(unexpected.isEmpty(), "Excepciones: " + unexpected);
+        Map<TaskStatus, ProjectTaskCount> counts = counts();
+        assertEquals(150, counts.get(TaskStatus.TODO).tasks());
+        assertEquals(50, counts.get(TaskStatus.IN_PROGRESS).tasks());
+        long hours = jdbcTemplate.queryForObject("select sum(estimated_hours) from tasks where project_id = ?",
+                Long.class, project.getId());
+        assertEquals(hours, counts.get(TaskStatus.TODO).estimatedHours() + counts.get(TaskStatus.IN_PROGRESS).estimatedHours());
+        assertFalse(counts.containsKey(TaskStatus.DONE));
+
+        Integer rows = jdbcTemplate.queryForObject("select count(*) from project_task_counters where project_id = ?",
+                Integer.class, project.getId());
+        assertTrue(rows > 2, "Las altas deberian repartirse en varios stripes: " + rows);
+
+        // Sin diferencias: la reconciliacion no toca el proyecto
+        countersRepository.reconcile();
+        assertEquals(counts, counts());
+    }
+
+    @Test
+    @DisplayName("La reconciliacion corrige los contadores de tareas creadas o cambiadas fuera de los casos de uso")
+    void testReconcile_ShouldRepairDrift() {
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        createTaskUseCase.execute(project.getId(), new TaskRequestDTO(null, "Con contador", 4, "Dev",
+                TaskStatus.TODO, start.plusDays(2), start));
+        // Altas que no pasan por CreateTaskUseCase
+        taskRepository.save(Task.create(null, "Sin contador 1", project, 3, "Dev", TaskStatus.DONE, start, start.plusDays(1)));
+        taskRepository.save(Task.create(null, "Sin contador 2", project, 5, "Dev", TaskStatus.DONE, start, start.plusDays(1)));
+        // Un contador desfasado
+        countersRepository.add(project.getId(), TaskStatus.IN_PROGRESS, 2, 10);
+
+        assertTrue(countersRepository.reconcile() >= 2);
+
+        Map<TaskStatus, ProjectTaskCount> counts = counts();
+        assertEquals(new ProjectTaskCount(project.getId(), TaskStatus.TODO, 1, 4), counts.get(TaskStatus.TODO));
+        assertEquals(new ProjectTaskCount(project.getId(), TaskStatus.DONE, 2, 8), counts.get(TaskStatus.DONE));
+        assertEquals(new ProjectTaskCount(project.getId(), TaskStatus.IN_PROGRESS, 0, 0), counts.get(TaskStatus.IN_PROGRESS));
+
+        // move: un cambio de estado descuenta de un estado y suma en el otro
+        countersRepository.move(project.getId(), TaskStatus.TODO, TaskStatus.DONE, 4);
+        assertEquals(0, counts().get(TaskStatus.TODO).tasks());
+        assertEquals(new ProjectTaskCount(project.getId(), TaskStatus.DONE, 3, 12), counts().get(TaskStatus.DONE));
+    }
+}
@@ -0,0 +1,124 @@
+package persistence;
+
+import domain.model.Project;
+import domain.model.ProjectStatus;
+import domain.model.Task;
+import domain.model.TaskComment;
+import domain.model.TaskStatus;
+import domain.repository.ProjectRepository;
+import domain.repository.TaskCommentRepository;
+import domain.repository.TaskRepository;
+import infrastructure.persistence.repository.interfaces.ITaskCommentRepository;
+import jakarta.persistence.EntityManager;
+import model.integradorsinteclados.IntegradorSinTecladosApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ejecuta las consultas de los repositorios sobre H2 (modo PostgreSQL) y le pide
+ * a la base el plan de cada una: falla si alguna recorre una tabla completa
+ * en lugar de usar un indice (H2 lo marca como "tableScan" en el EXPLAIN).
+ */
+@SpringBootTest(classes = IntegradorSinTecladosApplication.class)
+@Transactional
+public class QueryPlanIntegrationTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCommentRepository commentRepository;
+
+    // Consulta que usa EmbeddedCommentSearchRepository para leer los resultados de la busqueda
+    @Autowired
+    private ITaskCommentRepository commentJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Project project;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        for (int p = 0; p < 2; p++) {
+            project = projectRepository.save(Project.create(
+                    "Proyecto Plan " + p,
+                    LocalDate.now(),
+                    LocalDate.now().plusDays(10),
+                    ProjectStatus.ACTIVE,
+                    Optional.empty()
+            ));
+            for (int t = 0; t < 3; t++) {
+                task = taskRepository.save(Task.create(null, "Tarea " + p + "-" + t, project, 5,
+                        "Tester", TaskStatus.TODO, start, start.plusDays(3)));
+                commentRepository.save(TaskComment.create(task, "Comentario", "Autor", LocalDateTime.now()));
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementRecorder.clear();
+    }
+
+    @Test
+    @DisplayName("Ninguna consulta de los repositorios debe recorrer una tabla completa")
+    void testRepositoryQueries_ShouldUseIndexes() {
+        projectRepository.findById(project.getId());
+
+        taskRepository.findExistingTitles(project, List.of(task.getTitle(), "Otra tarea"));
+        taskRepository.findById(task.getId());
+        taskRepository.findAllByIds(List.of(task.getId()));
+        taskRepository.findByIdWithComments(task.getId(), null, null, 10);
+        taskRepository.findByIdWithComments(task.getId(), LocalDateTime.now().minusDays(1), 1L, 10);
+        taskRepository.findByStatus(TaskStatus.TODO);
+        taskRepository.findByStatusAfter(TaskStatus.TODO, null, 2);
+        taskRepository.findByStatusAfter(TaskStatus.TODO, task.getId(), 2);
+        taskRepository.forEachByStatus(TaskStatus.TODO, ignored -> { });
+        taskRepository.findSummariesByStatus(TaskStatus.TODO);
+        taskRepository.findSummaryById(task.getId());
+        taskRepository.findVersionById(task.getId());
+        taskRepository.findListVersionByStatus(TaskStatus.TODO);
+        taskRepository.findStatsByProjectId(project.getId());
+
+        commentRepository.findAllByTaskId(task.getId());
+        commentRepository.findSummaryPageByTaskId(task.getId(), null, null, 10);
+        commentRepository.findSummaryPageByTaskId(task.getId(), LocalDateTime.now().minusDays(1), 1L, 10);
+        commentJpaRepository.findSummariesByIdIn(List.of(1L, 2L));
+
+        List<String> selects = SqlStatementRecorder.selects();
+        assertFalse(selects.isEmpty());
+
+        List<String> fullScans = new ArrayList<>();
+        for (String sql : selects) {
+            // H2 acepta EXPLAIN con los parametros sin asignar
+            String plan = jdbcTemplate.queryForObject("explain " + sql, String.class);
+            if (plan.contains(".tableScan")) {
+                fullScans.add(plan);
+            }
+        }
+
+        assertTrue(fullScans.isEmpty(),
+                "Consultas que recorren la tabla completa:\n" + String.join("\n\n", fullScans));
+    }
+}
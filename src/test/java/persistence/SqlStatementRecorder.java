@@ -0,0 +1,38 @@
+package persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Guarda el SQL que genera Hibernate para poder analizarlo en los tests
+ * (ej: pedirle a la base el plan de ejecucion de cada consulta).
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final List<String> statements = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (statements) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    public static void clear() {
+        synchronized (statements) {
+            statements.clear();
+        }
+    }
+
+    public static List<String> selects() {
+        synchronized (statements) {
+            return statements.stream()
+                    .filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+                    .distinct()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package persistence;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Vacia SqlStatementRecorder despues de cada test: el recorder es estatico (lo instancia Hibernate)
+ * y sin esto guardaria todo el SQL de la corrida completa.
+ *
+ * Se registra para todos los tests con la deteccion automatica de extensiones de JUnit
+ * (junit-platform.properties y META-INF/services/org.junit.jupiter.api.extension.Extension).
+ */
+public class SqlStatementRecorderExtension implements AfterEachCallback {
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        SqlStatementRecorder.clear();
+    }
+}
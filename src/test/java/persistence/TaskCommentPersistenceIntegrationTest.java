@@ -4,6 +4,7 @@ import domain.model.*;
 import domain.repository.ProjectRepository;
 import domain.repository.TaskCommentRepository;
 import domain.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
 import model.integradorsinteclados.IntegradorSinTecladosApplication;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -38,6 +39,9 @@ public class TaskCommentPersistenceIntegrationTest {
     @Autowired
     private TaskCommentRepository taskCommentRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Project savedProject;
     private Task savedTask;
 
@@ -134,6 +138,25 @@ public class TaskCommentPersistenceIntegrationTest {
         assertTrue(foundComments.stream().anyMatch(c -> c.getText().equals("Test Comment B, for the same test task as Test Comment A")));
     }
 
+    @Test
+    @DisplayName("Los comentarios deben llegar con la tarea y su proyecto ya mapeados, sin referencias lazy")
+    void testRepository_FindAllByTaskIdResolvesParents() {
+        taskCommentRepository.save(TaskComment.create(savedTask, "Comentario A", "Autor", LocalDateTime.now()));
+        taskCommentRepository.save(TaskComment.create(savedTask, "Comentario B", "Autor", LocalDateTime.now()));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TaskComment> foundComments = taskCommentRepository.findAllByTaskId(savedTask.getId());
+
+        assertEquals(2, foundComments.size());
+        // Con open-in-view apagado una referencia lazy fallaria al serializar, fuera de la sesion
+        foundComments.forEach(c -> assertTrue(c.taskReference().isResolved()));
+        Task task = foundComments.getFirst().getTask();
+        foundComments.forEach(c -> assertSame(task, c.getTask()));
+        assertTrue(task.projectReference().isResolved());
+        assertEquals(savedProject.getId(), task.getProyect().getId());
+    }
+
     @Test
     @DisplayName("Shall return an empty list if no comments are found")
     void testRepository_ReturnEmptyList_WhenNoComments() {
@@ -9,11 +9,14 @@ import application.usecase.CreateProjectUseCase;
 import application.usecase.CreateTaskUseCase;
 import domain.model.Project;
 import domain.model.ProjectStatus;
+import domain.model.Task;
+import domain.model.TaskInsertResult;
 import domain.model.TaskStatus;
 import domain.repository.ProjectRepository;
 import domain.repository.TaskRepository;
 import infrastructure.exception.BusinessRuleViolationsException;
 import infrastructure.exception.DuplicateResourceException;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import model.integradorsinteclados.IntegradorSinTecladosApplication;
 import org.junit.jupiter.api.DisplayName;
@@ -21,9 +24,13 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -39,6 +46,10 @@ public class TaskPersistenceIntegrationTest {
     private CreateTaskUseCase createTaskUseCase;
     @Autowired
     private TaskRepository taskRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
     private ProjectRequestDTO requestProject;
     private Project proyectoGuardado;
 
@@ -74,7 +85,7 @@ public class TaskPersistenceIntegrationTest {
         assertNotNull(taskResponse);
         assertNotNull(taskResponse.id(), "El id no debe ser nulo");
         assertEquals(requestTask.title(), "Funcionalidad Crear");
-        assertTrue(taskRepository.existByTitleAndProject("Funcionalidad Crear", proyectoGuardado));
+        assertEquals("Funcionalidad Crear", taskRepository.findById(taskResponse.id()).orElseThrow().getTitle());
     }
 
     @Test
@@ -156,4 +167,88 @@ public class TaskPersistenceIntegrationTest {
         assertEquals("Ya existe una tarea con el mismo titulo en este proyecto.", exception.getMessage());
 
     }
+
+    @Test
+    @Order(4)
+    @DisplayName("insertIfAllowed debe informar que regla impidio el alta")
+    void testRepository_insertIfAllowedReportsRejectedRule(){
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        Project activo = projectRepository.save(Project.create("Proyecto Guardado", LocalDate.now(),
+                LocalDate.now().plusDays(30), ProjectStatus.ACTIVE, Optional.empty()));
+        Project cerrado = projectRepository.save(Project.create("Proyecto Guardado Cerrado", LocalDate.now(),
+                LocalDate.now().plusDays(30), ProjectStatus.CLOSED, Optional.empty()));
+        Project inexistente = Project.create("Proyecto Fantasma", LocalDate.now(),
+                LocalDate.now().plusDays(30), ProjectStatus.ACTIVE, Optional.empty());
+        inexistente.setId(-1L);
+
+        TaskInsertResult inserted = taskRepository.insertIfAllowed(
+                Task.create(null, "Tarea Guardada", activo, 3, "Dev", TaskStatus.TODO, start, start.plusDays(2)));
+
+        assertEquals(TaskInsertResult.Outcome.INSERTED, inserted.outcome());
+        assertNotNull(inserted.task().getId());
+        assertTrue(taskRepository.findById(inserted.task().getId()).isPresent());
+        // El id sale del bloque pooled de Hibernate: la siguiente alta recibe el id siguiente, no uno 50 mas alto
+        TaskInsertResult next = taskRepository.insertIfAllowed(
+                Task.create(null, "Tarea Guardada 2", activo, 3, "Dev", TaskStatus.TODO, start, start.plusDays(2)));
+        assertEquals(inserted.task().getId() + 1, next.task().getId());
+        assertEquals(TaskInsertResult.Outcome.DUPLICATE_TITLE, taskRepository.insertIfAllowed(
+                Task.create(null, "Tarea Guardada", activo, 3, "Dev", TaskStatus.TODO, start, start.plusDays(2)))
+                .outcome());
+        assertEquals(TaskInsertResult.Outcome.PROJECT_CLOSED, taskRepository.insertIfAllowed(
+                Task.create(null, "Tarea Guardada", cerrado, 3, "Dev", TaskStatus.TODO, start, start.plusDays(2)))
+                .outcome());
+        assertEquals(TaskInsertResult.Outcome.PROJECT_NOT_FOUND, taskRepository.insertIfAllowed(
+                Task.create(null, "Tarea Guardada", inexistente, 3, "Dev", TaskStatus.TODO, start, start.plusDays(2)))
+                .outcome());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Las tareas de un mismo proyecto leidas en una lista deben compartir el mismo Project")
+    void testRepository_findByStatusSharesProjectInstances(){
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        Project proyecto = projectRepository.save(Project.create("Proyecto Compartido", LocalDate.now(),
+                LocalDate.now().plusDays(30), ProjectStatus.ACTIVE, Optional.empty()));
+        for (int i = 0; i < 3; i++) {
+            taskRepository.save(Task.create(null, "Tarea Compartida " + i, proyecto, 3, "Dev",
+                    TaskStatus.IN_PROGRESS, start, start.plusDays(2)));
+        }
+
+        List<Task> tasks = taskRepository.findByStatus(TaskStatus.IN_PROGRESS).stream()
+                .filter(task -> proyecto.getId().equals(task.projectReference().getId()))
+                .toList();
+
+        assertEquals(3, tasks.size());
+        // El proyecto llega con el join fetch: se mapea al leer, sin diferir nada a una sesion posterior
+        tasks.forEach(task -> assertTrue(task.projectReference().isResolved()));
+        Project first = tasks.get(0).getProyect();
+        tasks.forEach(task -> assertSame(first, task.getProyect()));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Guardar una tarea leida con una version vieja debe fallar por control optimista")
+    void testRepository_saveWithStaleVersionFails(){
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5);
+        Project proyecto = projectRepository.save(Project.create("Proyecto Versionado", LocalDate.now(),
+                LocalDate.now().plusDays(30), ProjectStatus.ACTIVE, Optional.empty()));
+        Task guardada = taskRepository.save(Task.create(null, "Tarea Versionada", proyecto, 3, "Dev",
+                TaskStatus.TODO, start, start.plusDays(2)));
+        entityManager.flush();
+        entityManager.clear();
+
+        Task leida = taskRepository.findById(guardada.getId()).orElseThrow();
+        assertEquals(0L, leida.version());
+
+        // Otro escritor actualiza la fila despues de la lectura; el save llega en otra sesion
+        jdbcTemplate.update("update tasks set version = version + 1 where id = ?", guardada.getId());
+        entityManager.clear();
+
+        assertThrows(OptimisticLockingFailureException.class, () -> taskRepository.save(leida));
+
+        entityManager.clear();
+        Task releida = taskRepository.findById(guardada.getId()).orElseThrow();
+        assertEquals(1L, releida.version());
+        assertEquals(1L, taskRepository.save(releida).version());
+    }
 }